@@ -0,0 +1,56 @@
+package com.woowacourse.zzimkkong.benchmark;
+
+import com.woowacourse.zzimkkong.infrastructure.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+    private static final String SECRET_KEY = "zzimkkong_secret_key_in_dev";
+    private static final long VALIDITY_IN_MILLISECONDS = 86_400_000L;
+
+    private JwtUtils jwtUtils;
+    private JwtParser jwtParser;
+    private Map<String, Object> payload;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils(SECRET_KEY, VALIDITY_IN_MILLISECONDS);
+        jwtParser = Jwts.parser().setSigningKey(SECRET_KEY);
+        payload = JwtUtils.payloadBuilder()
+                .setSubject("pobi@email.com")
+                .build();
+        token = jwtUtils.createToken(payload);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtils.createToken(payload);
+    }
+
+    // 같은 토큰으로 다시 검증하면 JwtUtils의 검증 캐시를 탄다
+    @Benchmark
+    public String validateToken() {
+        jwtUtils.validateToken(token);
+        return token;
+    }
+
+    @Benchmark
+    public String getPayload() {
+        return jwtUtils.getPayload(token);
+    }
+
+    // 캐시에 없는 토큰을 처음 검증할 때 드는 서명 확인과 파싱 비용
+    @Benchmark
+    public Claims parseSignedToken() {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+}
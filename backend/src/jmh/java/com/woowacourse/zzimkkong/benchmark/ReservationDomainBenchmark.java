@@ -0,0 +1,68 @@
+package com.woowacourse.zzimkkong.benchmark;
+
+import com.woowacourse.zzimkkong.domain.Reservation;
+import com.woowacourse.zzimkkong.domain.ReservationIntervals;
+import com.woowacourse.zzimkkong.domain.Setting;
+import com.woowacourse.zzimkkong.domain.Space;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ReservationDomainBenchmark {
+    @Param({"40"})
+    private int reservationCount;
+
+    private Space space;
+    private List<Reservation> reservations;
+    private ReservationIntervals reservationIntervals;
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+
+    @Setup
+    public void setUp() {
+        ReservationFixture fixture = new ReservationFixture(1, reservationCount);
+        space = fixture.getSpace();
+        reservations = fixture.getReservationsOf(space.getId());
+        reservationIntervals = ReservationIntervals.from(reservations);
+
+        // 하루의 마지막 예약 바로 뒤 시간을 찾게 해서, 모든 예약과 비교하는 가장 나쁜 경우를 잰다
+        Reservation lastReservation = reservations.get(reservations.size() - 1);
+        startDateTime = lastReservation.getEndTime();
+        endDateTime = startDateTime.plusMinutes(ReservationFixture.RESERVATION_MINUTES);
+    }
+
+    @Benchmark
+    public boolean hasConflictWith() {
+        for (Reservation reservation : reservations) {
+            if (reservation.hasConflictWith(startDateTime, endDateTime)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean reservationIntervalsOverlaps() {
+        return reservationIntervals.overlaps(startDateTime, endDateTime);
+    }
+
+    @Benchmark
+    public void isClosedOn(final Blackhole blackhole) {
+        // isClosedOn은 호출할 때마다 getEnabledDaysOfWeek로 요일 문자열을 다시 해석한다
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            blackhole.consume(space.isClosedOn(dayOfWeek));
+        }
+    }
+
+    @Benchmark
+    public Setting settingValidation() {
+        return ReservationFixture.setting();
+    }
+}
@@ -0,0 +1,81 @@
+package com.woowacourse.zzimkkong.benchmark;
+
+import com.woowacourse.zzimkkong.domain.Reservation;
+import com.woowacourse.zzimkkong.domain.ReservationChange;
+import com.woowacourse.zzimkkong.domain.ReservationChangeType;
+import com.woowacourse.zzimkkong.infrastructure.ReservationEvents;
+import com.woowacourse.zzimkkong.repository.ReservationChangeRepository;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 한 노드에 같은 맵, 같은 날짜를 보고 있는 구독자가 subscriberCount명 연결만 해 둔 상태에서
+// 변경 내역을 한 번 읽어 예약 하나의 변경을 모두에게 넘기는 비용을 잰다 (DB 조회는 메모리로 대신한다)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReservationEventsBenchmark {
+    @Param({"1000", "10000"})
+    private int subscriberCount;
+
+    private final LongAdder receivedCount = new LongAdder();
+    private ReservationEvents reservationEvents;
+    private Disposable.Composite subscriptions;
+
+    @Setup
+    public void setUp() {
+        ReservationFixture fixture = new ReservationFixture(1, 1);
+        Long mapId = fixture.getMap().getId();
+        ReservationChange change = new SequencedChange(mapId, fixture.getReservations().get(0));
+        reservationEvents = new ReservationEvents(inMemoryRepository(change));
+        subscriptions = Disposables.composite();
+
+        for (int i = 0; i < subscriberCount; i++) {
+            subscriptions.add(reservationEvents.subscribe(mapId, ReservationFixture.DATE)
+                    .subscribe(serverSentEvent -> receivedCount.increment()));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        subscriptions.dispose();
+    }
+
+    @Benchmark
+    public void poll() {
+        reservationEvents.poll();
+    }
+
+    private static ReservationChangeRepository inMemoryRepository(final ReservationChange change) {
+        return (ReservationChangeRepository) Proxy.newProxyInstance(
+                ReservationChangeRepository.class.getClassLoader(),
+                new Class<?>[]{ReservationChangeRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findLastSequenceByMapId")) {
+                        return Optional.empty();
+                    }
+                    if (method.getName().equals("findAllByMapIdAndSequenceGreaterThanOrderBySequenceAsc")) {
+                        return List.of(change);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    // 변경 번호는 저장할 때 DB에서 붙으므로, 메모리에서는 고정된 번호를 돌려준다
+    private static class SequencedChange extends ReservationChange {
+        private SequencedChange(final Long mapId, final Reservation reservation) {
+            super(mapId, ReservationChangeType.CREATED, reservation);
+        }
+
+        @Override
+        public Long getSequence() {
+            return 1L;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.woowacourse.zzimkkong.benchmark;
+
+import com.woowacourse.zzimkkong.domain.Map;
+import com.woowacourse.zzimkkong.domain.Member;
+import com.woowacourse.zzimkkong.domain.Reservation;
+import com.woowacourse.zzimkkong.domain.Setting;
+import com.woowacourse.zzimkkong.domain.Space;
+import com.woowacourse.zzimkkong.domain.SpaceSnapshot;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class ReservationFixture {
+    static final LocalDate DATE = LocalDate.of(2021, 9, 1);
+    static final LocalTime AVAILABLE_START_TIME = LocalTime.of(8, 0);
+    static final LocalTime AVAILABLE_END_TIME = LocalTime.of(22, 0);
+    static final int RESERVATION_MINUTES = 20;
+    static final String ENABLED_DAY_OF_WEEK = "monday,tuesday,wednesday,thursday,friday";
+
+    private final Map map;
+    private final List<Space> spaces = new ArrayList<>();
+    private final List<Reservation> reservations = new ArrayList<>();
+
+    // 맵 하나에 공간 spaceCount개, 공간마다 같은 날 reservationCountPerSpace개의 예약이 빈틈없이 이어지도록 만듭니다
+    ReservationFixture(final int spaceCount, final int reservationCountPerSpace) {
+        Member member = new Member(1L, "pobi@email.com", "test1234", "우아한테크코스");
+        this.map = new Map(1L, "루터회관", "{}", "https://zzimkkong.com/thumbnails/1.png", member);
+
+        long reservationId = 1L;
+        for (long spaceId = 1L; spaceId <= spaceCount; spaceId++) {
+            Space space = Space.builder()
+                    .id(spaceId)
+                    .name("회의실 " + spaceId)
+                    .color("#FED7D9")
+                    .description("회의실")
+                    .area("{ \"id\": \"1\", \"type\" : \"rect\", \"x\": \"10\", \"y\": \"10\", \"width\": \"30\", \"height\": \"30\" }")
+                    .setting(setting())
+                    .map(map)
+                    .build();
+            spaces.add(space);
+
+            LocalDateTime startTime = DATE.atTime(AVAILABLE_START_TIME);
+            for (int i = 0; i < reservationCountPerSpace; i++) {
+                reservations.add(Reservation.builder()
+                        .id(reservationId++)
+                        .date(DATE)
+                        .startTime(startTime)
+                        .endTime(startTime.plusMinutes(RESERVATION_MINUTES))
+                        .password("1234")
+                        .userName("찜꽁")
+                        .description("찜꽁 회의")
+                        .space(space)
+                        .build());
+                startTime = startTime.plusMinutes(RESERVATION_MINUTES);
+            }
+        }
+    }
+
+    static Setting setting() {
+        return Setting.builder()
+                .availableStartTime(AVAILABLE_START_TIME)
+                .availableEndTime(AVAILABLE_END_TIME)
+                .reservationTimeUnit(10)
+                .reservationMinimumTimeUnit(10)
+                .reservationMaximumTimeUnit(120)
+                .reservationEnable(true)
+                .enabledDayOfWeek(ENABLED_DAY_OF_WEEK)
+                .build();
+    }
+
+    Map getMap() {
+        return map;
+    }
+
+    Space getSpace() {
+        return spaces.get(0);
+    }
+
+    List<Space> getSpaces() {
+        return spaces;
+    }
+
+    List<SpaceSnapshot> getSpaceSnapshots() {
+        return spaces.stream()
+                .map(SpaceSnapshot::from)
+                .collect(Collectors.toList());
+    }
+
+    List<Reservation> getReservations() {
+        return reservations;
+    }
+
+    List<Reservation> getReservationsOf(final Long spaceId) {
+        return reservations.stream()
+                .filter(reservation -> reservation.getSpace().getId().equals(spaceId))
+                .collect(Collectors.toList());
+    }
+}
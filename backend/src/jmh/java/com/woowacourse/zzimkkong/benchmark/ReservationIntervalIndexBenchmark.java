@@ -0,0 +1,93 @@
+package com.woowacourse.zzimkkong.benchmark;
+
+import com.woowacourse.zzimkkong.domain.Reservation;
+import com.woowacourse.zzimkkong.infrastructure.ReservationIntervalIndex;
+import com.woowacourse.zzimkkong.repository.ReservationInterval;
+import com.woowacourse.zzimkkong.repository.ReservationRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// ReservationIntervalIndex에서 한 공간, 한 날짜의 예약 시간을 꺼내 겹침을 확인하는 비용을 잰다
+// 서비스의 나머지 검증이나 공간 lock은 포함하지 않고, 저장소는 메모리에 올린 예약을 걸러 돌려주는 프록시로 대신한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ReservationIntervalIndexBenchmark {
+    @Param({"50"})
+    private int spaceCount;
+
+    @Param({"40"})
+    private int reservationCountPerSpace;
+
+    private ReservationIntervalIndex reservationIntervalIndex;
+    private Long spaceId;
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+
+    @Setup
+    public void setUp() {
+        ReservationFixture fixture = new ReservationFixture(spaceCount, reservationCountPerSpace);
+        reservationIntervalIndex = new ReservationIntervalIndex(inMemoryRepository(fixture.getReservations()));
+        spaceId = fixture.getSpace().getId();
+        startDateTime = ReservationFixture.DATE.atTime(ReservationFixture.AVAILABLE_START_TIME).plusHours(3L);
+        endDateTime = startDateTime.plusMinutes(ReservationFixture.RESERVATION_MINUTES);
+        reservationIntervalIndex.loadIntervals(spaceId, startDateTime.toLocalDate());
+    }
+
+    @Benchmark
+    public boolean overlapsCachedIntervals() {
+        return reservationIntervalIndex.findCachedIntervals(spaceId, startDateTime.toLocalDate())
+                .map(reservationIntervals -> reservationIntervals.overlaps(startDateTime, endDateTime))
+                .orElse(false);
+    }
+
+    @Benchmark
+    public boolean overlapsLoadedIntervals() {
+        return reservationIntervalIndex.loadIntervals(spaceId, startDateTime.toLocalDate())
+                .overlaps(startDateTime, endDateTime);
+    }
+
+    private static ReservationRepository inMemoryRepository(final List<Reservation> reservations) {
+        return (ReservationRepository) Proxy.newProxyInstance(
+                ReservationRepository.class.getClassLoader(),
+                new Class<?>[]{ReservationRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("findIntervalsBySpaceIdAndDate")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+
+                    Long spaceId = (Long) args[0];
+                    LocalDate date = (LocalDate) args[1];
+                    return reservations.stream()
+                            .filter(reservation -> reservation.getSpace().getId().equals(spaceId))
+                            .filter(reservation -> reservation.getDate().equals(date))
+                            .map(ReservationIntervalIndexBenchmark::intervalOf)
+                            .collect(Collectors.toList());
+                });
+    }
+
+    private static ReservationInterval intervalOf(final Reservation reservation) {
+        return new ReservationInterval() {
+            @Override
+            public Long getId() {
+                return reservation.getId();
+            }
+
+            @Override
+            public LocalDateTime getStartTime() {
+                return reservation.getStartTime();
+            }
+
+            @Override
+            public LocalDateTime getEndTime() {
+                return reservation.getEndTime();
+            }
+        };
+    }
+}
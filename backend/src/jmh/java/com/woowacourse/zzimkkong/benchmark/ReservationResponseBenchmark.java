@@ -0,0 +1,53 @@
+package com.woowacourse.zzimkkong.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.woowacourse.zzimkkong.domain.Reservation;
+import com.woowacourse.zzimkkong.domain.SpaceSnapshot;
+import com.woowacourse.zzimkkong.dto.reservation.ReservationFindAllResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ReservationResponseBenchmark {
+    @Param({"50"})
+    private int spaceCount;
+
+    @Param({"40"})
+    private int reservationCountPerSpace;
+
+    // 컨트롤러가 쓰는 것과 같은 모듈 구성으로 직렬화한다
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private List<SpaceSnapshot> spaces;
+    private List<Reservation> reservations;
+    private ReservationFindAllResponse response;
+
+    @Setup
+    public void setUp() {
+        ReservationFixture fixture = new ReservationFixture(spaceCount, reservationCountPerSpace);
+        spaces = fixture.getSpaceSnapshots();
+        reservations = fixture.getReservations();
+        response = ReservationFindAllResponse.of(spaces, reservations);
+    }
+
+    @Benchmark
+    public ReservationFindAllResponse buildResponse() {
+        return ReservationFindAllResponse.of(spaces, reservations);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] buildAndSerializeResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ReservationFindAllResponse.of(spaces, reservations));
+    }
+}
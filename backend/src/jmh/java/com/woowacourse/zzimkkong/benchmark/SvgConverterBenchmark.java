@@ -0,0 +1,79 @@
+package com.woowacourse.zzimkkong.benchmark;
+
+import com.woowacourse.zzimkkong.infrastructure.BatikConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SvgConverterBenchmark {
+    private static final int SPACE_WIDTH = 60;
+    private static final int SPACE_HEIGHT = 40;
+    private static final int SPACES_PER_ROW = 10;
+
+    // 맵 에디터가 만드는 SVG처럼, 공간마다 색칠된 사각형과 이름 라벨이 하나씩 들어간다
+    @Param({"5", "50", "200"})
+    private int spaceCount;
+
+    private BatikConverter batikConverter;
+    private String svg;
+    private File saveDirectory;
+
+    @Setup
+    public void setUp() throws IOException {
+        saveDirectory = Files.createTempDirectory("zzimkkong-benchmark").toFile();
+        batikConverter = new BatikConverter(saveDirectory.getPath() + File.separator);
+        svg = mapSvg(spaceCount);
+    }
+
+    @TearDown
+    public void tearDown() {
+        File[] files = saveDirectory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        saveDirectory.delete();
+    }
+
+    @Benchmark
+    public byte[] convertSvgToPng() {
+        return batikConverter.convertSvgToPng(svg);
+    }
+
+    @Benchmark
+    public File convertSvgToPngFile() {
+        return batikConverter.convertSvgToPngFile(svg, "benchmark");
+    }
+
+    private static String mapSvg(final int spaceCount) {
+        int rows = (spaceCount + SPACES_PER_ROW - 1) / SPACES_PER_ROW;
+        int width = SPACES_PER_ROW * (SPACE_WIDTH + 10) + 10;
+        int height = rows * (SPACE_HEIGHT + 10) + 10;
+
+        StringBuilder svg = new StringBuilder()
+                .append("<?xml version=\"1.0\"?>")
+                .append("<svg xmlns=\"http://www.w3.org/2000/svg\" ")
+                .append("width=\"").append(width).append("px\" height=\"").append(height).append("px\" ")
+                .append("viewBox=\"0 0 ").append(width).append(' ').append(height).append("\">")
+                .append("<polyline points=\"0,0 ").append(width).append(",0 ").append(width).append(',').append(height)
+                .append(" 0,").append(height).append(" 0,0\" stroke=\"#333333\" stroke-width=\"2\" fill=\"none\"/>");
+
+        for (int i = 0; i < spaceCount; i++) {
+            int x = 10 + (i % SPACES_PER_ROW) * (SPACE_WIDTH + 10);
+            int y = 10 + (i / SPACES_PER_ROW) * (SPACE_HEIGHT + 10);
+            svg.append("<rect x=\"").append(x).append("\" y=\"").append(y)
+                    .append("\" width=\"").append(SPACE_WIDTH).append("\" height=\"").append(SPACE_HEIGHT)
+                    .append("\" fill=\"#FED7D9\" opacity=\"0.3\"/>")
+                    .append("<text x=\"").append(x + SPACE_WIDTH / 2).append("\" y=\"").append(y + SPACE_HEIGHT / 2)
+                    .append("\" font-size=\"10\" text-anchor=\"middle\">회의실 ").append(i + 1).append("</text>");
+        }
+        return svg.append("</svg>").toString();
+    }
+}
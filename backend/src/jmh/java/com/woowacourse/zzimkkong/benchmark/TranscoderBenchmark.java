@@ -0,0 +1,35 @@
+package com.woowacourse.zzimkkong.benchmark;
+
+import com.woowacourse.zzimkkong.infrastructure.AES256Transcoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TranscoderBenchmark {
+    private static final String SECRET_KEY = "abcdefghijklmnopqrstuvwxyz0123456789ABCD";
+
+    // 공유 링크는 맵 아이디를 암호화한 값이다
+    private final String mapId = "1024";
+
+    private AES256Transcoder transcoder;
+    private String sharingId;
+
+    @Setup
+    public void setUp() {
+        transcoder = new AES256Transcoder(SECRET_KEY);
+        sharingId = transcoder.encode(mapId);
+    }
+
+    @Benchmark
+    public String encode() {
+        return transcoder.encode(mapId);
+    }
+
+    @Benchmark
+    public String decode() {
+        return transcoder.decode(sharingId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.woowacourse.zzimkkong.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ThumbnailConfig {
+    private static final int THUMBNAIL_POOL_SIZE = 2;
+    private static final int THUMBNAIL_QUEUE_CAPACITY = 100;
+    private static final String THUMBNAIL_THREAD_NAME_PREFIX = "thumbnail-";
+
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(THUMBNAIL_POOL_SIZE);
+        executor.setMaxPoolSize(THUMBNAIL_POOL_SIZE);
+        executor.setQueueCapacity(THUMBNAIL_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix(THUMBNAIL_THREAD_NAME_PREFIX);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
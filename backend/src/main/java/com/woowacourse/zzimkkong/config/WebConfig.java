@@ -2,16 +2,25 @@ package com.woowacourse.zzimkkong.config;
 
 import org.apache.http.HttpHeaders;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
+    private static final int ASYNC_RESPONSE_POOL_SIZE = 8;
+    private static final int ASYNC_RESPONSE_QUEUE_CAPACITY = 100_000;
+    private static final String ASYNC_RESPONSE_THREAD_NAME_PREFIX = "async-response-";
+    private static final Duration STREAMING_RESPONSE_TIMEOUT = Duration.ofMinutes(10L);
+
     private final List<String> allowOriginUrlPatterns;
 
     public WebConfig(@Value("${cors.allow-origin.urls}") String allowOriginUrlPatterns) {
@@ -24,7 +33,25 @@ public class WebConfig implements WebMvcConfigurer {
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
                 .allowedMethods("*")
-                .exposedHeaders(HttpHeaders.LOCATION)
+                .exposedHeaders(HttpHeaders.LOCATION, HttpHeaders.ETAG)
                 .allowedOriginPatterns(allowOriginUrlPatterns.toArray(new String[0]));
     }
+
+    // 기본값인 SimpleAsyncTaskExecutor는 이벤트를 보낼 때마다 스레드를 새로 만드므로, SSE와 StreamingResponseBody 모두 고정된 풀에서 씁니다
+    // SSE는 Spring이 시간 제한 없이 열어 두므로, 기본 시간 제한은 기간 조회와 내보내기 같은 StreamingResponseBody에만 걸립니다
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(asyncResponseExecutor());
+        configurer.setDefaultTimeout(STREAMING_RESPONSE_TIMEOUT.toMillis());
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor asyncResponseExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(ASYNC_RESPONSE_POOL_SIZE);
+        executor.setMaxPoolSize(ASYNC_RESPONSE_POOL_SIZE);
+        executor.setQueueCapacity(ASYNC_RESPONSE_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix(ASYNC_RESPONSE_THREAD_NAME_PREFIX);
+        return executor;
+    }
 }
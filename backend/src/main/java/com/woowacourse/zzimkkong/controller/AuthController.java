@@ -6,6 +6,7 @@ import com.woowacourse.zzimkkong.dto.member.TokenResponse;
 import com.woowacourse.zzimkkong.service.AuthService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
 
@@ -30,8 +31,9 @@ public class AuthController {
     }
 
     @GetMapping("/{oauthProvider}/login/token")
-    public ResponseEntity<TokenResponse> loginByOauth(@PathVariable OauthProvider oauthProvider, @RequestParam String code) {
-        return ResponseEntity.ok()
-                .body(authService.loginByOauth(oauthProvider, code));
+    public Mono<ResponseEntity<TokenResponse>> loginByOauth(@PathVariable OauthProvider oauthProvider, @RequestParam String code) {
+        return authService.loginByOauth(oauthProvider, code)
+                .map(tokenResponse -> ResponseEntity.ok()
+                        .body(tokenResponse));
     }
 }
@@ -8,7 +8,9 @@ import com.woowacourse.zzimkkong.exception.ZzimkkongException;
 import com.woowacourse.zzimkkong.exception.infrastructure.InfrastructureMalfunctionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -72,6 +74,13 @@ public class ControllerAdvice {
         return ResponseEntity.internalServerError().build();
     }
 
+    // 스트리밍 응답 풀이 가득 차면 잠시 뒤에 다시 요청하도록 알립니다
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Void> taskRejectedHandler(final TaskRejectedException exception) {
+        logger.warn(exception.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Void> unhandledExceptionHandler(final Exception exception) {
         logger.warn(exception.getMessage(), exception);
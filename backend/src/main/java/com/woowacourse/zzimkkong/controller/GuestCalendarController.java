@@ -0,0 +1,59 @@
+package com.woowacourse.zzimkkong.controller;
+
+import com.woowacourse.zzimkkong.dto.calendar.CalendarResponse;
+import com.woowacourse.zzimkkong.service.CalendarService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/guests/maps/{sharingMapId}")
+public class GuestCalendarController {
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    private final CalendarService calendarService;
+
+    public GuestCalendarController(final CalendarService calendarService) {
+        this.calendarService = calendarService;
+    }
+
+    @GetMapping("/calendar.ics")
+    public ResponseEntity<byte[]> findMapCalendar(
+            @PathVariable final String sharingMapId,
+            final WebRequest webRequest) {
+        CalendarResponse calendarResponse = calendarService.findMapCalendar(sharingMapId);
+        return toResponse(calendarResponse, webRequest);
+    }
+
+    @GetMapping("/spaces/{spaceId}/calendar.ics")
+    public ResponseEntity<byte[]> findSpaceCalendar(
+            @PathVariable final String sharingMapId,
+            @PathVariable final Long spaceId,
+            final WebRequest webRequest) {
+        CalendarResponse calendarResponse = calendarService.findSpaceCalendar(sharingMapId, spaceId);
+        return toResponse(calendarResponse, webRequest);
+    }
+
+    private ResponseEntity<byte[]> toResponse(final CalendarResponse calendarResponse, final WebRequest webRequest) {
+        String eTag = calendarResponse.getETag();
+        long lastModified = calendarResponse.getLastModified();
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).lastModified(lastModified).build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .body(calendarResponse.getContent());
+    }
+}
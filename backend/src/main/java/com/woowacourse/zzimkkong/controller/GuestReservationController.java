@@ -1,11 +1,19 @@
 package com.woowacourse.zzimkkong.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.woowacourse.zzimkkong.dto.reservation.*;
 import com.woowacourse.zzimkkong.service.ReservationService;
 import com.woowacourse.zzimkkong.service.strategy.GuestReservationStrategy;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
 
 import javax.validation.Valid;
 import java.net.URI;
@@ -17,10 +25,14 @@ import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATE_FORMAT;
 @RequestMapping("/api/guests/maps/{mapId}/spaces")
 public class GuestReservationController {
     private final ReservationService reservationService;
+    private final ObjectMapper objectMapper;
     private final GuestReservationStrategy guestReservationStrategy;
 
-    public GuestReservationController(final ReservationService reservationService) {
+    public GuestReservationController(
+            final ReservationService reservationService,
+            final ObjectMapper objectMapper) {
         this.reservationService = reservationService;
+        this.objectMapper = objectMapper;
         this.guestReservationStrategy = new GuestReservationStrategy();
     }
 
@@ -42,26 +54,100 @@ public class GuestReservationController {
     @GetMapping("/reservations")
     public ResponseEntity<ReservationFindAllResponse> findAll(
             @PathVariable final Long mapId,
-            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate date) {
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate date,
+            final WebRequest webRequest) {
         ReservationFindAllDto reservationFindAllDto = ReservationFindAllDto.of(
                 mapId,
                 date);
+        String eTag = reservationService.findReservationsETag(reservationFindAllDto, guestReservationStrategy);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         ReservationFindAllResponse reservationFindAllResponse = reservationService.findAllReservations(reservationFindAllDto, guestReservationStrategy);
-        return ResponseEntity.ok().body(reservationFindAllResponse);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(reservationFindAllResponse);
+    }
+
+    @GetMapping(value = "/reservations", params = {"startDate", "endDate"})
+    public ResponseEntity<StreamingResponseBody> findAllInRange(
+            @PathVariable final Long mapId,
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate endDate) {
+        ReservationRangeFindDto reservationRangeFindDto = ReservationRangeFindDto.of(
+                mapId,
+                startDate,
+                endDate);
+        return streamInRange(reservationRangeFindDto);
+    }
+
+    @GetMapping("/reservations/changes")
+    public ResponseEntity<ReservationChangeFindResponse> findChanges(
+            @PathVariable final Long mapId,
+            @RequestParam(defaultValue = "0") final Long since) {
+        ReservationChangeFindDto reservationChangeFindDto = ReservationChangeFindDto.of(
+                mapId,
+                since);
+        ReservationChangeFindResponse reservationChangeFindResponse = reservationService.findReservationChanges(reservationChangeFindDto, guestReservationStrategy);
+        return ResponseEntity.ok().body(reservationChangeFindResponse);
+    }
+
+    @GetMapping(value = "/reservations/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<ReservationEventResponse>>> subscribe(
+            @PathVariable final Long mapId,
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate date) {
+        ReservationFindAllDto reservationFindAllDto = ReservationFindAllDto.of(
+                mapId,
+                date);
+        Flux<ServerSentEvent<ReservationEventResponse>> reservationEvents = reservationService.subscribeReservationEvents(reservationFindAllDto, guestReservationStrategy);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(reservationEvents);
     }
 
     @GetMapping("/{spaceId}/reservations")
     public ResponseEntity<ReservationFindResponse> find(
             @PathVariable final Long mapId,
             @PathVariable final Long spaceId,
-            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate date) {
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate date,
+            final WebRequest webRequest) {
         ReservationFindDto reservationFindDto = ReservationFindDto.of(
                 mapId,
                 spaceId,
                 date
         );
+        String eTag = reservationService.findReservationsETag(reservationFindDto, guestReservationStrategy);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         ReservationFindResponse reservationFindResponse = reservationService.findReservations(reservationFindDto, guestReservationStrategy);
-        return ResponseEntity.ok().body(reservationFindResponse);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(reservationFindResponse);
+    }
+
+    @GetMapping(value = "/{spaceId}/reservations", params = {"startDate", "endDate"})
+    public ResponseEntity<StreamingResponseBody> findInRange(
+            @PathVariable final Long mapId,
+            @PathVariable final Long spaceId,
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate endDate) {
+        ReservationRangeFindDto reservationRangeFindDto = ReservationRangeFindDto.of(
+                mapId,
+                spaceId,
+                startDate,
+                endDate);
+        return streamInRange(reservationRangeFindDto);
+    }
+
+    @GetMapping("/{spaceId}/slots")
+    public ResponseEntity<ReservationSlotFindResponse> findSlots(
+            @PathVariable final Long mapId,
+            @PathVariable final Long spaceId,
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate date) {
+        ReservationFindDto reservationFindDto = ReservationFindDto.of(
+                mapId,
+                spaceId,
+                date
+        );
+        ReservationSlotFindResponse reservationSlotFindResponse = reservationService.findFreeSlots(reservationFindDto, guestReservationStrategy);
+        return ResponseEntity.ok().body(reservationSlotFindResponse);
     }
 
     @PostMapping("/{spaceId}/reservations/{reservationId}")
@@ -108,4 +194,17 @@ public class GuestReservationController {
         reservationService.deleteReservation(reservationAuthenticationDto, guestReservationStrategy);
         return ResponseEntity.noContent().build();
     }
+
+    // 응답을 쓰기 시작한 뒤에는 상태 코드를 바꿀 수 없으므로, 권한과 기간은 스트리밍 전에 검증합니다
+    private ResponseEntity<StreamingResponseBody> streamInRange(final ReservationRangeFindDto reservationRangeFindDto) {
+        reservationService.validateReservationRange(reservationRangeFindDto, guestReservationStrategy);
+        StreamingResponseBody reservationRangeResponseBody = new ReservationRangeResponseBody(
+                objectMapper,
+                reservationRangeFindDto.getStartDate(),
+                reservationRangeFindDto.getEndDate(),
+                action -> reservationService.findReservationsInRange(reservationRangeFindDto, guestReservationStrategy, action));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(reservationRangeResponseBody);
+    }
 }
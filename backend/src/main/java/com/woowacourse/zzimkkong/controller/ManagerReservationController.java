@@ -1,15 +1,23 @@
 package com.woowacourse.zzimkkong.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.woowacourse.zzimkkong.domain.Manager;
 import com.woowacourse.zzimkkong.domain.Member;
 import com.woowacourse.zzimkkong.dto.reservation.*;
-import com.woowacourse.zzimkkong.dto.slack.SlackResponse;
 import com.woowacourse.zzimkkong.service.ReservationService;
-import com.woowacourse.zzimkkong.service.SlackService;
 import com.woowacourse.zzimkkong.service.strategy.ManagerReservationStrategy;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
 
 import javax.validation.Valid;
 import java.net.URI;
@@ -20,15 +28,15 @@ import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATE_FORMAT;
 @RestController
 @RequestMapping("/api/managers/maps/{mapId}/spaces")
 public class ManagerReservationController {
-    private final SlackService slackService;
     private final ReservationService reservationService;
+    private final ObjectMapper objectMapper;
     private final ManagerReservationStrategy managerReservationStrategy;
 
     public ManagerReservationController(
-            final SlackService slackService,
-            final ReservationService reservationService) {
-        this.slackService = slackService;
+            final ReservationService reservationService,
+            final ObjectMapper objectMapper) {
         this.reservationService = reservationService;
+        this.objectMapper = objectMapper;
         this.managerReservationStrategy = new ManagerReservationStrategy();
     }
 
@@ -49,17 +57,134 @@ public class ManagerReservationController {
                 .build();
     }
 
+    @PostMapping("/{spaceId}/reservations/recurring")
+    public ResponseEntity<ReservationBatchCreateResponse> createRecurring(
+            @PathVariable final Long mapId,
+            @PathVariable final Long spaceId,
+            @RequestBody @Valid final ReservationRecurringCreateRequest reservationRecurringCreateRequest,
+            @Manager final Member manager) {
+        ReservationRecurringCreateDto reservationRecurringCreateDto = ReservationRecurringCreateDto.of(
+                mapId,
+                spaceId,
+                reservationRecurringCreateRequest,
+                manager);
+        ReservationBatchCreateResponse reservationBatchCreateResponse = reservationService.saveRecurringReservations(reservationRecurringCreateDto, managerReservationStrategy);
+        return ResponseEntity.status(HttpStatus.CREATED).body(reservationBatchCreateResponse);
+    }
+
+    @PostMapping("/reservations")
+    public ResponseEntity<ReservationBatchCreateResponse> createAll(
+            @PathVariable final Long mapId,
+            @RequestBody @Valid final ReservationBatchCreateRequest reservationBatchCreateRequest,
+            @Manager final Member manager) {
+        ReservationBatchCreateDto reservationBatchCreateDto = ReservationBatchCreateDto.of(
+                mapId,
+                reservationBatchCreateRequest,
+                manager);
+        ReservationBatchCreateResponse reservationBatchCreateResponse = reservationService.saveReservations(reservationBatchCreateDto, managerReservationStrategy);
+        return ResponseEntity.status(HttpStatus.CREATED).body(reservationBatchCreateResponse);
+    }
+
     @GetMapping("/reservations")
     public ResponseEntity<ReservationFindAllResponse> findAll(
             @PathVariable final Long mapId,
             @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate date,
-            @Manager final Member manager) {
+            @Manager final Member manager,
+            final WebRequest webRequest) {
         ReservationFindAllDto reservationFindAllDto = ReservationFindAllDto.of(
                 mapId,
                 date,
                 manager);
+        String eTag = reservationService.findReservationsETag(reservationFindAllDto, managerReservationStrategy);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         ReservationFindAllResponse reservationFindAllResponse = reservationService.findAllReservations(reservationFindAllDto, managerReservationStrategy);
-        return ResponseEntity.ok().body(reservationFindAllResponse);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(reservationFindAllResponse);
+    }
+
+    @GetMapping("/reservations/occupancy")
+    public ResponseEntity<ReservationOccupancyFindResponse> findOccupancies(
+            @PathVariable final Long mapId,
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate endDate,
+            @Manager final Member manager) {
+        ReservationOccupancyFindDto reservationOccupancyFindDto = ReservationOccupancyFindDto.of(
+                mapId,
+                startDate,
+                endDate,
+                manager);
+        ReservationOccupancyFindResponse reservationOccupancyFindResponse = reservationService.findOccupancies(reservationOccupancyFindDto, managerReservationStrategy);
+        return ResponseEntity.ok().body(reservationOccupancyFindResponse);
+    }
+
+    @GetMapping(value = "/reservations", params = {"startDate", "endDate"})
+    public ResponseEntity<StreamingResponseBody> findAllInRange(
+            @PathVariable final Long mapId,
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate endDate,
+            @Manager final Member manager) {
+        ReservationRangeFindDto reservationRangeFindDto = ReservationRangeFindDto.of(
+                mapId,
+                startDate,
+                endDate,
+                manager);
+        return streamInRange(reservationRangeFindDto);
+    }
+
+    @GetMapping("/reservations/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable final Long mapId,
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate endDate,
+            @RequestParam(defaultValue = "csv") final String format,
+            @Manager final Member manager) {
+        ReservationExportFormat reservationExportFormat = ReservationExportFormat.valueOfWithIgnoreCase(format);
+        ReservationRangeFindDto reservationRangeFindDto = ReservationRangeFindDto.of(
+                mapId,
+                startDate,
+                endDate,
+                manager);
+        reservationService.validateReservationExport(reservationRangeFindDto, managerReservationStrategy);
+
+        StreamingResponseBody reservationExportResponseBody = new ReservationExportResponseBody(
+                objectMapper,
+                reservationExportFormat,
+                action -> reservationService.exportReservations(reservationRangeFindDto, managerReservationStrategy, action));
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename(String.format("reservations-%d-%s-%s.%s", mapId, startDate, endDate, reservationExportFormat.getExtension()))
+                .build();
+        return ResponseEntity.ok()
+                .contentType(reservationExportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(reservationExportResponseBody);
+    }
+
+    @GetMapping("/reservations/changes")
+    public ResponseEntity<ReservationChangeFindResponse> findChanges(
+            @PathVariable final Long mapId,
+            @RequestParam(defaultValue = "0") final Long since,
+            @Manager final Member manager) {
+        ReservationChangeFindDto reservationChangeFindDto = ReservationChangeFindDto.of(
+                mapId,
+                since,
+                manager);
+        ReservationChangeFindResponse reservationChangeFindResponse = reservationService.findReservationChanges(reservationChangeFindDto, managerReservationStrategy);
+        return ResponseEntity.ok().body(reservationChangeFindResponse);
+    }
+
+    @GetMapping(value = "/reservations/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<ReservationEventResponse>>> subscribe(
+            @PathVariable final Long mapId,
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate date,
+            @Manager final Member manager) {
+        ReservationFindAllDto reservationFindAllDto = ReservationFindAllDto.of(
+                mapId,
+                date,
+                manager);
+        Flux<ServerSentEvent<ReservationEventResponse>> reservationEvents = reservationService.subscribeReservationEvents(reservationFindAllDto, managerReservationStrategy);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(reservationEvents);
     }
 
     @GetMapping("/{spaceId}/reservations")
@@ -67,14 +192,36 @@ public class ManagerReservationController {
             @PathVariable final Long mapId,
             @PathVariable final Long spaceId,
             @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate date,
-            @Manager final Member manager) {
+            @Manager final Member manager,
+            final WebRequest webRequest) {
         ReservationFindDto reservationFindDto = ReservationFindDto.of(
                 mapId,
                 spaceId,
                 date,
                 manager);
+        String eTag = reservationService.findReservationsETag(reservationFindDto, managerReservationStrategy);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         ReservationFindResponse reservationFindResponse = reservationService.findReservations(reservationFindDto, managerReservationStrategy);
-        return ResponseEntity.ok().body(reservationFindResponse);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(reservationFindResponse);
+    }
+
+    @GetMapping(value = "/{spaceId}/reservations", params = {"startDate", "endDate"})
+    public ResponseEntity<StreamingResponseBody> findInRange(
+            @PathVariable final Long mapId,
+            @PathVariable final Long spaceId,
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate endDate,
+            @Manager final Member manager) {
+        ReservationRangeFindDto reservationRangeFindDto = ReservationRangeFindDto.of(
+                mapId,
+                spaceId,
+                startDate,
+                endDate,
+                manager);
+        return streamInRange(reservationRangeFindDto);
     }
 
     @GetMapping("/{spaceId}/reservations/{reservationId}")
@@ -105,8 +252,7 @@ public class ManagerReservationController {
                 reservationId,
                 reservationCreateUpdateRequest,
                 manager);
-        SlackResponse slackResponse = reservationService.updateReservation(reservationUpdateDto, managerReservationStrategy);
-        slackService.sendUpdateMessage(slackResponse);
+        reservationService.updateReservation(reservationUpdateDto, managerReservationStrategy);
         return ResponseEntity.ok().build();
     }
 
@@ -121,8 +267,20 @@ public class ManagerReservationController {
                 spaceId,
                 reservationId,
                 manager);
-        SlackResponse slackResponse = reservationService.deleteReservation(reservationAuthenticationDto, managerReservationStrategy);
-        slackService.sendUpdateMessage(slackResponse);
+        reservationService.deleteReservation(reservationAuthenticationDto, managerReservationStrategy);
         return ResponseEntity.noContent().build();
     }
+
+    // 응답을 쓰기 시작한 뒤에는 상태 코드를 바꿀 수 없으므로, 권한과 기간은 스트리밍 전에 검증합니다
+    private ResponseEntity<StreamingResponseBody> streamInRange(final ReservationRangeFindDto reservationRangeFindDto) {
+        reservationService.validateReservationRange(reservationRangeFindDto, managerReservationStrategy);
+        StreamingResponseBody reservationRangeResponseBody = new ReservationRangeResponseBody(
+                objectMapper,
+                reservationRangeFindDto.getStartDate(),
+                reservationRangeFindDto.getEndDate(),
+                action -> reservationService.findReservationsInRange(reservationRangeFindDto, managerReservationStrategy, action));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(reservationRangeResponseBody);
+    }
 }
@@ -11,6 +11,7 @@ import com.woowacourse.zzimkkong.service.PresetService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Email;
@@ -41,10 +42,10 @@ public class MemberController {
     }
 
     @GetMapping("/{oauthProvider}")
-    public ResponseEntity<OauthReadyResponse> getReadyToJoinByOauth(@PathVariable OauthProvider oauthProvider, @RequestParam String code) {
-        OauthReadyResponse oauthReadyResponse = memberService.getUserInfoFromOauth(oauthProvider, code);
-        return ResponseEntity
-                .ok(oauthReadyResponse);
+    public Mono<ResponseEntity<OauthReadyResponse>> getReadyToJoinByOauth(@PathVariable OauthProvider oauthProvider, @RequestParam String code) {
+        return memberService.getUserInfoFromOauth(oauthProvider, code)
+                .map(oauthReadyResponse -> ResponseEntity
+                        .ok(oauthReadyResponse));
     }
 
     @PostMapping("/oauth")
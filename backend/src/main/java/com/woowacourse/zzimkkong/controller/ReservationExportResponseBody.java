@@ -0,0 +1,115 @@
+package com.woowacourse.zzimkkong.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.woowacourse.zzimkkong.dto.reservation.ReservationExportFormat;
+import com.woowacourse.zzimkkong.dto.reservation.ReservationExportResponse;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATETIME_FORMAT;
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATE_FORMAT;
+
+// 예약을 한 건씩 받아 바로 쓰므로, 내보내는 기간이 길어도 메모리에는 버퍼 크기만큼만 남습니다
+class ReservationExportResponseBody implements StreamingResponseBody {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_FORMAT);
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern(DATETIME_FORMAT);
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final String CSV_HEADER = "id,spaceId,spaceName,date,startDateTime,endDateTime,name,description";
+    private static final String CSV_LINE_SEPARATOR = "\r\n";
+    private static final String NDJSON_LINE_SEPARATOR = "\n";
+    private static final String FORMULA_PREFIXES = "=+-@";
+
+    private final ObjectMapper objectMapper;
+    private final ReservationExportFormat format;
+    private final Consumer<Consumer<ReservationExportResponse>> reservations;
+
+    ReservationExportResponseBody(
+            final ObjectMapper objectMapper,
+            final ReservationExportFormat format,
+            final Consumer<Consumer<ReservationExportResponse>> reservations) {
+        this.objectMapper = objectMapper;
+        this.format = format;
+        this.reservations = reservations;
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            if (format == ReservationExportFormat.CSV) {
+                writeCsv(writer);
+            } else {
+                writeNdjson(writer);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    // 엑셀에서 한글이 깨지지 않도록 BOM을 붙입니다
+    private void writeCsv(final Writer writer) throws IOException {
+        writer.write(BYTE_ORDER_MARK);
+        writer.write(CSV_HEADER);
+        writer.write(CSV_LINE_SEPARATOR);
+        reservations.accept(reservation -> writeCsvLine(writer, reservation));
+    }
+
+    private void writeNdjson(final Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        reservations.accept(reservation -> writeNdjsonLine(generator, reservation));
+        generator.flush();
+    }
+
+    private void writeCsvLine(final Writer writer, final ReservationExportResponse reservation) {
+        try {
+            writer.write(String.join(",",
+                    String.valueOf(reservation.getId()),
+                    String.valueOf(reservation.getSpaceId()),
+                    escape(reservation.getSpaceName()),
+                    reservation.getDate().format(DATE_FORMATTER),
+                    reservation.getStartDateTime().format(DATETIME_FORMATTER),
+                    reservation.getEndDateTime().format(DATETIME_FORMATTER),
+                    escape(reservation.getName()),
+                    escape(reservation.getDescription())));
+            writer.write(CSV_LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeNdjsonLine(final JsonGenerator generator, final ReservationExportResponse reservation) {
+        try {
+            generator.writeObject(reservation);
+            generator.writeRaw(NDJSON_LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 스프레드시트가 수식으로 실행하지 않도록 =, +, -, @ 로 시작하는 값은 ' 를 앞에 붙이고, RFC 4180에 맞춰 따옴표로 감쌉니다
+    private String escape(final String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String cell = value;
+        if (FORMULA_PREFIXES.indexOf(cell.charAt(0)) >= 0) {
+            cell = "'" + cell;
+        }
+        if (cell.contains(",") || cell.contains("\"") || cell.contains("\n") || cell.contains("\r")) {
+            return "\"" + cell.replace("\"", "\"\"") + "\"";
+        }
+        return cell;
+    }
+}
@@ -0,0 +1,61 @@
+package com.woowacourse.zzimkkong.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.woowacourse.zzimkkong.dto.reservation.ReservationSpaceDateResponse;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATE_FORMAT;
+
+// 공간·날짜 묶음을 받는 대로 data 배열에 써 내려가므로, 기간 전체의 응답을 메모리에 만들지 않습니다
+class ReservationRangeResponseBody implements StreamingResponseBody {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_FORMAT);
+
+    private final ObjectMapper objectMapper;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Consumer<Consumer<ReservationSpaceDateResponse>> reservations;
+
+    ReservationRangeResponseBody(
+            final ObjectMapper objectMapper,
+            final LocalDate startDate,
+            final LocalDate endDate,
+            final Consumer<Consumer<ReservationSpaceDateResponse>> reservations) {
+        this.objectMapper = objectMapper;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.reservations = reservations;
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.writeStartObject();
+        generator.writeStringField("startDate", startDate.format(DATE_FORMATTER));
+        generator.writeStringField("endDate", endDate.format(DATE_FORMATTER));
+        generator.writeArrayFieldStart("data");
+        try {
+            reservations.accept(reservation -> write(generator, reservation));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    private void write(final JsonGenerator generator, final ReservationSpaceDateResponse reservation) {
+        try {
+            generator.writeObject(reservation);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
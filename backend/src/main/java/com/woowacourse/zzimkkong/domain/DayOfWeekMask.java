@@ -0,0 +1,73 @@
+package com.woowacourse.zzimkkong.domain;
+
+import com.woowacourse.zzimkkong.exception.space.NoSuchDayOfWeekException;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// 월요일을 최하위 비트로 두는 7비트 요일 마스크
+public final class DayOfWeekMask {
+    public static final String DELIMITER = ",";
+    public static final int NONE = 0;
+    public static final int ALL = (1 << DayOfWeek.values().length) - 1;
+
+    private static final java.util.Map<String, DayOfWeek> DAYS_OF_WEEK_BY_NAME = Arrays.stream(DayOfWeek.values())
+            .collect(Collectors.toUnmodifiableMap(DayOfWeek::name, dayOfWeek -> dayOfWeek));
+
+    private DayOfWeekMask() {
+    }
+
+    public static int bitOf(final DayOfWeek dayOfWeek) {
+        return 1 << (dayOfWeek.getValue() - 1);
+    }
+
+    public static boolean contains(final int mask, final DayOfWeek dayOfWeek) {
+        return (mask & bitOf(dayOfWeek)) != 0;
+    }
+
+    public static int from(final Collection<DayOfWeek> daysOfWeek) {
+        int mask = NONE;
+        for (DayOfWeek dayOfWeek : daysOfWeek) {
+            mask |= bitOf(dayOfWeek);
+        }
+        return mask;
+    }
+
+    public static int parse(final String dayOfWeekNames) {
+        if (dayOfWeekNames == null) {
+            return NONE;
+        }
+
+        int mask = NONE;
+        for (String dayOfWeekName : dayOfWeekNames.split(DELIMITER)) {
+            DayOfWeek dayOfWeek = findByName(dayOfWeekName).orElseThrow(NoSuchDayOfWeekException::new);
+            mask |= bitOf(dayOfWeek);
+        }
+        return mask;
+    }
+
+    public static Optional<DayOfWeek> findByName(final String dayOfWeekName) {
+        return Optional.ofNullable(DAYS_OF_WEEK_BY_NAME.get(dayOfWeekName.trim().toUpperCase(Locale.ROOT)));
+    }
+
+    public static EnumSet<DayOfWeek> toEnumSet(final int mask) {
+        EnumSet<DayOfWeek> daysOfWeek = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if (contains(mask, dayOfWeek)) {
+                daysOfWeek.add(dayOfWeek);
+            }
+        }
+        return daysOfWeek;
+    }
+
+    public static String format(final int mask) {
+        return toEnumSet(mask).stream()
+                .map(dayOfWeek -> dayOfWeek.name().toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining(DELIMITER));
+    }
+}
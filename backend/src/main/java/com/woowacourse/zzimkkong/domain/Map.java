@@ -4,9 +4,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Getter
@@ -28,6 +30,16 @@ public class Map {
     @Lob
     private String mapImageUrl;
 
+    @Column(length = 64)
+    private String thumbnailHash;
+
+    // 공간이 바뀔 때마다 MapRepository.increaseSpaceVersion 으로만 올리므로, 엔티티를 저장할 때는 덮어쓰지 않습니다
+    @Column(nullable = false, updatable = false)
+    private Long spaceVersion = 0L;
+
+    @Column(updatable = false)
+    private LocalDateTime spaceModifiedAt;
+
     @ManyToOne
     @JoinColumn(name = "member_id", foreignKey = @ForeignKey(name = "fk_map_member"), nullable = false)
     private Member member;
@@ -57,7 +69,8 @@ public class Map {
     }
 
     public boolean isNotOwnedBy(final Member manager) {
-        return !this.member.equals(manager);
+        // 요청마다 새로 읽은 회원과 비교하므로, 엔티티 동일성이 아닌 id로 비교합니다
+        return !Objects.equals(this.member.getId(), manager.getId());
     }
 
     public Boolean doesNotHaveSpaceId(final Long spaceId) {
@@ -75,6 +88,14 @@ public class Map {
         this.mapImageUrl = mapImageUrl;
     }
 
+    public boolean hasSameThumbnailHash(final String thumbnailHash) {
+        return thumbnailHash.equals(this.thumbnailHash);
+    }
+
+    public void updateThumbnailHash(final String thumbnailHash) {
+        this.thumbnailHash = thumbnailHash;
+    }
+
     public void addSpace(final Space space) {
         spaces.add(space);
     }
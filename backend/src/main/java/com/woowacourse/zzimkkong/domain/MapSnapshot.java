@@ -0,0 +1,53 @@
+package com.woowacourse.zzimkkong.domain;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+public class MapSnapshot {
+    private final Long id;
+    private final String name;
+    private final Long memberId;
+    private final List<SpaceSnapshot> spaces;
+    private final java.util.Map<Long, SpaceSnapshot> spacesById;
+
+    private MapSnapshot(final Long id, final String name, final Long memberId, final List<SpaceSnapshot> spaces) {
+        this.id = id;
+        this.name = name;
+        this.memberId = memberId;
+        this.spaces = Collections.unmodifiableList(spaces);
+        this.spacesById = Collections.unmodifiableMap(spaces.stream()
+                .collect(Collectors.toMap(SpaceSnapshot::getId, Function.identity(), (first, second) -> first, LinkedHashMap::new)));
+    }
+
+    public static MapSnapshot from(final Map map) {
+        return of(map.getId(), map.getName(), map.getMember().getId(), map.getSpaces());
+    }
+
+    public static MapSnapshot of(final Long id, final String name, final Long memberId, final List<Space> spaces) {
+        List<SpaceSnapshot> spaceSnapshots = spaces.stream()
+                .map(SpaceSnapshot::from)
+                .collect(Collectors.toList());
+
+        return new MapSnapshot(id, name, memberId, spaceSnapshots);
+    }
+
+    public boolean isNotOwnedBy(final Member manager) {
+        return !Objects.equals(memberId, manager.getId());
+    }
+
+    public boolean doesNotHaveSpaceId(final Long spaceId) {
+        return !spacesById.containsKey(spaceId);
+    }
+
+    public Optional<SpaceSnapshot> findSpaceById(final Long spaceId) {
+        return Optional.ofNullable(spacesById.get(spaceId));
+    }
+}
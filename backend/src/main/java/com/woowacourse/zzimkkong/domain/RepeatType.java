@@ -0,0 +1,22 @@
+package com.woowacourse.zzimkkong.domain;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public enum RepeatType {
+    DAILY(Period.ofDays(1)),
+    WEEKLY(Period.ofWeeks(1));
+
+    private final Period interval;
+
+    RepeatType(final Period interval) {
+        this.interval = interval;
+    }
+
+    public List<LocalDate> datesBetween(final LocalDate startDate, final LocalDate endDateInclusive) {
+        return startDate.datesUntil(endDateInclusive.plusDays(1), interval)
+                .collect(Collectors.toList());
+    }
+}
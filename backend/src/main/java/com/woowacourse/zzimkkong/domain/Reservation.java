@@ -12,6 +12,10 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "reservation_space_id_date_start_time", columnList = "space_id, date, startTime"),
+        @Index(name = "reservation_space_id_end_time", columnList = "space_id, endTime")
+})
 public class Reservation {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -35,7 +39,7 @@ public class Reservation {
     @Column(nullable = false, length = 100)
     private String description;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "space_id", foreignKey = @ForeignKey(name = "fk_reservation_space"), nullable = false)
     private Space space;
 
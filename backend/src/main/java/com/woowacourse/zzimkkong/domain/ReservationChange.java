@@ -0,0 +1,66 @@
+package com.woowacourse.zzimkkong.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "reservation_change_map_id_sequence", columnNames = {"mapId", "sequence"}))
+public class ReservationChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long mapId;
+
+    // id는 insert 순서일 뿐 커밋 순서가 아니므로, 맵마다 커밋 직전에 올리는 번호를 따로 붙입니다
+    @Column(nullable = false)
+    private Long sequence;
+
+    @Column(nullable = false)
+    private Long spaceId;
+
+    @Column(nullable = false)
+    private Long reservationId;
+
+    @Column(nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private ReservationChangeType type;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(nullable = false)
+    private LocalDateTime endTime;
+
+    @Column(nullable = false, length = 20)
+    private String userName;
+
+    @Column(nullable = false, length = 100)
+    private String description;
+
+    public ReservationChange(final Long mapId, final ReservationChangeType type, final Reservation reservation) {
+        this.mapId = mapId;
+        this.spaceId = reservation.getSpace().getId();
+        this.reservationId = reservation.getId();
+        this.type = type;
+        this.date = reservation.getDate();
+        this.startTime = reservation.getStartTime();
+        this.endTime = reservation.getEndTime();
+        this.userName = reservation.getUserName();
+        this.description = reservation.getDescription();
+    }
+
+    public boolean isDeleted() {
+        return type == ReservationChangeType.DELETED;
+    }
+}
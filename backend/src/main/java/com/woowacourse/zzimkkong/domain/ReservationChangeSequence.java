@@ -0,0 +1,24 @@
+package com.woowacourse.zzimkkong.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@Entity
+public class ReservationChangeSequence {
+    // 맵마다 마지막으로 붙인 변경 번호입니다. 예약 변경을 기록할 때 JDBC로 직접 올립니다
+    @Id
+    private Long mapId;
+
+    @Column(nullable = false)
+    private Long lastSequence;
+
+    // 마지막으로 변경을 기록한 시각입니다. 캘린더 피드의 Last-Modified로 씁니다
+    private LocalDateTime modifiedAt;
+}
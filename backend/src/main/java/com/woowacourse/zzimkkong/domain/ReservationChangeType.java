@@ -0,0 +1,7 @@
+package com.woowacourse.zzimkkong.domain;
+
+public enum ReservationChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,183 @@
+package com.woowacourse.zzimkkong.domain;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class ReservationIntervals {
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final ReservationIntervals EMPTY = new ReservationIntervals(new Long[0], new long[0], new long[0]);
+
+    private final Long[] ids;
+    private final long[] startMinutes;
+    private final long[] endMinutes;
+    private final long[] maxEndMinutes;
+
+    private ReservationIntervals(final Long[] ids, final long[] startMinutes, final long[] endMinutes) {
+        this.ids = ids;
+        this.startMinutes = startMinutes;
+        this.endMinutes = endMinutes;
+        this.maxEndMinutes = new long[endMinutes.length];
+
+        // 시작 시간 순으로 정렬되어 있으므로, 앞에서부터의 최대 종료 시간만 알면 겹침 여부를 이분 탐색으로 판단할 수 있습니다
+        for (int i = 0; i < endMinutes.length; i++) {
+            maxEndMinutes[i] = i == 0 ? endMinutes[i] : Math.max(maxEndMinutes[i - 1], endMinutes[i]);
+        }
+    }
+
+    public static ReservationIntervals empty() {
+        return EMPTY;
+    }
+
+    public static ReservationIntervals from(final Collection<Reservation> reservations) {
+        return from(reservations, Reservation::getId, Reservation::getStartTime, Reservation::getEndTime);
+    }
+
+    public static <T> ReservationIntervals from(
+            final Collection<T> reservations,
+            final Function<T, Long> id,
+            final Function<T, LocalDateTime> startTime,
+            final Function<T, LocalDateTime> endTime) {
+        List<T> sorted = reservations.stream()
+                .sorted(Comparator.comparing(startTime))
+                .collect(Collectors.toList());
+
+        Long[] ids = new Long[sorted.size()];
+        long[] startMinutes = new long[sorted.size()];
+        long[] endMinutes = new long[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            ids[i] = id.apply(sorted.get(i));
+            startMinutes[i] = toEpochMinute(startTime.apply(sorted.get(i)));
+            endMinutes[i] = toEpochMinute(endTime.apply(sorted.get(i)));
+        }
+
+        return new ReservationIntervals(ids, startMinutes, endMinutes);
+    }
+
+    public boolean overlaps(final LocalDateTime startDateTime, final LocalDateTime endDateTime) {
+        long start = toEpochMinute(startDateTime);
+        long end = toEpochMinute(endDateTime);
+
+        int lastStartedBeforeEnd = countStartsBefore(end) - 1;
+        if (lastStartedBeforeEnd < 0) {
+            return false;
+        }
+        return maxEndMinutes[lastStartedBeforeEnd] > start;
+    }
+
+    public boolean overlapsAny(final ReservationIntervals other) {
+        // 두 목록 모두 시작 시간 순이고 각자 겹치지 않으므로, 먼저 끝나는 쪽을 한 칸씩 넘기며 한 번만 훑으면 됩니다
+        int i = 0;
+        int j = 0;
+        while (i < size() && j < other.size()) {
+            if (startMinutes[i] < other.endMinutes[j] && other.startMinutes[j] < endMinutes[i]) {
+                return true;
+            }
+
+            if (endMinutes[i] <= other.endMinutes[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return false;
+    }
+
+    public List<TimeSlot> findGaps(final LocalDateTime startDateTime, final LocalDateTime endDateTime) {
+        long end = toEpochMinute(endDateTime);
+        long cursor = toEpochMinute(startDateTime);
+
+        // 시작 시간 순으로 한 번 훑으며, 지금까지 가장 늦게 끝난 예약 이후부터 다음 예약 시작 전까지를 빈 구간으로 모읍니다
+        List<TimeSlot> gaps = new ArrayList<>();
+        for (int i = 0; i < size() && startMinutes[i] < end; i++) {
+            if (cursor < startMinutes[i]) {
+                gaps.add(new TimeSlot(toDateTime(cursor), toDateTime(startMinutes[i])));
+            }
+            cursor = Math.max(cursor, endMinutes[i]);
+        }
+        if (cursor < end) {
+            gaps.add(new TimeSlot(toDateTime(cursor), toDateTime(end)));
+        }
+        return gaps;
+    }
+
+    public ReservationIntervals with(final Long id, final LocalDateTime startDateTime, final LocalDateTime endDateTime) {
+        ReservationIntervals remaining = without(id);
+        long start = toEpochMinute(startDateTime);
+        int position = remaining.countStartsBefore(start + 1);
+
+        Long[] ids = insert(remaining.ids, position, id);
+        long[] startMinutes = insert(remaining.startMinutes, position, start);
+        long[] endMinutes = insert(remaining.endMinutes, position, toEpochMinute(endDateTime));
+
+        return new ReservationIntervals(ids, startMinutes, endMinutes);
+    }
+
+    public ReservationIntervals without(final Long id) {
+        int[] remainingPositions = IntStream.range(0, ids.length)
+                .filter(i -> !Objects.equals(ids[i], id))
+                .toArray();
+        if (remainingPositions.length == ids.length) {
+            return this;
+        }
+
+        Long[] remainingIds = new Long[remainingPositions.length];
+        long[] remainingStartMinutes = new long[remainingPositions.length];
+        long[] remainingEndMinutes = new long[remainingPositions.length];
+        for (int i = 0; i < remainingPositions.length; i++) {
+            remainingIds[i] = ids[remainingPositions[i]];
+            remainingStartMinutes[i] = startMinutes[remainingPositions[i]];
+            remainingEndMinutes[i] = endMinutes[remainingPositions[i]];
+        }
+
+        return new ReservationIntervals(remainingIds, remainingStartMinutes, remainingEndMinutes);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    private int countStartsBefore(final long minute) {
+        int low = 0;
+        int high = startMinutes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startMinutes[mid] < minute) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long toEpochMinute(final LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE;
+    }
+
+    private static LocalDateTime toDateTime(final long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+
+    private static long[] insert(final long[] values, final int position, final long value) {
+        long[] inserted = Arrays.copyOf(values, values.length + 1);
+        System.arraycopy(values, position, inserted, position + 1, values.length - position);
+        inserted[position] = value;
+        return inserted;
+    }
+
+    private static Long[] insert(final Long[] values, final int position, final Long value) {
+        Long[] inserted = Arrays.copyOf(values, values.length + 1);
+        System.arraycopy(values, position, inserted, position + 1, values.length - position);
+        inserted[position] = value;
+        return inserted;
+    }
+}
@@ -1,17 +1,24 @@
 package com.woowacourse.zzimkkong.domain;
 
 import com.woowacourse.zzimkkong.exception.space.*;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 
 @Getter
-@Builder
 @NoArgsConstructor
 @Embeddable
 public class Setting {
@@ -33,9 +40,12 @@ public class Setting {
     @Column(nullable = false)
     private Boolean reservationEnable;
 
+    // 월요일부터 일요일까지를 하위 7비트에 담는다 (DayOfWeekMask)
+    @Getter(AccessLevel.NONE)
     @Column(nullable = false)
-    private String enabledDayOfWeek;
+    private Integer enabledDaysOfWeek;
 
+    @Builder
     protected Setting(
             final LocalTime availableStartTime,
             final LocalTime availableEndTime,
@@ -50,7 +60,7 @@ public class Setting {
         this.reservationMinimumTimeUnit = reservationMinimumTimeUnit;
         this.reservationMaximumTimeUnit = reservationMaximumTimeUnit;
         this.reservationEnable = reservationEnable;
-        this.enabledDayOfWeek = enabledDayOfWeek;
+        this.enabledDaysOfWeek = DayOfWeekMask.parse(enabledDayOfWeek);
 
         validateSetting();
     }
@@ -86,6 +96,75 @@ public class Setting {
         return minute % this.reservationTimeUnit != 0;
     }
 
+    public boolean isNotBetweenAvailableTime(final LocalDateTime startDateTime, final LocalDateTime endDateTime) {
+        boolean isEqualOrAfterStartTime = startDateTime.toLocalTime().equals(availableStartTime) ||
+                startDateTime.toLocalTime().isAfter(availableStartTime);
+        boolean isEqualOrBeforeEndTime = endDateTime.toLocalTime().equals(availableEndTime) ||
+                endDateTime.toLocalTime().isBefore(availableEndTime);
+        return !(isEqualOrAfterStartTime && isEqualOrBeforeEndTime);
+    }
+
+    public boolean isIncorrectMinimumMaximumTimeUnit(final int durationMinutes) {
+        return durationMinutes < reservationMinimumTimeUnit || durationMinutes > reservationMaximumTimeUnit;
+    }
+
+    public boolean isUnableToReserve() {
+        return !reservationEnable;
+    }
+
+    public boolean isClosedOn(final DayOfWeek dayOfWeek) {
+        return !DayOfWeekMask.contains(enabledDaysOfWeek, dayOfWeek);
+    }
+
+    public int countAvailableMinutesOn(final LocalDate date) {
+        if (isUnableToReserve() || isClosedOn(date.getDayOfWeek())) {
+            return 0;
+        }
+        return (int) ChronoUnit.MINUTES.between(availableStartTime, availableEndTime);
+    }
+
+    public List<TimeSlot> findFreeSlots(
+            final LocalDate date,
+            final ReservationIntervals reservationIntervals,
+            final LocalDateTime now) {
+        if (isUnableToReserve() || isClosedOn(date.getDayOfWeek())) {
+            return Collections.emptyList();
+        }
+
+        LocalDateTime openDateTime = date.atTime(availableStartTime);
+        LocalDateTime closeDateTime = date.atTime(availableEndTime);
+        LocalDateTime fromDateTime = openDateTime.isBefore(now) ? alignUp(openDateTime, now) : openDateTime;
+        if (!fromDateTime.isBefore(closeDateTime)) {
+            return Collections.emptyList();
+        }
+
+        // 빈 구간의 시작은 시간 단위에 맞춰 올리고 길이는 시간 단위로 내린 뒤, 최소 예약 시간보다 짧으면 버립니다
+        List<TimeSlot> freeSlots = new ArrayList<>();
+        for (TimeSlot gap : reservationIntervals.findGaps(fromDateTime, closeDateTime)) {
+            LocalDateTime startDateTime = alignUp(openDateTime, gap.getStartDateTime());
+            long minutes = ChronoUnit.MINUTES.between(startDateTime, gap.getEndDateTime());
+            long usableMinutes = minutes - minutes % reservationTimeUnit;
+            if (usableMinutes >= reservationMinimumTimeUnit) {
+                freeSlots.add(new TimeSlot(startDateTime, startDateTime.plusMinutes(usableMinutes)));
+            }
+        }
+        return freeSlots;
+    }
+
+    private LocalDateTime alignUp(final LocalDateTime openDateTime, final LocalDateTime dateTime) {
+        long minutes = ChronoUnit.MINUTES.between(openDateTime, dateTime.plusMinutes(reservationTimeUnit).minusNanos(1));
+        return openDateTime.plusMinutes(minutes - minutes % reservationTimeUnit);
+    }
+
+    public EnumSet<DayOfWeek> getEnabledDaysOfWeek() {
+        return DayOfWeekMask.toEnumSet(enabledDaysOfWeek);
+    }
+
+    // 마스크로 저장하므로 입력받은 문자열을 그대로 돌려주지 않는다. 요청의 순서, 공백, 대소문자와 상관없이 월요일부터 일요일 순의 소문자로 돌려준다
+    public String getEnabledDayOfWeek() {
+        return DayOfWeekMask.format(enabledDaysOfWeek);
+    }
+
     private boolean isNotConsistentTimeUnit() {
         return !(isMinimumTimeUnitConsistentWithTimeUnit() && isMaximumTimeUnitConsistentWithTimeUnit());
     }
@@ -0,0 +1,78 @@
+package com.woowacourse.zzimkkong.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@Entity
+public class SlackNotification {
+    public static final int MAXIMUM_ATTEMPT_COUNT = 8;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(2L);
+    private static final Duration MAXIMUM_BACKOFF = Duration.ofMinutes(10L);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String webhookUrl;
+
+    private Long reservationId;
+
+    @Column(nullable = false)
+    @Lob
+    private String payload;
+
+    @Column(nullable = false)
+    private Integer attemptCount;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 여러 서버가 같은 알림을 보내지 않도록, 보내는 서버가 claimedUntil까지 자기 토큰으로 알림을 가져갑니다
+    @Column(length = 36)
+    private String claimToken;
+
+    private LocalDateTime claimedUntil;
+
+    public SlackNotification(
+            final String webhookUrl,
+            final Long reservationId,
+            final String payload,
+            final LocalDateTime sendAt) {
+        this.webhookUrl = webhookUrl;
+        this.reservationId = reservationId;
+        this.payload = payload;
+        this.attemptCount = 0;
+        this.nextAttemptAt = sendAt;
+    }
+
+    public void fail(final LocalDateTime now) {
+        this.attemptCount++;
+        this.nextAttemptAt = now.plus(backoff());
+        this.claimToken = null;
+        this.claimedUntil = null;
+    }
+
+    public boolean isAboutSameReservationAs(final SlackNotification other) {
+        return reservationId != null && reservationId.equals(other.reservationId);
+    }
+
+    public boolean isExhausted() {
+        return attemptCount >= MAXIMUM_ATTEMPT_COUNT;
+    }
+
+    private Duration backoff() {
+        // 실패할 때마다 대기 시간을 두 배로 늘리되, 최대 대기 시간을 넘기지 않습니다
+        Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << (attemptCount - 1));
+        if (backoff.compareTo(MAXIMUM_BACKOFF) > 0) {
+            return MAXIMUM_BACKOFF;
+        }
+        return backoff;
+    }
+}
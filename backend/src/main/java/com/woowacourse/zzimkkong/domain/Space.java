@@ -1,6 +1,5 @@
 package com.woowacourse.zzimkkong.domain;
 
-import com.woowacourse.zzimkkong.exception.space.NoSuchDayOfWeekException;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,10 +11,7 @@ import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Builder
@@ -24,8 +20,6 @@ import java.util.stream.Collectors;
 @DynamicUpdate
 @Entity
 public class Space {
-    public static final String DELIMITER = ",";
-
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -45,7 +39,7 @@ public class Space {
     @Embedded
     private Setting setting;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "map_id", foreignKey = @ForeignKey(name = "fk_space_map"), nullable = false)
     private Map map;
 
@@ -85,11 +79,7 @@ public class Space {
     }
 
     public boolean isNotBetweenAvailableTime(final LocalDateTime startDateTime, LocalDateTime endDateTime) {
-        boolean isEqualOrAfterStartTime = startDateTime.toLocalTime().equals(getAvailableStartTime()) ||
-                startDateTime.toLocalTime().isAfter(getAvailableStartTime());
-        boolean isEqualOrBeforeEndTime = endDateTime.toLocalTime().equals(getAvailableEndTime()) ||
-                endDateTime.toLocalTime().isBefore(getAvailableEndTime());
-        return !(isEqualOrAfterStartTime && isEqualOrBeforeEndTime);
+        return setting.isNotBetweenAvailableTime(startDateTime, endDateTime);
     }
 
     public boolean isNotDivisibleByTimeUnit(final int minute) {
@@ -97,36 +87,15 @@ public class Space {
     }
 
     public boolean isIncorrectMinimumMaximumTimeUnit(final int durationMinutes) {
-        return durationMinutes < getReservationMinimumTimeUnit() || durationMinutes > getReservationMaximumTimeUnit();
+        return setting.isIncorrectMinimumMaximumTimeUnit(durationMinutes);
     }
 
     public boolean isUnableToReserve() {
-        return !getReservationEnable();
+        return setting.isUnableToReserve();
     }
 
     public boolean isClosedOn(final DayOfWeek dayOfWeek) {
-        return getEnabledDaysOfWeek().stream()
-                .noneMatch(enabledDayOfWeek -> enabledDayOfWeek.equals(dayOfWeek));
-    }
-
-    private List<DayOfWeek> getEnabledDaysOfWeek() {
-        String enabledDayOfWeekNames = getEnabledDayOfWeek();
-
-        if (enabledDayOfWeekNames == null) {
-            return Collections.emptyList();
-        }
-
-        return Arrays.stream(enabledDayOfWeekNames.split(DELIMITER))
-                .map(String::trim)
-                .map(this::convertToDayOfWeek)
-                .collect(Collectors.toList());
-    }
-
-    private DayOfWeek convertToDayOfWeek(final String dayOfWeekName) {
-        return Arrays.stream(DayOfWeek.values())
-                .filter(dayOfWeek -> dayOfWeek.name().equals(dayOfWeekName.toUpperCase()))
-                .findAny()
-                .orElseThrow(NoSuchDayOfWeekException::new);
+        return setting.isClosedOn(dayOfWeek);
     }
 
     public void addReservation(final Reservation reservation) {
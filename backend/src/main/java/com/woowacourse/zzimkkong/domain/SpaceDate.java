@@ -0,0 +1,24 @@
+package com.woowacourse.zzimkkong.domain;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+public class SpaceDate {
+    private final Long spaceId;
+    private final LocalDate date;
+
+    public SpaceDate(final Long spaceId, final LocalDate date) {
+        this.spaceId = spaceId;
+        this.date = date;
+    }
+
+    public static SpaceDate from(final Reservation reservation) {
+        return new SpaceDate(reservation.getSpace().getId(), reservation.getStartTime().toLocalDate());
+    }
+}
@@ -0,0 +1,74 @@
+package com.woowacourse.zzimkkong.domain;
+
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class SpaceSnapshot {
+    private final Long id;
+    private final String name;
+    private final String color;
+    private final String description;
+    private final String area;
+    private final Setting setting;
+
+    private SpaceSnapshot(
+            final Long id,
+            final String name,
+            final String color,
+            final String description,
+            final String area,
+            final Setting setting) {
+        this.id = id;
+        this.name = name;
+        this.color = color;
+        this.description = description;
+        this.area = area;
+        this.setting = setting;
+    }
+
+    public static SpaceSnapshot from(final Space space) {
+        return new SpaceSnapshot(
+                space.getId(),
+                space.getName(),
+                space.getColor(),
+                space.getDescription(),
+                space.getArea(),
+                space.getSetting());
+    }
+
+    public boolean isNotBetweenAvailableTime(final LocalDateTime startDateTime, final LocalDateTime endDateTime) {
+        return setting.isNotBetweenAvailableTime(startDateTime, endDateTime);
+    }
+
+    public boolean isNotDivisibleByTimeUnit(final int minute) {
+        return setting.isNotDivisibleByTimeUnit(minute);
+    }
+
+    public boolean isIncorrectMinimumMaximumTimeUnit(final int durationMinutes) {
+        return setting.isIncorrectMinimumMaximumTimeUnit(durationMinutes);
+    }
+
+    public boolean isUnableToReserve() {
+        return setting.isUnableToReserve();
+    }
+
+    public boolean isClosedOn(final DayOfWeek dayOfWeek) {
+        return setting.isClosedOn(dayOfWeek);
+    }
+
+    public int countAvailableMinutesOn(final LocalDate date) {
+        return setting.countAvailableMinutesOn(date);
+    }
+
+    public List<TimeSlot> findFreeSlots(
+            final LocalDate date,
+            final ReservationIntervals reservationIntervals,
+            final LocalDateTime now) {
+        return setting.findFreeSlots(date, reservationIntervals, now);
+    }
+}
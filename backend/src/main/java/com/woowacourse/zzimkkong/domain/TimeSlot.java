@@ -0,0 +1,20 @@
+package com.woowacourse.zzimkkong.domain;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+public class TimeSlot {
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+
+    public TimeSlot(final LocalDateTime startDateTime, final LocalDateTime endDateTime) {
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+    }
+}
@@ -1,15 +1,13 @@
 package com.woowacourse.zzimkkong.dto;
 
+import com.woowacourse.zzimkkong.domain.DayOfWeekMask;
+
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import java.time.DayOfWeek;
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
-import static com.woowacourse.zzimkkong.domain.Space.DELIMITER;
+import static com.woowacourse.zzimkkong.domain.DayOfWeekMask.DELIMITER;
 
 public class DayOfWeekValidator implements ConstraintValidator<DayOfWeekConstraint, String> {
     @Override
@@ -23,28 +21,14 @@ public class DayOfWeekValidator implements ConstraintValidator<DayOfWeekConstrai
             return true;
         }
 
-        List<String> dayOfWeekInput = Arrays.stream(value.split(DELIMITER))
-                .map(String::trim)
-                .map(String::toUpperCase)
-                .collect(Collectors.toList());
-
-        if (hasDuplicates(dayOfWeekInput)) {
-            return false;
+        int mask = DayOfWeekMask.NONE;
+        for (String dayOfWeekName : value.split(DELIMITER)) {
+            Optional<DayOfWeek> dayOfWeek = DayOfWeekMask.findByName(dayOfWeekName);
+            if (dayOfWeek.isEmpty() || DayOfWeekMask.contains(mask, dayOfWeek.get())) {
+                return false;
+            }
+            mask |= DayOfWeekMask.bitOf(dayOfWeek.get());
         }
-
-        return isValidDayOfWeekName(dayOfWeekInput);
-    }
-
-    private boolean hasDuplicates(List<String> dayOfWeekInput) {
-        Set<String> uniqueDayOfWeekInput = new HashSet<>(dayOfWeekInput);
-        return uniqueDayOfWeekInput.size() != dayOfWeekInput.size();
-    }
-
-    private Boolean isValidDayOfWeekName(final List<String> dayOfWeekInput) {
-        List<String> allDaysOfWeekNames = Arrays.stream(DayOfWeek.values())
-                .map(DayOfWeek::name)
-                .collect(Collectors.toList());
-
-        return allDaysOfWeekNames.containsAll(dayOfWeekInput);
+        return true;
     }
 }
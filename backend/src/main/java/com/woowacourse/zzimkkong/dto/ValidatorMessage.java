@@ -16,6 +16,7 @@ public class ValidatorMessage {
     public static final String DAY_OF_WEEK_MESSAGE = "올바른 요일 형식이 아닙니다.";
     public static final String SERVER_ERROR_MESSAGE = "예상치 못한 문제가 발생했습니다. 개발자에게 문의하세요.";
     public static final String TIME_UNIT_MESSAGE = "시간 단위는 10, 30, 60, 120입니다.";
+    public static final String BATCH_SIZE_MESSAGE = "한 번에 생성할 수 있는 예약은 500개 이하입니다.";
 
     public static final String DATE_FORMAT = "yyyy-MM-dd";
     public static final String TIME_FORMAT = "HH:mm:ss";
@@ -0,0 +1,20 @@
+package com.woowacourse.zzimkkong.dto.calendar;
+
+import lombok.Getter;
+
+@Getter
+public class CalendarResponse {
+    private final byte[] content;
+    private final String eTag;
+    private final long lastModified;
+
+    private CalendarResponse(final byte[] content, final String eTag, final long lastModified) {
+        this.content = content;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    public static CalendarResponse of(final byte[] content, final String eTag, final long lastModified) {
+        return new CalendarResponse(content, eTag, lastModified);
+    }
+}
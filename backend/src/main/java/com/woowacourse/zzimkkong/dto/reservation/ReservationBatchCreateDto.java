@@ -0,0 +1,43 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.woowacourse.zzimkkong.domain.Member;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@NoArgsConstructor
+public class ReservationBatchCreateDto {
+    private Long mapId;
+    private List<ReservationCreateDto> reservationCreateDtos;
+    private Member manager;
+
+    private ReservationBatchCreateDto(
+            final Long mapId,
+            final List<ReservationCreateDto> reservationCreateDtos,
+            final Member manager) {
+        this.mapId = mapId;
+        this.reservationCreateDtos = reservationCreateDtos;
+        this.manager = manager;
+    }
+
+    public static ReservationBatchCreateDto of(
+            final Long mapId,
+            final ReservationBatchCreateRequest reservationBatchCreateRequest) {
+        return of(mapId, reservationBatchCreateRequest, new Member());
+    }
+
+    public static ReservationBatchCreateDto of(
+            final Long mapId,
+            final ReservationBatchCreateRequest reservationBatchCreateRequest,
+            final Member manager) {
+        List<ReservationCreateDto> reservationCreateDtos = reservationBatchCreateRequest.getReservations()
+                .stream()
+                .map(request -> ReservationCreateDto.of(mapId, request.getSpaceId(), request, manager))
+                .collect(Collectors.toList());
+
+        return new ReservationBatchCreateDto(mapId, reservationCreateDtos, manager);
+    }
+}
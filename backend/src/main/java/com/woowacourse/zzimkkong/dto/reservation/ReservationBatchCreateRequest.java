@@ -0,0 +1,27 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.BATCH_SIZE_MESSAGE;
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.EMPTY_MESSAGE;
+
+@Getter
+@NoArgsConstructor
+public class ReservationBatchCreateRequest {
+    public static final int MAXIMUM_BATCH_SIZE = 500;
+
+    @Valid
+    @NotEmpty(message = EMPTY_MESSAGE)
+    @Size(max = MAXIMUM_BATCH_SIZE, message = BATCH_SIZE_MESSAGE)
+    private List<ReservationBatchItemRequest> reservations;
+
+    public ReservationBatchCreateRequest(final List<ReservationBatchItemRequest> reservations) {
+        this.reservations = reservations;
+    }
+}
@@ -0,0 +1,26 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.woowacourse.zzimkkong.domain.Reservation;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@NoArgsConstructor
+public class ReservationBatchCreateResponse {
+    private List<ReservationCreateResponse> reservations;
+
+    private ReservationBatchCreateResponse(final List<ReservationCreateResponse> reservations) {
+        this.reservations = reservations;
+    }
+
+    public static ReservationBatchCreateResponse from(final List<Reservation> reservations) {
+        List<ReservationCreateResponse> reservationCreateResponses = reservations.stream()
+                .map(ReservationCreateResponse::from)
+                .collect(Collectors.toList());
+
+        return new ReservationBatchCreateResponse(reservationCreateResponses);
+    }
+}
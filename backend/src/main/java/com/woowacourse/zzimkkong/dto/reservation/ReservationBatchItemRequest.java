@@ -0,0 +1,27 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.EMPTY_MESSAGE;
+
+@Getter
+@NoArgsConstructor
+public class ReservationBatchItemRequest extends ReservationCreateUpdateWithPasswordRequest {
+    @NotNull(message = EMPTY_MESSAGE)
+    private Long spaceId;
+
+    public ReservationBatchItemRequest(
+            final Long spaceId,
+            final LocalDateTime startDateTime,
+            final LocalDateTime endDateTime,
+            final String password,
+            final String name,
+            final String description) {
+        super(startDateTime, endDateTime, password, name, description);
+        this.spaceId = spaceId;
+    }
+}
@@ -0,0 +1,35 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.woowacourse.zzimkkong.domain.Member;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ReservationChangeFindDto {
+    private Long mapId;
+    private Long sequence;
+    private Member manager;
+
+    private ReservationChangeFindDto(
+            final Long mapId,
+            final Long sequence,
+            final Member manager) {
+        this.mapId = mapId;
+        this.sequence = sequence;
+        this.manager = manager;
+    }
+
+    public static ReservationChangeFindDto of(
+            final Long mapId,
+            final Long sequence,
+            final Member manager) {
+        return new ReservationChangeFindDto(mapId, sequence, manager);
+    }
+
+    public static ReservationChangeFindDto of(
+            final Long mapId,
+            final Long sequence) {
+        return new ReservationChangeFindDto(mapId, sequence, new Member());
+    }
+}
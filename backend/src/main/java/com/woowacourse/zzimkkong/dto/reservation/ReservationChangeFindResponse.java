@@ -0,0 +1,42 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.woowacourse.zzimkkong.domain.ReservationChange;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@NoArgsConstructor
+public class ReservationChangeFindResponse {
+    private List<ReservationChangeResponse> changes;
+    private Long lastSequence;
+    private Boolean hasNext;
+
+    private ReservationChangeFindResponse(
+            final List<ReservationChangeResponse> changes,
+            final Long lastSequence,
+            final Boolean hasNext) {
+        this.changes = changes;
+        this.lastSequence = lastSequence;
+        this.hasNext = hasNext;
+    }
+
+    public static ReservationChangeFindResponse of(
+            final Long sequence,
+            final List<ReservationChange> reservationChanges,
+            final int pageSize) {
+        // 한 건을 더 조회해서 다음 페이지가 있는지 확인합니다
+        boolean hasNext = reservationChanges.size() > pageSize;
+        List<ReservationChangeResponse> changes = reservationChanges.stream()
+                .limit(pageSize)
+                .map(ReservationChangeResponse::from)
+                .collect(Collectors.toList());
+        Long lastSequence = changes.isEmpty()
+                ? sequence
+                : changes.get(changes.size() - 1).getSequence();
+
+        return new ReservationChangeFindResponse(changes, lastSequence, hasNext);
+    }
+}
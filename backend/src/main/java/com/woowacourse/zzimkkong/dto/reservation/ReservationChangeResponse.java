@@ -0,0 +1,70 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.woowacourse.zzimkkong.domain.ReservationChange;
+import com.woowacourse.zzimkkong.domain.ReservationChangeType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATETIME_FORMAT;
+
+@Getter
+@NoArgsConstructor
+public class ReservationChangeResponse {
+    private Long sequence;
+    private ReservationChangeType type;
+    private Long spaceId;
+    private Long reservationId;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DATETIME_FORMAT)
+    private LocalDateTime startDateTime;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DATETIME_FORMAT)
+    private LocalDateTime endDateTime;
+    private String name;
+    private String description;
+
+    private ReservationChangeResponse(
+            final Long sequence,
+            final ReservationChangeType type,
+            final Long spaceId,
+            final Long reservationId,
+            final LocalDateTime startDateTime,
+            final LocalDateTime endDateTime,
+            final String name,
+            final String description) {
+        this.sequence = sequence;
+        this.type = type;
+        this.spaceId = spaceId;
+        this.reservationId = reservationId;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.name = name;
+        this.description = description;
+    }
+
+    public static ReservationChangeResponse from(final ReservationChange reservationChange) {
+        // 삭제는 어느 날짜의 어떤 예약이 빠졌는지만 알면 되므로 이름과 설명은 보내지 않습니다
+        if (reservationChange.isDeleted()) {
+            return new ReservationChangeResponse(
+                    reservationChange.getSequence(),
+                    reservationChange.getType(),
+                    reservationChange.getSpaceId(),
+                    reservationChange.getReservationId(),
+                    reservationChange.getStartTime(),
+                    reservationChange.getEndTime(),
+                    null,
+                    null);
+        }
+
+        return new ReservationChangeResponse(
+                reservationChange.getSequence(),
+                reservationChange.getType(),
+                reservationChange.getSpaceId(),
+                reservationChange.getReservationId(),
+                reservationChange.getStartTime(),
+                reservationChange.getEndTime(),
+                reservationChange.getUserName(),
+                reservationChange.getDescription());
+    }
+}
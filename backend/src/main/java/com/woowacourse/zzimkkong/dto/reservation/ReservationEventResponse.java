@@ -0,0 +1,30 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.woowacourse.zzimkkong.domain.ReservationChange;
+import com.woowacourse.zzimkkong.domain.ReservationChangeType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ReservationEventResponse {
+    private ReservationChangeType type;
+    private Long spaceId;
+    private ReservationResponse reservation;
+
+    private ReservationEventResponse(
+            final ReservationChangeType type,
+            final Long spaceId,
+            final ReservationResponse reservation) {
+        this.type = type;
+        this.spaceId = spaceId;
+        this.reservation = reservation;
+    }
+
+    public static ReservationEventResponse from(final ReservationChange reservationChange) {
+        return new ReservationEventResponse(
+                reservationChange.getType(),
+                reservationChange.getSpaceId(),
+                ReservationResponse.from(reservationChange));
+    }
+}
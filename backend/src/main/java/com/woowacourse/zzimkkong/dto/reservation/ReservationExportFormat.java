@@ -0,0 +1,33 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.woowacourse.zzimkkong.exception.reservation.UnsupportedExportFormatException;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public enum ReservationExportFormat {
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8)),
+    NDJSON(new MediaType("application", "x-ndjson", StandardCharsets.UTF_8));
+
+    private final MediaType mediaType;
+
+    ReservationExportFormat(final MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static ReservationExportFormat valueOfWithIgnoreCase(String value) {
+        return Arrays.stream(values())
+                .filter(reservationExportFormat -> reservationExportFormat.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(UnsupportedExportFormatException::new);
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return name().toLowerCase();
+    }
+}
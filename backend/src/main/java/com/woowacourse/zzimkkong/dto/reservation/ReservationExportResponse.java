@@ -0,0 +1,66 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.woowacourse.zzimkkong.domain.SpaceSnapshot;
+import com.woowacourse.zzimkkong.repository.ReservationRow;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATETIME_FORMAT;
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATE_FORMAT;
+
+@Getter
+@NoArgsConstructor
+public class ReservationExportResponse {
+    @JsonProperty
+    private Long id;
+    @JsonProperty
+    private Long spaceId;
+    @JsonProperty
+    private String spaceName;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DATE_FORMAT)
+    private LocalDate date;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DATETIME_FORMAT)
+    private LocalDateTime startDateTime;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DATETIME_FORMAT)
+    private LocalDateTime endDateTime;
+    @JsonProperty
+    private String name;
+    @JsonProperty
+    private String description;
+
+    private ReservationExportResponse(
+            final Long id,
+            final Long spaceId,
+            final String spaceName,
+            final LocalDate date,
+            final LocalDateTime startDateTime,
+            final LocalDateTime endDateTime,
+            final String name,
+            final String description) {
+        this.id = id;
+        this.spaceId = spaceId;
+        this.spaceName = spaceName;
+        this.date = date;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.name = name;
+        this.description = description;
+    }
+
+    public static ReservationExportResponse of(final SpaceSnapshot space, final ReservationRow reservation) {
+        return new ReservationExportResponse(
+                reservation.getId(),
+                space.getId(),
+                space.getName(),
+                reservation.getDate(),
+                reservation.getStartTime(),
+                reservation.getEndTime(),
+                reservation.getUserName(),
+                reservation.getDescription());
+    }
+}
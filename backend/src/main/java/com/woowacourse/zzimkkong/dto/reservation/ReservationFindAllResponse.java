@@ -3,7 +3,7 @@ package com.woowacourse.zzimkkong.dto.reservation;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.woowacourse.zzimkkong.domain.Reservation;
-import com.woowacourse.zzimkkong.domain.Space;
+import com.woowacourse.zzimkkong.domain.SpaceSnapshot;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -24,21 +24,15 @@ public class ReservationFindAllResponse {
         this.data = data;
     }
 
-    public static ReservationFindAllResponse of(final List<Space> spaces, final List<Reservation> reservations) {
-        Map<Space, List<Reservation>> reservationGroups = reservations.stream()
-                .collect(Collectors.groupingBy(Reservation::getSpace));
+    public static ReservationFindAllResponse of(final List<SpaceSnapshot> spaces, final List<Reservation> reservations) {
+        Map<Long, List<Reservation>> reservationGroups = reservations.stream()
+                .sorted(Comparator.comparing(Reservation::getStartTime))
+                .collect(Collectors.groupingBy(reservation -> reservation.getSpace().getId()));
 
-        spaces.stream()
-                .filter(space -> !reservationGroups.containsKey(space))
-                .forEach(space -> reservationGroups.put(space, Collections.emptyList()));
-
-        for (final List<Reservation> each : reservationGroups.values()) {
-            each.sort(Comparator.comparing(Reservation::getStartTime));
-        }
-
-        List<ReservationSpaceResponse> reservationSpaceResponses = reservationGroups.entrySet()
-                .stream()
-                .map(ReservationSpaceResponse::from)
+        List<ReservationSpaceResponse> reservationSpaceResponses = spaces.stream()
+                .map(space -> ReservationSpaceResponse.of(
+                        space,
+                        reservationGroups.getOrDefault(space.getId(), Collections.emptyList())))
                 .sorted(Comparator.comparing(ReservationSpaceResponse::getSpaceId))
                 .collect(Collectors.toList());
 
@@ -0,0 +1,35 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.woowacourse.zzimkkong.domain.Member;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+public class ReservationOccupancyFindDto {
+    private Long mapId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Member manager;
+
+    private ReservationOccupancyFindDto(
+            final Long mapId,
+            final LocalDate startDate,
+            final LocalDate endDate,
+            final Member manager) {
+        this.mapId = mapId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.manager = manager;
+    }
+
+    public static ReservationOccupancyFindDto of(
+            final Long mapId,
+            final LocalDate startDate,
+            final LocalDate endDate,
+            final Member manager) {
+        return new ReservationOccupancyFindDto(mapId, startDate, endDate, manager);
+    }
+}
@@ -0,0 +1,84 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.woowacourse.zzimkkong.domain.SpaceSnapshot;
+import com.woowacourse.zzimkkong.repository.ReservationOccupancy;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATE_FORMAT;
+
+// occupancyRates[i]는 startDate + i일의 예약률이고, 예약을 받지 않는 날은 null이다
+@Getter
+@NoArgsConstructor
+public class ReservationOccupancyFindResponse {
+    private static final double RATE_SCALE = 1_000.0;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DATE_FORMAT)
+    private LocalDate startDate;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DATE_FORMAT)
+    private LocalDate endDate;
+    @JsonProperty
+    private List<SpaceOccupancyResponse> spaces;
+
+    private ReservationOccupancyFindResponse(
+            final LocalDate startDate,
+            final LocalDate endDate,
+            final List<SpaceOccupancyResponse> spaces) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.spaces = spaces;
+    }
+
+    public static ReservationOccupancyFindResponse of(
+            final LocalDate startDate,
+            final LocalDate endDate,
+            final List<SpaceSnapshot> spaces,
+            final Collection<ReservationOccupancy> occupancies) {
+        int days = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        Map<Long, long[]> reservedMinutesBySpaceId = spaces.stream()
+                .collect(Collectors.toMap(SpaceSnapshot::getId, space -> new long[days]));
+        for (ReservationOccupancy occupancy : occupancies) {
+            long[] reservedMinutes = reservedMinutesBySpaceId.get(occupancy.getSpaceId());
+            if (reservedMinutes != null) {
+                reservedMinutes[(int) ChronoUnit.DAYS.between(startDate, occupancy.getDate())] += occupancy.getReservedMinutes();
+            }
+        }
+
+        List<SpaceOccupancyResponse> spaceOccupancyResponses = spaces.stream()
+                .map(space -> new SpaceOccupancyResponse(
+                        space.getId(),
+                        space.getName(),
+                        toOccupancyRates(space, startDate, reservedMinutesBySpaceId.get(space.getId()))))
+                .collect(Collectors.toList());
+
+        return new ReservationOccupancyFindResponse(startDate, endDate, spaceOccupancyResponses);
+    }
+
+    private static List<Double> toOccupancyRates(
+            final SpaceSnapshot space,
+            final LocalDate startDate,
+            final long[] reservedMinutes) {
+        List<Double> occupancyRates = new ArrayList<>(reservedMinutes.length);
+        for (int i = 0; i < reservedMinutes.length; i++) {
+            int availableMinutes = space.countAvailableMinutesOn(startDate.plusDays(i));
+            if (availableMinutes == 0) {
+                occupancyRates.add(null);
+                continue;
+            }
+
+            double occupancyRate = Math.min(1.0, (double) reservedMinutes[i] / availableMinutes);
+            occupancyRates.add(Math.round(occupancyRate * RATE_SCALE) / RATE_SCALE);
+        }
+        return occupancyRates;
+    }
+}
@@ -0,0 +1,63 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.woowacourse.zzimkkong.domain.Member;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// spaceId가 없으면 맵의 모든 공간을 조회한다
+@Getter
+@NoArgsConstructor
+public class ReservationRangeFindDto {
+    private Long mapId;
+    private Long spaceId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Member manager;
+
+    private ReservationRangeFindDto(
+            final Long mapId,
+            final Long spaceId,
+            final LocalDate startDate,
+            final LocalDate endDate,
+            final Member manager) {
+        this.mapId = mapId;
+        this.spaceId = spaceId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.manager = manager;
+    }
+
+    public static ReservationRangeFindDto of(
+            final Long mapId,
+            final LocalDate startDate,
+            final LocalDate endDate) {
+        return new ReservationRangeFindDto(mapId, null, startDate, endDate, new Member());
+    }
+
+    public static ReservationRangeFindDto of(
+            final Long mapId,
+            final LocalDate startDate,
+            final LocalDate endDate,
+            final Member manager) {
+        return new ReservationRangeFindDto(mapId, null, startDate, endDate, manager);
+    }
+
+    public static ReservationRangeFindDto of(
+            final Long mapId,
+            final Long spaceId,
+            final LocalDate startDate,
+            final LocalDate endDate) {
+        return new ReservationRangeFindDto(mapId, spaceId, startDate, endDate, new Member());
+    }
+
+    public static ReservationRangeFindDto of(
+            final Long mapId,
+            final Long spaceId,
+            final LocalDate startDate,
+            final LocalDate endDate,
+            final Member manager) {
+        return new ReservationRangeFindDto(mapId, spaceId, startDate, endDate, manager);
+    }
+}
@@ -0,0 +1,48 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.woowacourse.zzimkkong.domain.Member;
+import com.woowacourse.zzimkkong.domain.RepeatType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+public class ReservationRecurringCreateDto extends ReservationCreateDto {
+    private RepeatType repeatType;
+    private LocalDate repeatEndDate;
+
+    private ReservationRecurringCreateDto(
+            final Long mapId,
+            final Long spaceId,
+            final ReservationRecurringCreateRequest request,
+            final Member manager) {
+        super(mapId, spaceId, request, manager);
+        this.repeatType = request.getRepeatType();
+        this.repeatEndDate = request.getRepeatEndDate();
+    }
+
+    public static ReservationRecurringCreateDto of(
+            final Long mapId,
+            final Long spaceId,
+            final ReservationRecurringCreateRequest request) {
+        return new ReservationRecurringCreateDto(
+                mapId,
+                spaceId,
+                request,
+                new Member());
+    }
+
+    public static ReservationRecurringCreateDto of(
+            final Long mapId,
+            final Long spaceId,
+            final ReservationRecurringCreateRequest request,
+            final Member manager) {
+        return new ReservationRecurringCreateDto(
+                mapId,
+                spaceId,
+                request,
+                manager);
+    }
+}
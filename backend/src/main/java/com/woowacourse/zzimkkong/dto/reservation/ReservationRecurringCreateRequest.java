@@ -0,0 +1,37 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.woowacourse.zzimkkong.domain.RepeatType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATE_FORMAT;
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.EMPTY_MESSAGE;
+
+@Getter
+@NoArgsConstructor
+public class ReservationRecurringCreateRequest extends ReservationCreateUpdateWithPasswordRequest {
+    @NotNull(message = EMPTY_MESSAGE)
+    private RepeatType repeatType;
+
+    @DateTimeFormat(pattern = DATE_FORMAT)
+    @NotNull(message = EMPTY_MESSAGE)
+    private LocalDate repeatEndDate;
+
+    public ReservationRecurringCreateRequest(
+            final LocalDateTime startDateTime,
+            final LocalDateTime endDateTime,
+            final String password,
+            final String name,
+            final String description,
+            final RepeatType repeatType,
+            final LocalDate repeatEndDate) {
+        super(startDateTime, endDateTime, password, name, description);
+        this.repeatType = repeatType;
+        this.repeatEndDate = repeatEndDate;
+    }
+}
@@ -3,6 +3,8 @@ package com.woowacourse.zzimkkong.dto.reservation;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.woowacourse.zzimkkong.domain.Reservation;
+import com.woowacourse.zzimkkong.domain.ReservationChange;
+import com.woowacourse.zzimkkong.repository.ReservationRow;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -46,4 +48,24 @@ public class ReservationResponse {
                 reservation.getDescription()
         );
     }
+
+    public static ReservationResponse from(final ReservationRow reservation) {
+        return new ReservationResponse(
+                reservation.getId(),
+                reservation.getStartTime(),
+                reservation.getEndTime(),
+                reservation.getUserName(),
+                reservation.getDescription()
+        );
+    }
+
+    public static ReservationResponse from(final ReservationChange reservationChange) {
+        return new ReservationResponse(
+                reservationChange.getReservationId(),
+                reservationChange.getStartTime(),
+                reservationChange.getEndTime(),
+                reservationChange.getUserName(),
+                reservationChange.getDescription()
+        );
+    }
 }
@@ -0,0 +1,47 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.woowacourse.zzimkkong.domain.Setting;
+import com.woowacourse.zzimkkong.domain.TimeSlot;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 예약 가능한 구간만 이어진 범위로 내려주고, 구간 안에서 고를 수 있는 시작/길이는 시간 단위 설정으로 계산한다
+@Getter
+@NoArgsConstructor
+public class ReservationSlotFindResponse {
+    @JsonProperty
+    private Integer reservationTimeUnit;
+    @JsonProperty
+    private Integer reservationMinimumTimeUnit;
+    @JsonProperty
+    private Integer reservationMaximumTimeUnit;
+    @JsonProperty
+    private List<ReservationSlotResponse> slots;
+
+    private ReservationSlotFindResponse(
+            final Integer reservationTimeUnit,
+            final Integer reservationMinimumTimeUnit,
+            final Integer reservationMaximumTimeUnit,
+            final List<ReservationSlotResponse> slots) {
+        this.reservationTimeUnit = reservationTimeUnit;
+        this.reservationMinimumTimeUnit = reservationMinimumTimeUnit;
+        this.reservationMaximumTimeUnit = reservationMaximumTimeUnit;
+        this.slots = slots;
+    }
+
+    public static ReservationSlotFindResponse of(final Setting setting, final List<TimeSlot> freeSlots) {
+        List<ReservationSlotResponse> slots = freeSlots.stream()
+                .map(ReservationSlotResponse::from)
+                .collect(Collectors.toList());
+
+        return new ReservationSlotFindResponse(
+                setting.getReservationTimeUnit(),
+                setting.getReservationMinimumTimeUnit(),
+                setting.getReservationMaximumTimeUnit(),
+                slots);
+    }
+}
@@ -0,0 +1,28 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.woowacourse.zzimkkong.domain.TimeSlot;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATETIME_FORMAT;
+
+@Getter
+@NoArgsConstructor
+public class ReservationSlotResponse {
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DATETIME_FORMAT)
+    private LocalDateTime startDateTime;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DATETIME_FORMAT)
+    private LocalDateTime endDateTime;
+
+    private ReservationSlotResponse(final LocalDateTime startDateTime, final LocalDateTime endDateTime) {
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+    }
+
+    public static ReservationSlotResponse from(final TimeSlot timeSlot) {
+        return new ReservationSlotResponse(timeSlot.getStartDateTime(), timeSlot.getEndDateTime());
+    }
+}
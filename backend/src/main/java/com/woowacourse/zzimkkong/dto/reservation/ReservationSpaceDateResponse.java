@@ -0,0 +1,52 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.woowacourse.zzimkkong.domain.SpaceSnapshot;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATE_FORMAT;
+
+@Getter
+@NoArgsConstructor
+public class ReservationSpaceDateResponse {
+    @JsonProperty
+    private Long spaceId;
+    @JsonProperty
+    private String spaceName;
+    @JsonProperty
+    private String spaceColor;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DATE_FORMAT)
+    private LocalDate date;
+    @JsonProperty
+    private List<ReservationResponse> reservations;
+
+    private ReservationSpaceDateResponse(
+            final Long spaceId,
+            final String spaceName,
+            final String spaceColor,
+            final LocalDate date,
+            final List<ReservationResponse> reservations) {
+        this.spaceId = spaceId;
+        this.spaceName = spaceName;
+        this.spaceColor = spaceColor;
+        this.date = date;
+        this.reservations = reservations;
+    }
+
+    public static ReservationSpaceDateResponse of(
+            final SpaceSnapshot space,
+            final LocalDate date,
+            final List<ReservationResponse> reservations) {
+        return new ReservationSpaceDateResponse(
+                space.getId(),
+                space.getName(),
+                space.getColor(),
+                date,
+                reservations);
+    }
+}
@@ -2,12 +2,11 @@ package com.woowacourse.zzimkkong.dto.reservation;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.woowacourse.zzimkkong.domain.Reservation;
-import com.woowacourse.zzimkkong.domain.Space;
+import com.woowacourse.zzimkkong.domain.SpaceSnapshot;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Getter
@@ -35,14 +34,11 @@ public class ReservationSpaceResponse {
         this.reservations = reservations;
     }
 
-    public static ReservationSpaceResponse from(final Map.Entry<Space, List<Reservation>> reservationsPerSpace) {
-        List<ReservationResponse> reservations = reservationsPerSpace.getValue()
-                .stream()
+    public static ReservationSpaceResponse of(final SpaceSnapshot space, final List<Reservation> reservationsOfSpace) {
+        List<ReservationResponse> reservations = reservationsOfSpace.stream()
                 .map(ReservationResponse::from)
                 .collect(Collectors.toList());
 
-        Space space = reservationsPerSpace.getKey();
-
         return new ReservationSpaceResponse(
                 space.getId(),
                 space.getName(),
@@ -0,0 +1,24 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class SpaceOccupancyResponse {
+    @JsonProperty
+    private Long spaceId;
+    @JsonProperty
+    private String spaceName;
+    @JsonProperty
+    private List<Double> occupancyRates;
+
+    public SpaceOccupancyResponse(final Long spaceId, final String spaceName, final List<Double> occupancyRates) {
+        this.spaceId = spaceId;
+        this.spaceName = spaceName;
+        this.occupancyRates = occupancyRates;
+    }
+}
@@ -1,5 +1,6 @@
 package com.woowacourse.zzimkkong.dto.slack;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -10,8 +11,9 @@ public class Attachment {
     private String color;
     private String pretext;
     private String title;
+    @JsonProperty("title_link")
     private String titleLink;
-    private SlackResponse slackResponse;
+    private String text;
 
     private Attachment(
             final String fallback,
@@ -19,13 +21,13 @@ public class Attachment {
             final String pretext,
             final String title,
             final String titleLink,
-            final SlackResponse slackResponse) {
+            final String text) {
         this.fallback = fallback;
         this.color = color;
         this.pretext = pretext;
         this.title = title;
         this.titleLink = titleLink;
-        this.slackResponse = slackResponse;
+        this.text = text;
     }
 
     public static Attachment of(
@@ -35,18 +37,6 @@ public class Attachment {
             final String title,
             final String titleLink,
             final SlackResponse slackResponse) {
-        return new Attachment(fallback, color, pretext, title, titleLink, slackResponse);
-    }
-
-    @Override
-    public String toString() {
-        return "{" +
-                "\"fallback\" : \"" + fallback + "\"" +
-                ", \"color\" : \"" + color + "\"" +
-                ", \"pretext\" : \"" + pretext + "\"" +
-                ", \"title\" : \"" + title + "\"" +
-                ", \"title_link\" : \"" + titleLink + "\"" +
-                ", \"text\" : \"" + slackResponse + "\"" +
-                "}";
+        return new Attachment(fallback, color, pretext, title, titleLink, slackResponse.toString());
     }
 }
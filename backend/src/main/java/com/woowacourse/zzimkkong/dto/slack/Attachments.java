@@ -1,5 +1,6 @@
 package com.woowacourse.zzimkkong.dto.slack;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -12,6 +13,7 @@ public class Attachments {
     private static final String COLOR = "#FF7515";
     private static final String TITLE_LINK = "https://zzimkkong.o-r.kr/";
 
+    @JsonProperty("attachments")
     private List<Attachment> messageBody;
 
     private Attachments(final List<Attachment> messageBody) {
@@ -40,16 +42,17 @@ public class Attachments {
         return Attachments.from(attachment);
     }
 
-    private static Attachments from(final Attachment attachment) {
+    public static Attachments concat(final List<Attachments> messages) {
         List<Attachment> attachments = new ArrayList<>();
-        attachments.add(attachment);
+        for (Attachments message : messages) {
+            attachments.addAll(message.messageBody);
+        }
         return new Attachments(attachments);
     }
 
-    @Override
-    public String toString() {
-        return "{ \"attachments\" : " +
-                messageBody +
-                "}";
+    private static Attachments from(final Attachment attachment) {
+        List<Attachment> attachments = new ArrayList<>();
+        attachments.add(attachment);
+        return new Attachments(attachments);
     }
 }
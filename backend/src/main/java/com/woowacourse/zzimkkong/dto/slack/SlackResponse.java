@@ -9,17 +9,20 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 public class SlackResponse {
+    private Long reservationId;
     private String spaceName;
     private String userName;
     private String reservationTime;
     private String description;
 
     private SlackResponse(
+            final Long reservationId,
             final String spaceName,
             final String userName,
             final LocalDateTime startTime,
             final LocalDateTime endTime,
             final String description) {
+        this.reservationId = reservationId;
         this.spaceName = "회의실명 : " + spaceName;
         this.userName = "예약자명 : " + userName;
         this.reservationTime = "예약시간 : " + startTime + " ~ " + endTime;
@@ -28,6 +31,7 @@ public class SlackResponse {
 
     public static SlackResponse from(final Reservation reservation) {
         return new SlackResponse(
+                reservation.getId(),
                 reservation.getSpace().getName(),
                 reservation.getUserName(),
                 reservation.getStartTime(),
@@ -37,9 +41,9 @@ public class SlackResponse {
 
     @Override
     public String toString() {
-        return spaceName + "\\n " +
-                userName + "\\n " +
-                reservationTime + "\\n " +
+        return spaceName + "\n" +
+                userName + "\n" +
+                reservationTime + "\n" +
                 description;
     }
 }
@@ -2,7 +2,7 @@ package com.woowacourse.zzimkkong.dto.space;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.woowacourse.zzimkkong.domain.Space;
+import com.woowacourse.zzimkkong.domain.Setting;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -45,15 +45,15 @@ public class SettingResponse {
         this.enabledDayOfWeek = enabledDayOfWeek;
     }
 
-    public static SettingResponse from(final Space space) {
+    public static SettingResponse from(final Setting setting) {
         return new SettingResponse(
-                space.getAvailableStartTime(),
-                space.getAvailableEndTime(),
-                space.getReservationTimeUnit(),
-                space.getReservationMinimumTimeUnit(),
-                space.getReservationMaximumTimeUnit(),
-                space.getReservationEnable(),
-                space.getEnabledDayOfWeek()
+                setting.getAvailableStartTime(),
+                setting.getAvailableEndTime(),
+                setting.getReservationTimeUnit(),
+                setting.getReservationMinimumTimeUnit(),
+                setting.getReservationMaximumTimeUnit(),
+                setting.getReservationEnable(),
+                setting.getEnabledDayOfWeek()
         );
     }
 }
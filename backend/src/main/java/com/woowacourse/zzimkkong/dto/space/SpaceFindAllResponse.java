@@ -1,7 +1,7 @@
 package com.woowacourse.zzimkkong.dto.space;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.woowacourse.zzimkkong.domain.Space;
+import com.woowacourse.zzimkkong.domain.SpaceSnapshot;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -18,7 +18,7 @@ public class SpaceFindAllResponse {
         this.spaces = spaces;
     }
 
-    public static SpaceFindAllResponse from(final List<Space> spaces) {
+    public static SpaceFindAllResponse from(final List<SpaceSnapshot> spaces) {
         List<SpaceFindDetailWithIdResponse> spaceFindDetailResponses = spaces.stream()
                 .map(SpaceFindDetailWithIdResponse::from)
                 .collect(Collectors.toList());
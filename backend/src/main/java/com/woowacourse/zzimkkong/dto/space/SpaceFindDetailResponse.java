@@ -1,6 +1,6 @@
 package com.woowacourse.zzimkkong.dto.space;
 
-import com.woowacourse.zzimkkong.domain.Space;
+import com.woowacourse.zzimkkong.domain.SpaceSnapshot;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -26,8 +26,8 @@ public class SpaceFindDetailResponse {
         this.settings = settings;
     }
 
-    public static SpaceFindDetailResponse from(final Space space) {
-        SettingResponse settingResponse = SettingResponse.from(space);
+    public static SpaceFindDetailResponse from(final SpaceSnapshot space) {
+        SettingResponse settingResponse = SettingResponse.from(space.getSetting());
 
         return new SpaceFindDetailResponse(
                 space.getName(),
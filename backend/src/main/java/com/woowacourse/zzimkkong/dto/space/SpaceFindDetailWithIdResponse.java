@@ -1,7 +1,7 @@
 package com.woowacourse.zzimkkong.dto.space;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.woowacourse.zzimkkong.domain.Space;
+import com.woowacourse.zzimkkong.domain.SpaceSnapshot;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -22,8 +22,8 @@ public class SpaceFindDetailWithIdResponse extends SpaceFindDetailResponse {
         this.id = id;
     }
 
-    public static SpaceFindDetailWithIdResponse from(final Space space) {
-        SettingResponse settingResponse = SettingResponse.from(space);
+    public static SpaceFindDetailWithIdResponse from(final SpaceSnapshot space) {
+        SettingResponse settingResponse = SettingResponse.from(space.getSetting());
 
         return new SpaceFindDetailWithIdResponse(
                 space.getName(),
@@ -12,6 +12,9 @@ public class InputFieldException extends ZzimkkongException {
     protected static final String END_DATE_TIME = "endDateTime";
     protected static final String AVAILABLE_START_END_TIME = "availableStartEndTime";
     protected static final String MINIMUM_MAXIMUM_TIME_UNIT = "minimumMaximumTimeUnit";
+    protected static final String REPEAT_END_DATE = "repeatEndDate";
+    protected static final String END_DATE = "endDate";
+    protected static final String FORMAT = "format";
 
     private final String field;
 
@@ -0,0 +1,12 @@
+package com.woowacourse.zzimkkong.exception.infrastructure.oauth;
+
+import com.woowacourse.zzimkkong.exception.infrastructure.InfrastructureMalfunctionException;
+import org.springframework.http.HttpStatus;
+
+public class OauthProviderTimeoutException extends InfrastructureMalfunctionException {
+    private static final String MESSAGE = "소셜 로그인 서버의 응답이 늦어 로그인에 실패했습니다.";
+
+    public OauthProviderTimeoutException(final Throwable cause) {
+        super(MESSAGE, cause, HttpStatus.GATEWAY_TIMEOUT);
+    }
+}
@@ -0,0 +1,12 @@
+package com.woowacourse.zzimkkong.exception.infrastructure.oauth;
+
+import com.woowacourse.zzimkkong.exception.infrastructure.InfrastructureMalfunctionException;
+import org.springframework.http.HttpStatus;
+
+public class OauthRequestLimitExceededException extends InfrastructureMalfunctionException {
+    private static final String MESSAGE = "소셜 로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+
+    public OauthRequestLimitExceededException() {
+        super(MESSAGE, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
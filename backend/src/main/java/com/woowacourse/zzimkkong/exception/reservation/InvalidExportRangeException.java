@@ -0,0 +1,12 @@
+package com.woowacourse.zzimkkong.exception.reservation;
+
+import com.woowacourse.zzimkkong.exception.InputFieldException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidExportRangeException extends InputFieldException {
+    private static final String MESSAGE = "내보내기 종료 날짜는 시작 날짜부터 1년 이내로 설정해주세요.";
+
+    public InvalidExportRangeException() {
+        super(MESSAGE, HttpStatus.BAD_REQUEST, END_DATE);
+    }
+}
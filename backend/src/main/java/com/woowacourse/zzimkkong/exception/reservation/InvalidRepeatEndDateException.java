@@ -0,0 +1,12 @@
+package com.woowacourse.zzimkkong.exception.reservation;
+
+import com.woowacourse.zzimkkong.exception.InputFieldException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidRepeatEndDateException extends InputFieldException {
+    private static final String MESSAGE = "반복 종료 날짜는 첫 예약 날짜부터 1년 이내로 설정해주세요.";
+
+    public InvalidRepeatEndDateException() {
+        super(MESSAGE, HttpStatus.BAD_REQUEST, REPEAT_END_DATE);
+    }
+}
@@ -0,0 +1,12 @@
+package com.woowacourse.zzimkkong.exception.reservation;
+
+import com.woowacourse.zzimkkong.exception.InputFieldException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidReservationRangeException extends InputFieldException {
+    private static final String MESSAGE = "조회 종료 날짜는 시작 날짜부터 6주 이내로 설정해주세요.";
+
+    public InvalidReservationRangeException() {
+        super(MESSAGE, HttpStatus.BAD_REQUEST, END_DATE);
+    }
+}
@@ -0,0 +1,12 @@
+package com.woowacourse.zzimkkong.exception.reservation;
+
+import com.woowacourse.zzimkkong.exception.InputFieldException;
+import org.springframework.http.HttpStatus;
+
+public class UnsupportedExportFormatException extends InputFieldException {
+    private static final String MESSAGE = "내보내기 형식은 csv 또는 ndjson 중 하나로 설정해주세요.";
+
+    public UnsupportedExportFormatException() {
+        super(MESSAGE, HttpStatus.BAD_REQUEST, FORMAT);
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 
 @Component
 public class BatikConverter implements SvgConverter {
@@ -41,6 +42,23 @@ public class BatikConverter implements SvgConverter {
         }
     }
 
+    public byte[] convertSvgToPng(final String mapSvgData) {
+        try {
+            TranscoderInput transcoderInput = new TranscoderInput(
+                    new ByteArrayInputStream(mapSvgData.getBytes(StandardCharsets.UTF_8)));
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            TranscoderOutput transcoderOutput = new TranscoderOutput(outputStream);
+
+            PNGTranscoder pngTranscoder = new PNGTranscoder();
+            pngTranscoder.transcode(transcoderInput, transcoderOutput);
+
+            return outputStream.toByteArray();
+        } catch (TranscoderException e) {
+            throw new SvgToPngConvertException(e);
+        }
+    }
+
     public String getSaveDirectoryPath() {
         return saveDirectoryPath;
     }
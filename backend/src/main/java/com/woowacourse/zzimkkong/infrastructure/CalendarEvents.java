@@ -0,0 +1,25 @@
+package com.woowacourse.zzimkkong.infrastructure;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Getter
+public class CalendarEvents {
+    private final LocalDate startDate;
+    private final byte[] content;
+    private final String hash;
+    private final Instant renderedAt;
+
+    public CalendarEvents(final LocalDate startDate, final byte[] content, final String hash, final Instant renderedAt) {
+        this.startDate = startDate;
+        this.content = content;
+        this.hash = hash;
+        this.renderedAt = renderedAt;
+    }
+
+    public boolean isRenderedFrom(final LocalDate startDate) {
+        return this.startDate.equals(startDate);
+    }
+}
@@ -0,0 +1,66 @@
+package com.woowacourse.zzimkkong.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.Function;
+
+// 서버마다 따로 들고 있는 캐시이므로 비우는 대신, 그릴 때의 맵 버전을 함께 저장해 두고 꺼낼 때마다 DB의 버전과 비교합니다
+@Component
+public class CalendarFeeds {
+    private static final long MAXIMUM_SIZE = 10_000L;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofHours(1L);
+
+    private final Cache<Long, Entry> spaceEvents = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .recordStats()
+            .build();
+
+    public CalendarEvents findEvents(
+            final Long spaceId,
+            final LocalDate startDate,
+            final String version,
+            final Function<Long, CalendarEvents> renderer) {
+        Entry entry = spaceEvents.get(spaceId, id -> new Entry(version, renderer.apply(id)));
+        if (entry.isRenderedFrom(startDate, version)) {
+            return entry.events;
+        }
+
+        // 날짜가 바뀌어 조회 구간이 밀렸거나 그 사이 예약이 바뀌었으면, 다른 요청이 같은 버전으로 새로 그린 값은 그대로 씁니다
+        return spaceEvents.asMap()
+                .compute(spaceId, (id, current) -> {
+                    if (current != null && current.isRenderedFrom(startDate, version)) {
+                        return current;
+                    }
+                    return new Entry(version, renderer.apply(id));
+                })
+                .events;
+    }
+
+    public CacheStats stats() {
+        return spaceEvents.stats();
+    }
+
+    public void clear() {
+        spaceEvents.invalidateAll();
+    }
+
+    private static class Entry {
+        private final String version;
+        private final CalendarEvents events;
+
+        private Entry(final String version, final CalendarEvents events) {
+            this.version = version;
+            this.events = events;
+        }
+
+        private boolean isRenderedFrom(final LocalDate startDate, final String version) {
+            return events.isRenderedFrom(startDate) && this.version.equals(version);
+        }
+    }
+}
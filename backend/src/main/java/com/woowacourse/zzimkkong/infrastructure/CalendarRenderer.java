@@ -0,0 +1,141 @@
+package com.woowacourse.zzimkkong.infrastructure;
+
+import com.woowacourse.zzimkkong.domain.SpaceSnapshot;
+import com.woowacourse.zzimkkong.repository.ReservationRepository;
+import com.woowacourse.zzimkkong.repository.ReservationRow;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
+
+// RFC 5545 형식의 iCalendar를 만듭니다. 예약은 공간별 VEVENT 묶음으로 그려 두고, 맵이나 공간 캘린더는 묶음을 이어 붙여 만듭니다
+@Component
+public class CalendarRenderer {
+    private static final String PRODUCT_ID = "-//zzimkkong//reservations//KO";
+    private static final String UID_DOMAIN = "@zzimkkong";
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final int MAXIMUM_LINE_OCTETS = 75;
+    private static final DateTimeFormatter UTC_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private final ReservationRepository reservations;
+
+    public CalendarRenderer(final ReservationRepository reservations) {
+        this.reservations = reservations;
+    }
+
+    // 예약을 커서로 읽는 대로 이어 쓰고, 내용이 같으면 다시 그려도 같은 hash가 나오도록 DTSTAMP는 hash에서 뺍니다
+    @Transactional(readOnly = true)
+    public CalendarEvents renderEvents(final SpaceSnapshot space, final LocalDate startDate, final LocalDate endDate) {
+        Instant renderedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        String timestamp = UTC_FORMATTER.format(renderedAt);
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        digest.update(space.getName().getBytes(StandardCharsets.UTF_8));
+
+        StringBuilder events = new StringBuilder();
+        try (Stream<ReservationRow> rows = reservations.streamAllBySpaceIdInAndDateBetween(
+                List.of(space.getId()),
+                startDate,
+                endDate)) {
+            rows.forEach(row -> {
+                StringBuilder event = new StringBuilder();
+                appendLine(event, "UID:reservation-" + row.getId() + UID_DOMAIN);
+                appendLine(event, "DTSTART:" + toUtc(row.getStartTime()));
+                appendLine(event, "DTEND:" + toUtc(row.getEndTime()));
+                appendLine(event, "SUMMARY:" + escape(row.getUserName()));
+                appendLine(event, "LOCATION:" + escape(space.getName()));
+                appendLine(event, "DESCRIPTION:" + escape(row.getDescription()));
+                digest.update(event.toString().getBytes(StandardCharsets.UTF_8));
+
+                appendLine(events, "BEGIN:VEVENT");
+                appendLine(events, "DTSTAMP:" + timestamp);
+                events.append(event);
+                appendLine(events, "END:VEVENT");
+            });
+        }
+
+        return new CalendarEvents(
+                startDate,
+                events.toString().getBytes(StandardCharsets.UTF_8),
+                Hex.encodeHexString(digest.digest()),
+                renderedAt);
+    }
+
+    public byte[] renderCalendar(final String name, final List<CalendarEvents> spaceEvents) {
+        StringBuilder header = new StringBuilder();
+        appendLine(header, "BEGIN:VCALENDAR");
+        appendLine(header, "VERSION:2.0");
+        appendLine(header, "PRODID:" + PRODUCT_ID);
+        appendLine(header, "CALSCALE:GREGORIAN");
+        appendLine(header, "METHOD:PUBLISH");
+        appendLine(header, "X-WR-CALNAME:" + escape(name));
+        StringBuilder footer = new StringBuilder();
+        appendLine(footer, "END:VCALENDAR");
+
+        ByteArrayOutputStream calendar = new ByteArrayOutputStream();
+        calendar.writeBytes(header.toString().getBytes(StandardCharsets.UTF_8));
+        spaceEvents.forEach(events -> calendar.writeBytes(events.getContent()));
+        calendar.writeBytes(footer.toString().getBytes(StandardCharsets.UTF_8));
+        return calendar.toByteArray();
+    }
+
+    private String toUtc(final LocalDateTime dateTime) {
+        return UTC_FORMATTER.format(dateTime.atZone(ZoneId.systemDefault()));
+    }
+
+    private String escape(final String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n")
+                .replace("\r", "\\n");
+    }
+
+    // 한 줄은 75 octet을 넘지 않도록, 글자 중간을 자르지 않고 CRLF와 공백으로 접습니다
+    private void appendLine(final StringBuilder out, final String line) {
+        int octets = 0;
+        int index = 0;
+        while (index < line.length()) {
+            int codePoint = line.codePointAt(index);
+            int length = octetsOf(codePoint);
+            if (octets + length > MAXIMUM_LINE_OCTETS) {
+                out.append(LINE_SEPARATOR).append(' ');
+                octets = 1;
+            }
+            out.appendCodePoint(codePoint);
+            octets += length;
+            index += Character.charCount(codePoint);
+        }
+        out.append(LINE_SEPARATOR);
+    }
+
+    private int octetsOf(final int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        if (codePoint < 0x10000) {
+            return 3;
+        }
+        return 4;
+    }
+}
@@ -1,19 +1,30 @@
 package com.woowacourse.zzimkkong.infrastructure;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.woowacourse.zzimkkong.exception.authorization.InvalidTokenException;
 import com.woowacourse.zzimkkong.exception.authorization.TokenExpiredException;
 import io.jsonwebtoken.*;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtils {
+    private static final long MAXIMUM_VERIFIED_TOKENS = 10_000L;
+
     private final String secretKey;
     private final long validityInMilliseconds;
     private final JwtParser jwtParser;
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_VERIFIED_TOKENS)
+            .expireAfter(new VerifiedTokenExpiry())
+            .build();
 
     public JwtUtils(@Value("${jwt.token.secret-key}") String secretKey,
                     @Value("${jwt.token.expire-length}") long validityInMilliseconds) {
@@ -36,8 +47,22 @@ public class JwtUtils {
     }
 
     public void validateToken(String token) {
+        verify(token);
+    }
+
+    public String getPayload(String token) {
+        return verify(token).subject;
+    }
+
+    private VerifiedToken verify(String token) {
+        // 토큰 원문 대신 해시를 키로 두고, 토큰의 만료 시각까지만 검증 결과를 재사용합니다
+        return verifiedTokens.get(DigestUtils.sha256Hex(token), key -> parse(token));
+    }
+
+    private VerifiedToken parse(String token) {
         try {
-            jwtParser.parseClaimsJws(token);
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            return new VerifiedToken(claims.getSubject(), claims.getExpiration());
         } catch (ExpiredJwtException e) {
             throw new TokenExpiredException();
         } catch (JwtException e) {
@@ -45,10 +70,6 @@ public class JwtUtils {
         }
     }
 
-    public String getPayload(String token) {
-        return jwtParser.parseClaimsJws(token).getBody().getSubject();
-    }
-
     public static PayloadBuilder payloadBuilder() {
         return new PayloadBuilder();
     }
@@ -69,4 +90,35 @@ public class JwtUtils {
             return claims;
         }
     }
+
+    private static class VerifiedToken {
+        private final String subject;
+        private final Date expiration;
+
+        private VerifiedToken(final String subject, final Date expiration) {
+            this.subject = subject;
+            this.expiration = expiration;
+        }
+    }
+
+    private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(final String key, final VerifiedToken value, final long currentTime) {
+            if (value.expiration == null) {
+                return 0L;
+            }
+            long remainingMillis = value.expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final VerifiedToken value, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final VerifiedToken value, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
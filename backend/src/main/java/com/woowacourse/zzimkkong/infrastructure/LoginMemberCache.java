@@ -0,0 +1,59 @@
+package com.woowacourse.zzimkkong.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.woowacourse.zzimkkong.domain.Member;
+import com.woowacourse.zzimkkong.exception.member.NoSuchMemberException;
+import com.woowacourse.zzimkkong.repository.MemberRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+@Component
+public class LoginMemberCache {
+    private static final long MAXIMUM_SIZE = 10_000L;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(1L);
+
+    private final MemberRepository members;
+    private final Cache<String, Long> memberIds = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .build();
+
+    public LoginMemberCache(final MemberRepository members) {
+        this.members = members;
+    }
+
+    public Member findMember(final String email) {
+        Long memberId = memberIds.get(email, key -> members.findByEmail(key)
+                .map(Member::getId)
+                .orElse(null));
+        if (memberId == null) {
+            throw new NoSuchMemberException();
+        }
+
+        // 이메일 조회만 캐싱하고, 프록시가 아닌 실제 엔티티를 기본 키로 읽어 넘깁니다. 그 사이 탈퇴했다면 찾을 수 없습니다
+        return members.findById(memberId)
+                .orElseThrow(NoSuchMemberException::new);
+    }
+
+    public void evict(final String email) {
+        memberIds.invalidate(email);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                memberIds.invalidate(email);
+            }
+        });
+    }
+
+    public void clear() {
+        memberIds.invalidateAll();
+    }
+}
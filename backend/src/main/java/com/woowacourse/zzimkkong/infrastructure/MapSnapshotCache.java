@@ -0,0 +1,71 @@
+package com.woowacourse.zzimkkong.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.woowacourse.zzimkkong.domain.MapSnapshot;
+import com.woowacourse.zzimkkong.exception.map.NoSuchMapException;
+import com.woowacourse.zzimkkong.repository.MapRepository;
+import com.woowacourse.zzimkkong.repository.SpaceRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+@Component
+public class MapSnapshotCache {
+    private static final long MAXIMUM_SIZE = 1_000L;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10L);
+
+    private final MapRepository maps;
+    private final SpaceRepository spaces;
+    private final Cache<Long, MapSnapshot> snapshots = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .recordStats()
+            .build();
+
+    public MapSnapshotCache(final MapRepository maps, final SpaceRepository spaces) {
+        this.maps = maps;
+        this.spaces = spaces;
+    }
+
+    public MapSnapshot findMap(final Long mapId) {
+        // 맵 그림(@Lob)은 예약에 필요 없으므로, 소유자와 공간 설정만 따로 읽어 옵니다
+        MapSnapshot mapSnapshot = snapshots.get(mapId, key -> maps.findSummaryById(key)
+                .map(summary -> MapSnapshot.of(
+                        summary.getId(),
+                        summary.getName(),
+                        summary.getMemberId(),
+                        spaces.findAllByMapIdOrderByIdAsc(key)))
+                .orElse(null));
+        if (mapSnapshot == null) {
+            throw new NoSuchMapException();
+        }
+        return mapSnapshot;
+    }
+
+    public void evict(final Long mapId) {
+        snapshots.invalidate(mapId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        // 커밋 전에 다른 요청이 이전 상태를 다시 캐싱할 수 있으므로, 커밋 이후에 한 번 더 비웁니다
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                snapshots.invalidate(mapId);
+            }
+        });
+    }
+
+    public CacheStats stats() {
+        return snapshots.stats();
+    }
+
+    public void clear() {
+        snapshots.invalidateAll();
+    }
+}
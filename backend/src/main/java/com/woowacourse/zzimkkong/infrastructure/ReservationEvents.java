@@ -0,0 +1,175 @@
+package com.woowacourse.zzimkkong.infrastructure;
+
+import com.woowacourse.zzimkkong.domain.ReservationChange;
+import com.woowacourse.zzimkkong.dto.reservation.ReservationEventResponse;
+import com.woowacourse.zzimkkong.repository.ReservationChangeRepository;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class ReservationEvents {
+    private static final int BUFFER_SIZE = 256;
+    private static final int POLL_SIZE = 100;
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(30L);
+    private static final Duration CONNECTION_TIMEOUT = Duration.ofMinutes(30L);
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(3L);
+    private static final String CONNECTED = "connected";
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final ConcurrentMap<Key, Channel> channels = new ConcurrentHashMap<>();
+    // 맵마다 마지막으로 내보낸 변경 번호입니다. 구독자가 있는 맵만 가지고 있습니다
+    private final ConcurrentMap<Long, Long> lastSequences = new ConcurrentHashMap<>();
+    private final ReservationChangeRepository reservationChanges;
+    private final Duration connectionTimeout;
+    // 구독자마다 타이머를 두지 않도록 하나의 하트비트를 나눠 씁니다
+    private final Flux<ServerSentEvent<ReservationEventResponse>> heartbeats = Flux.interval(HEARTBEAT_INTERVAL)
+            .map(tick -> ServerSentEvent.<ReservationEventResponse>builder().comment(HEARTBEAT).build())
+            .share();
+
+    @Autowired
+    public ReservationEvents(final ReservationChangeRepository reservationChanges) {
+        this(reservationChanges, CONNECTION_TIMEOUT);
+    }
+
+    ReservationEvents(final ReservationChangeRepository reservationChanges, final Duration connectionTimeout) {
+        this.reservationChanges = reservationChanges;
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    public Flux<ServerSentEvent<ReservationEventResponse>> subscribe(final Long mapId, final LocalDate date) {
+        Key key = new Key(mapId, date);
+        return Flux.defer(() -> {
+            Channel channel = join(key);
+            try {
+                startFollowing(mapId);
+            } catch (RuntimeException exception) {
+                leave(key);
+                throw exception;
+            }
+            Sinks.Empty<Void> overflow = Sinks.empty();
+            Flux<ServerSentEvent<ReservationEventResponse>> events = channel.sink.asFlux()
+                    .onBackpressureBuffer(BUFFER_SIZE, dropped -> overflow.tryEmitEmpty(), BufferOverflowStrategy.DROP_LATEST)
+                    .map(event -> ServerSentEvent.builder(event)
+                            .event(event.getType().name().toLowerCase(Locale.ROOT))
+                            .build());
+
+            return Flux.merge(events, heartbeats.onBackpressureDrop())
+                    .startWith(ServerSentEvent.<ReservationEventResponse>builder()
+                            .comment(CONNECTED)
+                            .retry(RECONNECT_DELAY)
+                            .build())
+                    // 버퍼가 넘칠 만큼 느린 구독자는 연결을 끊어 메모리를 지키고, 다시 연결해 새로 조회하게 합니다
+                    .takeUntilOther(overflow.asMono())
+                    // 스트리밍 응답에는 컨테이너의 async 타임아웃이 걸리지 않으므로, 하트비트보다 충분히 긴 연결 시간을 직접 정합니다
+                    .take(connectionTimeout)
+                    .doFinally(signal -> leave(key));
+        });
+    }
+
+    // 예약은 어느 서버에서든 바뀔 수 있으므로, 서버마다 커밋된 변경 내역을 읽어 자기 구독자에게 나눠줍니다
+    @Scheduled(fixedDelayString = "${reservation.events.poll-delay:1000}")
+    public void poll() {
+        lastSequences.keySet().removeIf(mapId -> !hasSubscribers(mapId));
+        lastSequences.forEach(this::publishChangesSince);
+    }
+
+    public int countSubscribers(final Long mapId, final LocalDate date) {
+        Channel channel = channels.get(new Key(mapId, date));
+        if (channel == null) {
+            return 0;
+        }
+        return channel.subscribers;
+    }
+
+    private void startFollowing(final Long mapId) {
+        if (lastSequences.containsKey(mapId)) {
+            return;
+        }
+
+        // 구독하기 전의 변경은 처음 조회한 예약에 담겨 있으므로, 지금 이후의 변경부터 내보냅니다
+        Long lastSequence = reservationChanges.findLastSequenceByMapId(mapId).orElse(0L);
+        lastSequences.putIfAbsent(mapId, lastSequence);
+    }
+
+    private void publishChangesSince(final Long mapId, final Long lastSequence) {
+        Long sequence = lastSequence;
+        List<ReservationChange> changes;
+        do {
+            // 맵의 변경 번호는 커밋 순서대로 붙으므로, 번호 순서대로 읽으면 빠지는 변경이 없습니다
+            changes = reservationChanges.findAllByMapIdAndSequenceGreaterThanOrderBySequenceAsc(
+                    mapId,
+                    sequence,
+                    PageRequest.of(0, POLL_SIZE));
+            for (ReservationChange change : changes) {
+                publish(new Key(mapId, change.getDate()), ReservationEventResponse.from(change));
+                sequence = change.getSequence();
+            }
+        } while (changes.size() == POLL_SIZE);
+        lastSequences.replace(mapId, lastSequence, sequence);
+    }
+
+    private void publish(final Key key, final ReservationEventResponse event) {
+        Channel channel = channels.get(key);
+        if (channel == null) {
+            return;
+        }
+
+        synchronized (channel) {
+            channel.sink.tryEmitNext(event);
+        }
+    }
+
+    private boolean hasSubscribers(final Long mapId) {
+        return channels.keySet().stream()
+                .anyMatch(key -> key.mapId.equals(mapId));
+    }
+
+    private Channel join(final Key key) {
+        return channels.compute(key, (ignored, channel) -> {
+            Channel joined = channel == null ? new Channel() : channel;
+            joined.subscribers++;
+            return joined;
+        });
+    }
+
+    private void leave(final Key key) {
+        channels.computeIfPresent(key, (ignored, channel) -> {
+            channel.subscribers--;
+            if (channel.subscribers == 0) {
+                return null;
+            }
+            return channel;
+        });
+    }
+
+    private static class Channel {
+        // 버퍼는 구독자마다 두므로, 싱크는 요청이 없는 구독자를 기다리지 않고 바로 넘깁니다
+        private final Sinks.Many<ReservationEventResponse> sink = Sinks.many().multicast().directBestEffort();
+        private volatile int subscribers;
+    }
+
+    @EqualsAndHashCode
+    private static class Key {
+        private final Long mapId;
+        private final LocalDate date;
+
+        private Key(final Long mapId, final LocalDate date) {
+            this.mapId = mapId;
+            this.date = date;
+        }
+    }
+}
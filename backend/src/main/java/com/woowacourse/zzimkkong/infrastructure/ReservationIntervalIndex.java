@@ -0,0 +1,87 @@
+package com.woowacourse.zzimkkong.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.woowacourse.zzimkkong.domain.Reservation;
+import com.woowacourse.zzimkkong.domain.ReservationIntervals;
+import com.woowacourse.zzimkkong.domain.SpaceDate;
+import com.woowacourse.zzimkkong.repository.ReservationInterval;
+import com.woowacourse.zzimkkong.repository.ReservationRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Component
+public class ReservationIntervalIndex {
+    private static final long MAXIMUM_SIZE = 10_000L;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofSeconds(30L);
+
+    private final ReservationRepository reservations;
+    private final Cache<SpaceDate, ReservationIntervals> intervals = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .build();
+
+    public ReservationIntervalIndex(final ReservationRepository reservations) {
+        this.reservations = reservations;
+    }
+
+    // 다른 노드의 쓰기나 커밋 전에 읽은 값이 섞일 수 있으므로, 겹침을 빨리 거절하는 데만 쓰고 최종 판단에는 쓰지 않습니다
+    public Optional<ReservationIntervals> findCachedIntervals(final Long spaceId, final LocalDate date) {
+        return Optional.ofNullable(intervals.getIfPresent(new SpaceDate(spaceId, date)));
+    }
+
+    // 공간 row lock을 잡은 뒤에만 호출해야 합니다. lock 이후에 DB에서 읽은 값이므로 겹침 검사의 기준이 되고, 캐시도 이 값으로 채웁니다
+    // 다른 노드의 쓰기는 캐시에 없으므로 매번 다시 읽되, 엔티티 대신 예약 시간만 읽습니다
+    public ReservationIntervals loadIntervals(final Long spaceId, final LocalDate date) {
+        ReservationIntervals reservationIntervals = ReservationIntervals.from(
+                reservations.findIntervalsBySpaceIdAndDate(spaceId, date),
+                ReservationInterval::getId,
+                ReservationInterval::getStartTime,
+                ReservationInterval::getEndTime);
+        intervals.put(new SpaceDate(spaceId, date), reservationIntervals);
+        return reservationIntervals;
+    }
+
+    public void add(final Reservation reservation) {
+        SpaceDate key = SpaceDate.from(reservation);
+        invalidateOnRollback(key);
+        intervals.asMap().computeIfPresent(
+                key,
+                (ignored, reservationIntervals) -> reservationIntervals.with(
+                        reservation.getId(),
+                        reservation.getStartTime(),
+                        reservation.getEndTime()));
+    }
+
+    public void remove(final Reservation reservation) {
+        SpaceDate key = SpaceDate.from(reservation);
+        invalidateOnRollback(key);
+        intervals.asMap().computeIfPresent(
+                key,
+                (ignored, reservationIntervals) -> reservationIntervals.without(reservation.getId()));
+    }
+
+    public void clear() {
+        intervals.invalidateAll();
+    }
+
+    private void invalidateOnRollback(final SpaceDate key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status != STATUS_COMMITTED) {
+                    intervals.invalidate(key);
+                }
+            }
+        });
+    }
+}
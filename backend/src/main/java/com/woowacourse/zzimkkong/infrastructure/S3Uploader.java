@@ -2,12 +2,15 @@ package com.woowacourse.zzimkkong.infrastructure;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.internal.Mimetypes;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.woowacourse.zzimkkong.exception.infrastructure.S3UploadException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 
 @Component
@@ -43,11 +46,33 @@ public class S3Uploader implements StorageUploader {
         }
     }
 
+    @Override
+    public String upload(final String directoryName, final String fileName, final byte[] content) {
+        String key = directoryName + PATH_DELIMITER + fileName;
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        metadata.setContentType(Mimetypes.getInstance().getMimetype(fileName));
+
+        try {
+            amazonS3.putObject(new PutObjectRequest(bucketName, key, new ByteArrayInputStream(content), metadata));
+            return replaceUrl(amazonS3.getUrl(bucketName, key).toString(), urlReplacement);
+        } catch (AmazonClientException exception) {
+            throw new S3UploadException(exception);
+        }
+    }
+
     private String putS3(final File uploadFile, final String fileName) {
         amazonS3.putObject(new PutObjectRequest(bucketName, fileName, uploadFile));
         return amazonS3.getUrl(bucketName, fileName).toString();
     }
 
+    @Override
+    public String getUrl(final String directoryName, final String fileName) {
+        String resourceUrl = amazonS3.getUrl(bucketName, directoryName + PATH_DELIMITER + fileName).toString();
+        return replaceUrl(resourceUrl, urlReplacement);
+    }
+
     private String replaceUrl(final String origin, final String replacement) {
         return origin.replace(s3DomainUrl, replacement);
     }
@@ -0,0 +1,43 @@
+package com.woowacourse.zzimkkong.infrastructure;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Component
+public class SlackWebhookClient {
+    private static final int MAXIMUM_CONNECTIONS = 10;
+    private static final int CONNECT_TIMEOUT_MILLIS = 3_000;
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(5L);
+
+    private final WebClient webClient;
+
+    public SlackWebhookClient() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("slack-webhook")
+                .maxConnections(MAXIMUM_CONNECTIONS)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECT_TIMEOUT_MILLIS)
+                .responseTimeout(RESPONSE_TIMEOUT);
+
+        this.webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    public void send(final String webhookUrl, final String payload) {
+        webClient.post()
+                .uri(webhookUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(payload)
+                .retrieve()
+                .toBodilessEntity()
+                .block(RESPONSE_TIMEOUT.multipliedBy(2L));
+    }
+}
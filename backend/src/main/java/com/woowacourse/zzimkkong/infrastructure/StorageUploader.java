@@ -5,5 +5,9 @@ import java.io.File;
 public interface StorageUploader {
     String upload(final String directoryName, final File uploadFile);
 
+    String upload(final String directoryName, final String fileName, final byte[] content);
+
+    String getUrl(final String directoryName, final String fileName);
+
     void delete(final String directoryName, final String fileName);
 }
@@ -4,4 +4,6 @@ import java.io.File;
 
 public interface SvgConverter {
     File convertSvgToPngFile(final String mapSvgData, final String fileName);
+
+    byte[] convertSvgToPng(final String mapSvgData);
 }
@@ -1,9 +1,20 @@
 package com.woowacourse.zzimkkong.infrastructure;
 
 import com.woowacourse.zzimkkong.domain.Map;
+import com.woowacourse.zzimkkong.repository.MapRepository;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.io.File;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 @Component
 public class ThumbnailManager {
@@ -11,30 +22,129 @@ public class ThumbnailManager {
     public static final String THUMBNAIL_EXTENSION = ".png";
     private static final String THUMBNAIL_FILE_FORMAT = "%s";
 
+    private final Logger logger = LoggerFactory.getLogger(ThumbnailManager.class);
+
     private final SvgConverter svgConverter;
     private final StorageUploader storageUploader;
+    private final MapRepository maps;
+    private final Executor thumbnailExecutor;
+
+    private final java.util.Map<Long, String> pendingSvgs = new HashMap<>();
+    private final Set<Long> scheduledMapIds = new HashSet<>();
 
-    public ThumbnailManager(final SvgConverter svgConverter, final StorageUploader storageUploader) {
+    public ThumbnailManager(
+            final SvgConverter svgConverter,
+            final StorageUploader storageUploader,
+            final MapRepository maps,
+            @Qualifier("thumbnailExecutor") final Executor thumbnailExecutor) {
         this.svgConverter = svgConverter;
         this.storageUploader = storageUploader;
+        this.maps = maps;
+        this.thumbnailExecutor = thumbnailExecutor;
     }
 
+    // 해시는 업로드까지 성공한 뒤에만 저장하므로, 렌더링이 실패했거나 서버가 바뀌어도 같은 SVG로 다시 시도할 수 있습니다
     public String uploadMapThumbnail(final String svgData, final Map map) {
-        String fileName = makeThumbnailFileName(map);
-        File pngFile = svgConverter.convertSvgToPngFile(svgData, fileName);
+        Long mapId = map.getId();
+        // 기다리거나 렌더링 중인 SVG가 있으면 저장된 해시는 곧 바뀌므로, 같은 해시라도 다시 렌더링합니다
+        if (map.hasSameThumbnailHash(hash(svgData)) && !isScheduled(mapId)) {
+            return getThumbnailUrl(map);
+        }
 
-        String thumbnailUrl = storageUploader.upload(THUMBNAILS_DIRECTORY_NAME, pngFile);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            schedule(mapId, svgData);
+            return getThumbnailUrl(map);
+        }
 
-        pngFile.delete();
-        return thumbnailUrl;
+        // 트랜잭션이 커밋된 뒤에만 렌더링하고, 요청 스레드는 S3 업로드를 기다리지 않습니다
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                schedule(mapId, svgData);
+            }
+        });
+        return getThumbnailUrl(map);
     }
 
     public void deleteThumbnail(final Map map) {
-        String fileName = makeThumbnailFileName(map);
+        cancelPendingSvg(map.getId());
+        String fileName = makeThumbnailFileName(map.getId());
         storageUploader.delete(THUMBNAILS_DIRECTORY_NAME, fileName + THUMBNAIL_EXTENSION);
     }
 
-    private String makeThumbnailFileName(final Map map) {
-        return String.format(THUMBNAIL_FILE_FORMAT, map.getId().toString());
+    private String hash(final String svgData) {
+        // 공간 설정만 바뀐 경우 SVG가 그대로이므로, 줄바꿈과 앞뒤 공백 차이는 같은 그림으로 봅니다
+        String normalizedSvgData = svgData.strip().replace("\r\n", "\n");
+        return DigestUtils.sha256Hex(normalizedSvgData);
+    }
+
+    private String getThumbnailUrl(final Map map) {
+        return storageUploader.getUrl(THUMBNAILS_DIRECTORY_NAME, makeThumbnailFileName(map.getId()) + THUMBNAIL_EXTENSION);
+    }
+
+    private void schedule(final Long mapId, final String svgData) {
+        if (!enqueue(mapId, svgData)) {
+            return;
+        }
+
+        try {
+            thumbnailExecutor.execute(() -> renderPendingThumbnails(mapId));
+        } catch (RejectedExecutionException exception) {
+            cancelPendingSvg(mapId);
+            logger.warn("썸네일 작업 큐가 가득 차서 맵 {}의 썸네일을 만들지 못했습니다.", mapId);
+        }
+    }
+
+    private void renderPendingThumbnails(final Long mapId) {
+        // 렌더링 중에 들어온 수정은 모아 두었다가, 가장 마지막 SVG 하나만 다시 렌더링합니다
+        String svgData;
+        while ((svgData = takePendingSvg(mapId)) != null) {
+            render(mapId, svgData);
+        }
+    }
+
+    private void render(final Long mapId, final String svgData) {
+        // 기다리는 동안 맵이 삭제됐다면 렌더링하지 않습니다
+        if (!maps.existsById(mapId)) {
+            return;
+        }
+
+        try {
+            byte[] png = svgConverter.convertSvgToPng(svgData);
+            String fileName = makeThumbnailFileName(mapId) + THUMBNAIL_EXTENSION;
+            storageUploader.upload(THUMBNAILS_DIRECTORY_NAME, fileName, png);
+            // 렌더링하는 사이에 맵이 삭제됐다면 해시를 저장할 맵이 없으므로, 방금 올린 썸네일을 다시 지웁니다
+            if (maps.updateThumbnailHash(mapId, hash(svgData)) == 0) {
+                storageUploader.delete(THUMBNAILS_DIRECTORY_NAME, fileName);
+            }
+        } catch (RuntimeException exception) {
+            logger.warn("맵 {}의 썸네일을 만들지 못했습니다.", mapId, exception);
+        }
+    }
+
+    private synchronized boolean isScheduled(final Long mapId) {
+        return scheduledMapIds.contains(mapId);
+    }
+
+    private synchronized boolean enqueue(final Long mapId, final String svgData) {
+        pendingSvgs.put(mapId, svgData);
+        return scheduledMapIds.add(mapId);
+    }
+
+    private synchronized String takePendingSvg(final Long mapId) {
+        String svgData = pendingSvgs.remove(mapId);
+        if (svgData == null) {
+            scheduledMapIds.remove(mapId);
+        }
+        return svgData;
+    }
+
+    private synchronized void cancelPendingSvg(final Long mapId) {
+        pendingSvgs.remove(mapId);
+        scheduledMapIds.remove(mapId);
+    }
+
+    private String makeThumbnailFileName(final Long mapId) {
+        return String.format(THUMBNAIL_FILE_FORMAT, mapId.toString());
     }
 }
@@ -8,8 +8,8 @@ import com.woowacourse.zzimkkong.exception.infrastructure.oauth.UnableToGetToken
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
@@ -27,8 +27,8 @@ public class GithubRequester implements OauthAPIRequester {
             final String githubOpenApiUrl) {
         this.clientId = clientId;
         this.secretId = secretId;
-        this.githubOauthLoginClient = githubOauthLoginClient(githubOauthUrl);
-        this.githubOpenApiClient = githubOpenApiClient(githubOpenApiUrl);
+        this.githubOauthLoginClient = OauthWebClients.create(githubOauthUrl);
+        this.githubOpenApiClient = OauthWebClients.create(githubOpenApiUrl);
     }
 
     @Override
@@ -37,13 +37,13 @@ public class GithubRequester implements OauthAPIRequester {
     }
 
     @Override
-    public OauthUserInfo getUserInfoByCode(final String code) {
-        String token = getToken(code);
-        return getUserInfo(token);
+    public Mono<OauthUserInfo> getUserInfoByCode(final String code) {
+        return getToken(code)
+                .flatMap(this::getUserInfo);
     }
 
-    private String getToken(final String code) {
-        Map<String, Object> responseBody = githubOauthLoginClient
+    private Mono<String> getToken(final String code) {
+        return githubOauthLoginClient
                 .post()
                 .uri(uriBuilder -> uriBuilder
                         .path("/access_token")
@@ -54,10 +54,11 @@ public class GithubRequester implements OauthAPIRequester {
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
                 })
-                .blockOptional()
-                .orElseThrow(UnableToGetTokenResponseFromGithubException::new);
-        validateResponseBody(responseBody);
-        return responseBody.get("access_token").toString();
+                .switchIfEmpty(Mono.error(UnableToGetTokenResponseFromGithubException::new))
+                .map(responseBody -> {
+                    validateResponseBody(responseBody);
+                    return responseBody.get("access_token").toString();
+                });
     }
 
     private void validateResponseBody(Map<String, Object> responseBody) {
@@ -66,31 +67,15 @@ public class GithubRequester implements OauthAPIRequester {
         }
     }
 
-    private OauthUserInfo getUserInfo(final String token) {
-        Map<String, Object> responseBody = githubOpenApiClient
+    private Mono<OauthUserInfo> getUserInfo(final String token) {
+        return githubOpenApiClient
                 .get()
                 .uri("/user")
                 .header(HttpHeaders.AUTHORIZATION, "token " + token)
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
                 })
-                .blockOptional()
-                .orElseThrow(UnableToGetTokenResponseFromGithubException::new);
-
-        return GithubUserInfo.from(responseBody);
-    }
-
-    private WebClient githubOauthLoginClient(String githubOauthUrl) {
-        return WebClient.builder()
-                .baseUrl(githubOauthUrl)
-                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                .build();
-    }
-
-    private WebClient githubOpenApiClient(String githubOpenApiUrl) {
-        return WebClient.builder()
-                .baseUrl(githubOpenApiUrl)
-                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                .build();
+                .switchIfEmpty(Mono.error(UnableToGetTokenResponseFromGithubException::new))
+                .map(GithubUserInfo::from);
     }
 }
@@ -7,10 +7,10 @@ import com.woowacourse.zzimkkong.exception.infrastructure.oauth.UnableToGetToken
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
@@ -22,8 +22,8 @@ public class GoogleRequester implements OauthAPIRequester {
     private final String clientId;
     private final String secretId;
     private final String redirectUri;
-    private final String baseLoginUri;
-    private final String baseUserUri;
+    private final WebClient googleOauthLoginClient;
+    private final WebClient googleUserClient;
 
     public GoogleRequester(
             @Value("${google.client-id}") final String clientId,
@@ -34,8 +34,8 @@ public class GoogleRequester implements OauthAPIRequester {
         this.clientId = clientId;
         this.secretId = secretId;
         this.redirectUri = redirectUri;
-        this.baseLoginUri = baseLoginUri;
-        this.baseUserUri = baseUserUri;
+        this.googleOauthLoginClient = OauthWebClients.create(baseLoginUri);
+        this.googleUserClient = OauthWebClients.create(baseUserUri);
     }
 
     @Override
@@ -44,13 +44,13 @@ public class GoogleRequester implements OauthAPIRequester {
     }
 
     @Override
-    public OauthUserInfo getUserInfoByCode(final String code) {
-        String token = getToken(code);
-        return getUserInfo(token);
+    public Mono<OauthUserInfo> getUserInfoByCode(final String code) {
+        return getToken(code)
+                .flatMap(this::getUserInfo);
     }
 
-    private String getToken(final String code) {
-        Map<String, Object> responseBody = googleOauthLoginClient()
+    private Mono<String> getToken(final String code) {
+        return googleOauthLoginClient
                 .post()
                 .uri(uriBuilder -> uriBuilder
                         .queryParam("code", code)
@@ -66,36 +66,18 @@ public class GoogleRequester implements OauthAPIRequester {
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
                 })
-                .blockOptional()
-                .orElseThrow(UnableToGetTokenResponseFromGoogleException::new);
-
-        return responseBody.get("access_token").toString();
+                .switchIfEmpty(Mono.error(UnableToGetTokenResponseFromGoogleException::new))
+                .map(responseBody -> responseBody.get("access_token").toString());
     }
 
-    private GoogleUserInfo getUserInfo(final String token) {
-        Map<String, Object> responseBody = googleUserClient()
+    private Mono<OauthUserInfo> getUserInfo(final String token) {
+        return googleUserClient
                 .get()
                 .headers(httpHeaders -> httpHeaders.setBearerAuth(token))
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
                 })
-                .blockOptional()
-                .orElseThrow(UnableToGetTokenResponseFromGoogleException::new);
-
-        return GoogleUserInfo.from(responseBody);
-    }
-
-    private WebClient googleOauthLoginClient() {
-        return WebClient.builder()
-                .baseUrl(baseLoginUri)
-                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                .build();
-    }
-
-    private WebClient googleUserClient() {
-        return WebClient.builder()
-                .baseUrl(baseUserUri)
-                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                .build();
+                .switchIfEmpty(Mono.error(UnableToGetTokenResponseFromGoogleException::new))
+                .map(GoogleUserInfo::from);
     }
 }
@@ -2,9 +2,10 @@ package com.woowacourse.zzimkkong.infrastructure.oauth;
 
 import com.woowacourse.zzimkkong.domain.OauthProvider;
 import com.woowacourse.zzimkkong.domain.oauth.OauthUserInfo;
+import reactor.core.publisher.Mono;
 
 public interface OauthAPIRequester {
     boolean supports(OauthProvider oauthProvider);
 
-    OauthUserInfo getUserInfoByCode(String code);
+    Mono<OauthUserInfo> getUserInfoByCode(String code);
 }
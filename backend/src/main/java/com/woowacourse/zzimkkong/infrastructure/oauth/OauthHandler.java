@@ -3,21 +3,43 @@ package com.woowacourse.zzimkkong.infrastructure.oauth;
 import com.woowacourse.zzimkkong.domain.OauthProvider;
 import com.woowacourse.zzimkkong.domain.oauth.OauthUserInfo;
 import com.woowacourse.zzimkkong.exception.infrastructure.UnsupportedOauthProviderException;
+import com.woowacourse.zzimkkong.exception.infrastructure.oauth.OauthProviderTimeoutException;
+import com.woowacourse.zzimkkong.exception.infrastructure.oauth.OauthRequestLimitExceededException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
 
 @Component
 public class OauthHandler {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10L);
+
     private final List<OauthAPIRequester> oauthAPIRequesters;
+    private final Semaphore bulkhead;
 
-    public OauthHandler(final List<OauthAPIRequester> oauthAPIRequesters) {
+    public OauthHandler(
+            final List<OauthAPIRequester> oauthAPIRequesters,
+            @Value("${oauth.bulkhead.max-concurrent-requests:50}") final int maximumConcurrentRequests) {
         this.oauthAPIRequesters = oauthAPIRequesters;
+        this.bulkhead = new Semaphore(maximumConcurrentRequests);
     }
 
-    public OauthUserInfo getUserInfoFromCode(final OauthProvider oauthProvider, final String code) {
+    public Mono<OauthUserInfo> getUserInfoFromCode(final OauthProvider oauthProvider, final String code) {
         OauthAPIRequester requester = getRequester(oauthProvider);
-        return requester.getUserInfoByCode(code);
+        return Mono.defer(() -> {
+            // 제공자가 느려져도 동시에 기다리는 요청 수를 제한해서, 넘치는 요청은 바로 실패시킵니다
+            if (!bulkhead.tryAcquire()) {
+                return Mono.error(new OauthRequestLimitExceededException());
+            }
+            return Mono.defer(() -> requester.getUserInfoByCode(code))
+                    .timeout(TIMEOUT)
+                    .onErrorMap(TimeoutException.class, OauthProviderTimeoutException::new)
+                    .doFinally(signalType -> bulkhead.release());
+        });
     }
 
     private OauthAPIRequester getRequester(final OauthProvider oauthProvider) {
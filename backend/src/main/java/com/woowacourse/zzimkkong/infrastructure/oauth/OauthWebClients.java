@@ -0,0 +1,41 @@
+package com.woowacourse.zzimkkong.infrastructure.oauth;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+final class OauthWebClients {
+    private static final int MAXIMUM_CONNECTIONS = 50;
+    private static final int MAXIMUM_PENDING_ACQUIRES = 100;
+    private static final Duration PENDING_ACQUIRE_TIMEOUT = Duration.ofSeconds(2L);
+    private static final Duration MAXIMUM_IDLE_TIME = Duration.ofSeconds(30L);
+    private static final int CONNECT_TIMEOUT_MILLIS = 3_000;
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(5L);
+
+    // 모든 Oauth 제공자 요청이 하나의 커넥션 풀을 나눠 씁니다
+    private static final HttpClient HTTP_CLIENT = HttpClient.create(ConnectionProvider.builder("oauth")
+                    .maxConnections(MAXIMUM_CONNECTIONS)
+                    .pendingAcquireMaxCount(MAXIMUM_PENDING_ACQUIRES)
+                    .pendingAcquireTimeout(PENDING_ACQUIRE_TIMEOUT)
+                    .maxIdleTime(MAXIMUM_IDLE_TIME)
+                    .build())
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECT_TIMEOUT_MILLIS)
+            .responseTimeout(RESPONSE_TIMEOUT);
+
+    private OauthWebClients() {
+    }
+
+    static WebClient create(final String baseUrl) {
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HTTP_CLIENT))
+                .baseUrl(baseUrl)
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.woowacourse.zzimkkong.repository;
+
+import org.hibernate.QueryException;
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.Type;
+
+import java.util.List;
+
+// HQL에는 비트 연산자가 없으므로 bitand(a, b)를 등록해 둔다. MySQL은 &, 테스트에서 쓰는 H2는 BITAND로 그린다
+public class BitAndFunctionContributor implements MetadataBuilderContributor {
+    public static final String FUNCTION_NAME = "bitand";
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(FUNCTION_NAME, new BitAndFunction());
+    }
+
+    private static class BitAndFunction implements SQLFunction {
+        @Override
+        public boolean hasArguments() {
+            return true;
+        }
+
+        @Override
+        public boolean hasParenthesesIfNoArguments() {
+            return true;
+        }
+
+        @Override
+        public Type getReturnType(final Type firstArgumentType, final Mapping mapping) {
+            return IntegerType.INSTANCE;
+        }
+
+        @Override
+        public String render(
+                final Type firstArgumentType,
+                final List arguments,
+                final SessionFactoryImplementor factory) {
+            if (arguments.size() != 2) {
+                throw new QueryException(FUNCTION_NAME + "는 인자를 두 개 받습니다");
+            }
+
+            if (factory.getJdbcServices().getDialect() instanceof H2Dialect) {
+                return "BITAND(" + arguments.get(0) + ", " + arguments.get(1) + ")";
+            }
+            return "(" + arguments.get(0) + " & " + arguments.get(1) + ")";
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.woowacourse.zzimkkong.repository;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+final class JdbcCalendars {
+    private JdbcCalendars() {
+    }
+
+    // Hibernate가 바인딩하는 것과 같은 jdbc time zone을 사용해야 조회 시 시간이 어긋나지 않습니다
+    static Calendar of(final Session session) {
+        TimeZone jdbcTimeZone = ((SessionFactoryImplementor) session.getSessionFactory())
+                .getSessionFactoryOptions()
+                .getJdbcTimeZone();
+        if (jdbcTimeZone == null) {
+            return Calendar.getInstance();
+        }
+        return Calendar.getInstance(jdbcTimeZone);
+    }
+}
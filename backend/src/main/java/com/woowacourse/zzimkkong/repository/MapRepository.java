@@ -3,9 +3,42 @@ package com.woowacourse.zzimkkong.repository;
 import com.woowacourse.zzimkkong.domain.Map;
 import com.woowacourse.zzimkkong.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
 
 public interface MapRepository extends JpaRepository<Map, Long> {
     List<Map> findAllByMember(final Member member);
+
+    @Query("SELECT m.id AS id, m.name AS name, m.member.id AS memberId FROM Map m WHERE m.id = :mapId")
+    Optional<MapSummary> findSummaryById(@Param("mapId") final Long mapId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Map m SET m.thumbnailHash = :thumbnailHash WHERE m.id = :mapId")
+    int updateThumbnailHash(@Param("mapId") final Long mapId, @Param("thumbnailHash") final String thumbnailHash);
+
+    @Query("SELECT m.spaceVersion FROM Map m WHERE m.id = :mapId")
+    Optional<Long> findSpaceVersionById(@Param("mapId") final Long mapId);
+
+    // 캘린더 피드는 요청마다 이 버전을 기본 키로 읽어, 다른 노드에서 바뀐 예약이나 공간도 캐시에 남지 않게 합니다
+    @Query("SELECT m.spaceVersion AS spaceVersion, m.spaceModifiedAt AS spaceModifiedAt, " +
+            "s.lastSequence AS lastSequence, s.modifiedAt AS reservationModifiedAt " +
+            "FROM Map m LEFT JOIN ReservationChangeSequence s ON s.mapId = m.id " +
+            "WHERE m.id = :mapId")
+    Optional<MapVersion> findVersionById(@Param("mapId") final Long mapId);
+
+    default int increaseSpaceVersion(final Long mapId) {
+        return increaseSpaceVersion(mapId, LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    @Modifying
+    @Query("UPDATE Map m SET m.spaceVersion = m.spaceVersion + 1, m.spaceModifiedAt = :modifiedAt WHERE m.id = :mapId")
+    int increaseSpaceVersion(@Param("mapId") final Long mapId, @Param("modifiedAt") final LocalDateTime modifiedAt);
 }
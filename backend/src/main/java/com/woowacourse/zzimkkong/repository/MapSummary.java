@@ -0,0 +1,9 @@
+package com.woowacourse.zzimkkong.repository;
+
+public interface MapSummary {
+    Long getId();
+
+    String getName();
+
+    Long getMemberId();
+}
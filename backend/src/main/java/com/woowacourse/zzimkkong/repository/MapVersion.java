@@ -0,0 +1,13 @@
+package com.woowacourse.zzimkkong.repository;
+
+import java.time.LocalDateTime;
+
+public interface MapVersion {
+    Long getSpaceVersion();
+
+    LocalDateTime getSpaceModifiedAt();
+
+    Long getLastSequence();
+
+    LocalDateTime getReservationModifiedAt();
+}
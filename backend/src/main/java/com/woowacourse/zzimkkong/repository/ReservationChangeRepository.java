@@ -0,0 +1,20 @@
+package com.woowacourse.zzimkkong.repository;
+
+import com.woowacourse.zzimkkong.domain.ReservationChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ReservationChangeRepository extends JpaRepository<ReservationChange, Long>, ReservationChangeRepositoryCustom {
+    List<ReservationChange> findAllByMapIdAndSequenceGreaterThanOrderBySequenceAsc(
+            final Long mapId,
+            final Long sequence,
+            final Pageable pageable);
+
+    @Query("SELECT s.lastSequence FROM ReservationChangeSequence s WHERE s.mapId = :mapId")
+    Optional<Long> findLastSequenceByMapId(@Param("mapId") final Long mapId);
+}
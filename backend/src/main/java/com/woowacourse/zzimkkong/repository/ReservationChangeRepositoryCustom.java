@@ -0,0 +1,9 @@
+package com.woowacourse.zzimkkong.repository;
+
+import com.woowacourse.zzimkkong.domain.ReservationChange;
+
+import java.util.List;
+
+public interface ReservationChangeRepositoryCustom {
+    void saveAllInBatch(List<ReservationChange> reservationChanges);
+}
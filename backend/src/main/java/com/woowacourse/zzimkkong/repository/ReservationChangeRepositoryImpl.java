@@ -0,0 +1,163 @@
+package com.woowacourse.zzimkkong.repository;
+
+import com.woowacourse.zzimkkong.domain.ReservationChange;
+import org.hibernate.Session;
+
+import javax.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+public class ReservationChangeRepositoryImpl implements ReservationChangeRepositoryCustom {
+    private static final int BATCH_SIZE = 50;
+    private static final String INSERT_RESERVATION_CHANGE_SQL = "INSERT INTO reservation_change " +
+            "(map_id, sequence, space_id, reservation_id, type, date, start_time, end_time, user_name, description) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INCREASE_SEQUENCE_SQL = "UPDATE reservation_change_sequence " +
+            "SET last_sequence = last_sequence + ?, modified_at = ? WHERE map_id = ?";
+    private static final String INSERT_SEQUENCE_SQL = "INSERT INTO reservation_change_sequence " +
+            "(map_id, last_sequence, modified_at) VALUES (?, ?, ?)";
+    private static final String SELECT_SEQUENCE_SQL = "SELECT last_sequence FROM reservation_change_sequence " +
+            "WHERE map_id = ?";
+
+    private final EntityManager entityManager;
+
+    public ReservationChangeRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void saveAllInBatch(final List<ReservationChange> reservationChanges) {
+        if (reservationChanges.isEmpty()) {
+            return;
+        }
+
+        // 반복 예약은 회차마다 변경 이력이 쌓이므로, 예약과 같은 방식으로 JDBC batch로 insert 합니다
+        Session session = entityManager.unwrap(Session.class);
+        Calendar calendar = JdbcCalendars.of(session);
+        Timestamp modifiedAt = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        session.doWork(connection -> {
+            Map<Long, Long> nextSequences = reserveSequences(connection, reservationChanges, modifiedAt, calendar);
+            insertAll(connection, reservationChanges, nextSequences, calendar);
+        });
+    }
+
+    private Map<Long, Long> reserveSequences(
+            final Connection connection,
+            final List<ReservationChange> reservationChanges,
+            final Timestamp modifiedAt,
+            final Calendar calendar) throws SQLException {
+        // 맵마다 변경 번호 row를 올리면 커밋할 때까지 그 row lock을 잡으므로, 같은 맵의 번호는 커밋 순서대로 붙습니다
+        // 서로 다른 맵을 함께 기록할 때 교착 상태가 생기지 않도록 맵 id 순서대로 올립니다
+        Map<Long, Long> counts = reservationChanges.stream()
+                .collect(Collectors.groupingBy(ReservationChange::getMapId, TreeMap::new, Collectors.counting()));
+
+        Map<Long, Long> nextSequences = new HashMap<>();
+        for (Map.Entry<Long, Long> count : counts.entrySet()) {
+            Long mapId = count.getKey();
+            long lastSequence = increaseSequence(connection, mapId, count.getValue(), modifiedAt, calendar);
+            nextSequences.put(mapId, lastSequence - count.getValue() + 1);
+        }
+        return nextSequences;
+    }
+
+    private long increaseSequence(
+            final Connection connection,
+            final Long mapId,
+            final long count,
+            final Timestamp modifiedAt,
+            final Calendar calendar) throws SQLException {
+        if (update(connection, mapId, count, modifiedAt, calendar) == 0
+                && !insert(connection, mapId, count, modifiedAt, calendar)) {
+            // 같은 맵의 첫 변경을 다른 트랜잭션이 먼저 기록했다면, 그 row를 올립니다
+            update(connection, mapId, count, modifiedAt, calendar);
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_SEQUENCE_SQL)) {
+            statement.setLong(1, mapId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private int update(
+            final Connection connection,
+            final Long mapId,
+            final long count,
+            final Timestamp modifiedAt,
+            final Calendar calendar) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INCREASE_SEQUENCE_SQL)) {
+            statement.setLong(1, count);
+            statement.setTimestamp(2, modifiedAt, calendar);
+            statement.setLong(3, mapId);
+            return statement.executeUpdate();
+        }
+    }
+
+    private boolean insert(
+            final Connection connection,
+            final Long mapId,
+            final long count,
+            final Timestamp modifiedAt,
+            final Calendar calendar) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SEQUENCE_SQL)) {
+            statement.setLong(1, mapId);
+            statement.setLong(2, count);
+            statement.setTimestamp(3, modifiedAt, calendar);
+            statement.executeUpdate();
+            return true;
+        } catch (SQLIntegrityConstraintViolationException exception) {
+            return false;
+        }
+    }
+
+    private void insertAll(
+            final Connection connection,
+            final List<ReservationChange> reservationChanges,
+            final Map<Long, Long> nextSequences,
+            final Calendar calendar) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_RESERVATION_CHANGE_SQL)) {
+            for (int i = 0; i < reservationChanges.size(); i++) {
+                ReservationChange reservationChange = reservationChanges.get(i);
+                Long sequence = nextSequences.merge(reservationChange.getMapId(), 1L, Long::sum) - 1;
+                bind(statement, reservationChange, sequence, calendar);
+                statement.addBatch();
+
+                if ((i + 1) % BATCH_SIZE == 0 || i == reservationChanges.size() - 1) {
+                    statement.executeBatch();
+                }
+            }
+        }
+    }
+
+    private void bind(
+            final PreparedStatement statement,
+            final ReservationChange reservationChange,
+            final Long sequence,
+            final Calendar calendar) throws SQLException {
+        statement.setLong(1, reservationChange.getMapId());
+        statement.setLong(2, sequence);
+        statement.setLong(3, reservationChange.getSpaceId());
+        statement.setLong(4, reservationChange.getReservationId());
+        statement.setString(5, reservationChange.getType().name());
+        statement.setDate(6, Date.valueOf(reservationChange.getDate()), calendar);
+        statement.setTimestamp(7, Timestamp.valueOf(reservationChange.getStartTime()), calendar);
+        statement.setTimestamp(8, Timestamp.valueOf(reservationChange.getEndTime()), calendar);
+        statement.setString(9, reservationChange.getUserName());
+        statement.setString(10, reservationChange.getDescription());
+    }
+}
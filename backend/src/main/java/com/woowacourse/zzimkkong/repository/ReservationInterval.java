@@ -0,0 +1,11 @@
+package com.woowacourse.zzimkkong.repository;
+
+import java.time.LocalDateTime;
+
+public interface ReservationInterval {
+    Long getId();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+}
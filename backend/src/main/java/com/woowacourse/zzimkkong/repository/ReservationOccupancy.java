@@ -0,0 +1,11 @@
+package com.woowacourse.zzimkkong.repository;
+
+import java.time.LocalDate;
+
+public interface ReservationOccupancy {
+    Long getSpaceId();
+
+    LocalDate getDate();
+
+    Long getReservedMinutes();
+}
@@ -1,15 +1,72 @@
 package com.woowacourse.zzimkkong.repository;
 
 import com.woowacourse.zzimkkong.domain.Reservation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationRepositoryCustom  {
     List<Reservation> findAllBySpaceIdInAndDate(final Collection<Long> spaceIds, final LocalDate date);
 
+    // 겹침 검사에는 예약 시간만 필요하므로, 엔티티를 만들지 않고 (space_id, date, start_time) 인덱스로 시간만 읽는다
+    @Query("SELECT r.id AS id, r.startTime AS startTime, r.endTime AS endTime " +
+            "FROM Reservation r " +
+            "WHERE r.space.id = :spaceId AND r.date = :date")
+    List<ReservationInterval> findIntervalsBySpaceIdAndDate(
+            @Param("spaceId") final Long spaceId,
+            @Param("date") final LocalDate date);
+
+    List<Reservation> findAllBySpaceIdAndDateBetween(final Long spaceId, final LocalDate startDate, final LocalDate endDate);
+
+    // 예약은 하루를 넘기지 않으므로 시/분만으로 예약 시간을 계산해 H2와 MySQL에서 같은 쿼리를 쓴다
+    @Query("SELECT r.space.id AS spaceId, r.date AS date, " +
+            "SUM((HOUR(r.endTime) * 60 + MINUTE(r.endTime)) - (HOUR(r.startTime) * 60 + MINUTE(r.startTime))) AS reservedMinutes " +
+            "FROM Reservation r " +
+            "WHERE r.space.id IN :spaceIds AND r.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY r.space.id, r.date")
+    List<ReservationOccupancy> sumReservedMinutesBySpaceIdInAndDateBetween(
+            @Param("spaceIds") final Collection<Long> spaceIds,
+            @Param("startDate") final LocalDate startDate,
+            @Param("endDate") final LocalDate endDate);
+
+    // 엔티티 대신 프로젝션으로 읽어 영속성 컨텍스트에 쌓이지 않게 하고, (space_id, date, start_time) 인덱스 순서대로 흘려보낸다
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT r.id AS id, r.space.id AS spaceId, r.date AS date, r.startTime AS startTime, r.endTime AS endTime, " +
+            "r.userName AS userName, r.description AS description " +
+            "FROM Reservation r " +
+            "WHERE r.space.id IN :spaceIds AND r.date BETWEEN :startDate AND :endDate " +
+            "ORDER BY r.space.id, r.date, r.startTime")
+    Stream<ReservationRow> streamAllBySpaceIdInAndDateBetween(
+            @Param("spaceIds") final Collection<Long> spaceIds,
+            @Param("startDate") final LocalDate startDate,
+            @Param("endDate") final LocalDate endDate);
+
+    // 응답을 쓰는 동안 커서를 열어 두지 않도록, 공간 하나의 예약을 (date, start_time, id) 다음 값부터 한 페이지씩 읽는다
+    @Query("SELECT r.id AS id, r.space.id AS spaceId, r.date AS date, r.startTime AS startTime, r.endTime AS endTime, " +
+            "r.userName AS userName, r.description AS description " +
+            "FROM Reservation r " +
+            "WHERE r.space.id = :spaceId AND r.date BETWEEN :startDate AND :endDate " +
+            "AND (r.date > :date OR (r.date = :date AND (r.startTime > :startTime OR (r.startTime = :startTime AND r.id > :id)))) " +
+            "ORDER BY r.date, r.startTime, r.id")
+    List<ReservationRow> findAllBySpaceIdAndDateBetweenAfter(
+            @Param("spaceId") final Long spaceId,
+            @Param("startDate") final LocalDate startDate,
+            @Param("endDate") final LocalDate endDate,
+            @Param("date") final LocalDate date,
+            @Param("startTime") final LocalDateTime startTime,
+            @Param("id") final Long id,
+            final Pageable pageable);
+
     Boolean existsBySpaceIdAndEndTimeAfter(Long spaceId, LocalDateTime now);
 }
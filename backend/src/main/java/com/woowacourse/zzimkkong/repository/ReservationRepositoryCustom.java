@@ -1,7 +1,12 @@
 package com.woowacourse.zzimkkong.repository;
 
 import com.woowacourse.zzimkkong.domain.Member;
+import com.woowacourse.zzimkkong.domain.Reservation;
+
+import java.util.List;
 
 public interface ReservationRepositoryCustom {
     boolean existsReservationsByMemberFromToday(Member member);
+
+    List<Reservation> saveAllInBatch(List<Reservation> reservations);
 }
@@ -1,11 +1,32 @@
 package com.woowacourse.zzimkkong.repository;
 
 import com.woowacourse.zzimkkong.domain.Member;
+import com.woowacourse.zzimkkong.domain.Reservation;
+import org.hibernate.Session;
 
 import javax.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
+    private static final int BATCH_SIZE = 50;
+    private static final String INSERT_RESERVATION_SQL = "INSERT INTO reservation " +
+            "(date, start_time, end_time, password, user_name, description, space_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
     private final EntityManager entityManager;
 
     public ReservationRepositoryImpl(final EntityManager entityManager) {
@@ -22,4 +43,63 @@ public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
                 .setParameter("currentTime", LocalDateTime.now())
                 .getSingleResult();
     }
+
+    @Override
+    public List<Reservation> saveAllInBatch(final List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // IDENTITY 전략에서는 Hibernate가 insert를 묶지 않으므로, 같은 커넥션에서 JDBC batch로 직접 insert 합니다
+        Session session = entityManager.unwrap(Session.class);
+        Calendar calendar = JdbcCalendars.of(session);
+        List<Long> ids = session.doReturningWork(connection -> insertAll(connection, reservations, calendar));
+
+        Map<Long, Reservation> savedReservations = entityManager.createQuery(
+                        "SELECT r FROM Reservation r WHERE r.id IN :ids", Reservation.class)
+                .setParameter("ids", ids)
+                .getResultStream()
+                .collect(Collectors.toMap(Reservation::getId, Function.identity()));
+
+        return ids.stream()
+                .map(savedReservations::get)
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> insertAll(
+            final Connection connection,
+            final List<Reservation> reservations,
+            final Calendar calendar) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_RESERVATION_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < reservations.size(); i++) {
+                bind(statement, reservations.get(i), calendar);
+                statement.addBatch();
+
+                if ((i + 1) % BATCH_SIZE == 0 || i == reservations.size() - 1) {
+                    statement.executeBatch();
+                    collectGeneratedKeys(statement, ids);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void bind(final PreparedStatement statement, final Reservation reservation, final Calendar calendar) throws SQLException {
+        statement.setDate(1, Date.valueOf(reservation.getDate()), calendar);
+        statement.setTimestamp(2, Timestamp.valueOf(reservation.getStartTime()), calendar);
+        statement.setTimestamp(3, Timestamp.valueOf(reservation.getEndTime()), calendar);
+        statement.setString(4, reservation.getPassword());
+        statement.setString(5, reservation.getUserName());
+        statement.setString(6, reservation.getDescription());
+        statement.setLong(7, reservation.getSpace().getId());
+    }
+
+    private void collectGeneratedKeys(final PreparedStatement statement, final List<Long> ids) throws SQLException {
+        try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+            while (generatedKeys.next()) {
+                ids.add(generatedKeys.getLong(1));
+            }
+        }
+    }
 }
@@ -0,0 +1,20 @@
+package com.woowacourse.zzimkkong.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface ReservationRow {
+    Long getId();
+
+    Long getSpaceId();
+
+    LocalDate getDate();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+
+    String getUserName();
+
+    String getDescription();
+}
@@ -0,0 +1,47 @@
+package com.woowacourse.zzimkkong.repository;
+
+import com.woowacourse.zzimkkong.domain.SlackNotification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SlackNotificationRepository extends JpaRepository<SlackNotification, Long> {
+    @Query("SELECT DISTINCT n.webhookUrl FROM SlackNotification n " +
+            "WHERE n.attemptCount < :maximumAttemptCount AND n.nextAttemptAt <= :now " +
+            "AND (n.claimedUntil IS NULL OR n.claimedUntil < :now)")
+    List<String> findWebhookUrlsToSend(
+            @Param("maximumAttemptCount") final int maximumAttemptCount,
+            @Param("now") final LocalDateTime now,
+            final Pageable pageable);
+
+    @Query("SELECT n.id FROM SlackNotification n " +
+            "WHERE n.webhookUrl = :webhookUrl AND n.attemptCount < :maximumAttemptCount " +
+            "AND (n.nextAttemptAt <= :now OR n.attemptCount = 0) " +
+            "AND (n.claimedUntil IS NULL OR n.claimedUntil < :now) " +
+            "ORDER BY n.id")
+    List<Long> findIdsToSendByWebhookUrl(
+            @Param("webhookUrl") final String webhookUrl,
+            @Param("maximumAttemptCount") final int maximumAttemptCount,
+            @Param("now") final LocalDateTime now,
+            final Pageable pageable);
+
+    // 조건부 update는 row lock으로 직렬화되므로, 동시에 가져가려 해도 한 알림은 한 서버만 가져갑니다
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SlackNotification n SET n.claimToken = :claimToken, n.claimedUntil = :claimedUntil " +
+            "WHERE n.id IN :ids AND (n.claimedUntil IS NULL OR n.claimedUntil < :now)")
+    int claim(
+            @Param("ids") final Collection<Long> ids,
+            @Param("claimToken") final String claimToken,
+            @Param("claimedUntil") final LocalDateTime claimedUntil,
+            @Param("now") final LocalDateTime now);
+
+    List<SlackNotification> findAllByClaimTokenOrderByIdAsc(final String claimToken);
+}
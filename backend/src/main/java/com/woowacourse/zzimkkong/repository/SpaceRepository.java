@@ -1,7 +1,34 @@
 package com.woowacourse.zzimkkong.repository;
 
+import com.woowacourse.zzimkkong.domain.DayOfWeekMask;
 import com.woowacourse.zzimkkong.domain.Space;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.DayOfWeek;
+import java.util.Collection;
+import java.util.List;
 
 public interface SpaceRepository extends JpaRepository<Space, Long> {
+    List<Space> findAllByMapIdOrderByIdAsc(final Long mapId);
+
+    default List<Space> findAllByMapIdOpenOn(final Long mapId, final DayOfWeek dayOfWeek) {
+        return findAllByMapIdAndEnabledDayOfWeekBit(mapId, DayOfWeekMask.bitOf(dayOfWeek));
+    }
+
+    // bitand는 BitAndFunctionContributor로 등록한 함수다
+    @Query("SELECT s FROM Space s " +
+            "WHERE s.map.id = :mapId " +
+            "AND bitand(s.setting.enabledDaysOfWeek, :dayOfWeekBit) <> 0 " +
+            "ORDER BY s.id")
+    List<Space> findAllByMapIdAndEnabledDayOfWeekBit(
+            @Param("mapId") final Long mapId,
+            @Param("dayOfWeekBit") final int dayOfWeekBit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Space s WHERE s.id IN :spaceIds ORDER BY s.id")
+    List<Space> findAllByIdInForUpdate(@Param("spaceIds") final Collection<Long> spaceIds);
 }
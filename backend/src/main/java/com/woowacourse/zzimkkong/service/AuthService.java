@@ -13,7 +13,10 @@ import com.woowacourse.zzimkkong.infrastructure.oauth.OauthHandler;
 import com.woowacourse.zzimkkong.repository.MemberRepository;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.Map;
 
@@ -47,10 +50,16 @@ public class AuthService {
         return TokenResponse.from(token);
     }
 
-    @Transactional(readOnly = true)
-    public TokenResponse loginByOauth(final OauthProvider oauthProvider, final String code) {
-        OauthUserInfo userInfoFromCode = oauthHandler.getUserInfoFromCode(oauthProvider, code);
-        String email = userInfoFromCode.getEmail();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<TokenResponse> loginByOauth(final OauthProvider oauthProvider, final String code) {
+        // 제공자의 응답은 네트워크 스레드에서 받으므로, 회원 조회는 블로킹 작업용 스케줄러로 넘겨서 합니다
+        return oauthHandler.getUserInfoFromCode(oauthProvider, code)
+                .publishOn(Schedulers.boundedElastic())
+                .map(userInfo -> issueTokenByOauth(oauthProvider, userInfo));
+    }
+
+    private TokenResponse issueTokenByOauth(final OauthProvider oauthProvider, final OauthUserInfo userInfo) {
+        String email = userInfo.getEmail();
         Member member = members.findByEmail(email)
                 .orElseThrow(NoSuchMemberException::new);
 
@@ -0,0 +1,116 @@
+package com.woowacourse.zzimkkong.service;
+
+import com.woowacourse.zzimkkong.domain.MapSnapshot;
+import com.woowacourse.zzimkkong.domain.SpaceSnapshot;
+import com.woowacourse.zzimkkong.dto.calendar.CalendarResponse;
+import com.woowacourse.zzimkkong.exception.map.NoSuchMapException;
+import com.woowacourse.zzimkkong.exception.space.NoSuchSpaceException;
+import com.woowacourse.zzimkkong.infrastructure.CalendarEvents;
+import com.woowacourse.zzimkkong.infrastructure.CalendarFeeds;
+import com.woowacourse.zzimkkong.infrastructure.CalendarRenderer;
+import com.woowacourse.zzimkkong.infrastructure.MapSnapshotCache;
+import com.woowacourse.zzimkkong.infrastructure.SharingIdGenerator;
+import com.woowacourse.zzimkkong.repository.MapRepository;
+import com.woowacourse.zzimkkong.repository.MapVersion;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 캘린더 앱은 몇 분마다 같은 피드를 다시 받아 가므로, 맵 버전만 기본 키로 읽고 버전이 같으면 캐시에 그려 둔 예약을 씁니다
+@Service
+public class CalendarService {
+    private static final Period PAST_PERIOD = Period.ofMonths(1);
+    private static final Period FUTURE_PERIOD = Period.ofMonths(6);
+
+    private final SharingIdGenerator sharingIdGenerator;
+    private final MapSnapshotCache mapSnapshotCache;
+    private final MapRepository maps;
+    private final CalendarFeeds calendarFeeds;
+    private final CalendarRenderer calendarRenderer;
+
+    public CalendarService(
+            final SharingIdGenerator sharingIdGenerator,
+            final MapSnapshotCache mapSnapshotCache,
+            final MapRepository maps,
+            final CalendarFeeds calendarFeeds,
+            final CalendarRenderer calendarRenderer) {
+        this.sharingIdGenerator = sharingIdGenerator;
+        this.mapSnapshotCache = mapSnapshotCache;
+        this.maps = maps;
+        this.calendarFeeds = calendarFeeds;
+        this.calendarRenderer = calendarRenderer;
+    }
+
+    public CalendarResponse findMapCalendar(final String sharingMapId) {
+        MapSnapshot map = mapSnapshotCache.findMap(sharingIdGenerator.parseIdFrom(sharingMapId));
+        MapVersion mapVersion = findVersion(map);
+        List<CalendarEvents> spaceEvents = map.getSpaces()
+                .stream()
+                .map(space -> findEvents(space, mapVersion))
+                .collect(Collectors.toList());
+        return calendarOf(map.getName(), spaceEvents, mapVersion);
+    }
+
+    public CalendarResponse findSpaceCalendar(final String sharingMapId, final Long spaceId) {
+        MapSnapshot map = mapSnapshotCache.findMap(sharingIdGenerator.parseIdFrom(sharingMapId));
+        SpaceSnapshot space = map.findSpaceById(spaceId)
+                .orElseThrow(NoSuchSpaceException::new);
+        MapVersion mapVersion = findVersion(map);
+        return calendarOf(
+                map.getName() + " " + space.getName(),
+                Collections.singletonList(findEvents(space, mapVersion)),
+                mapVersion);
+    }
+
+    private MapVersion findVersion(final MapSnapshot map) {
+        return maps.findVersionById(map.getId())
+                .orElseThrow(NoSuchMapException::new);
+    }
+
+    private CalendarEvents findEvents(final SpaceSnapshot space, final MapVersion mapVersion) {
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = today.minus(PAST_PERIOD);
+        LocalDate endDate = today.plus(FUTURE_PERIOD);
+        return calendarFeeds.findEvents(
+                space.getId(),
+                startDate,
+                versionOf(mapVersion),
+                spaceId -> calendarRenderer.renderEvents(space, startDate, endDate));
+    }
+
+    // 예약 변경 번호는 맵 단위로 붙으므로, 맵의 예약이 바뀌면 그 맵의 모든 공간을 다시 그립니다
+    private String versionOf(final MapVersion mapVersion) {
+        return Objects.requireNonNullElse(mapVersion.getSpaceVersion(), 0L) + "-"
+                + Objects.requireNonNullElse(mapVersion.getLastSequence(), 0L);
+    }
+
+    private CalendarResponse calendarOf(
+            final String name,
+            final List<CalendarEvents> spaceEvents,
+            final MapVersion mapVersion) {
+        String hashes = spaceEvents.stream()
+                .map(CalendarEvents::getHash)
+                .collect(Collectors.joining(","));
+        String eTag = "\"" + DigestUtils.sha256Hex(name + ":" + hashes) + "\"";
+        // 그린 시각은 서버마다 다르므로, DB에 기록된 공간과 예약의 마지막 변경 시각을 씁니다
+        Instant lastModified = Stream.of(mapVersion.getSpaceModifiedAt(), mapVersion.getReservationModifiedAt())
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .map(modifiedAt -> modifiedAt.atZone(ZoneId.systemDefault()).toInstant())
+                .orElse(Instant.EPOCH);
+        return CalendarResponse.of(
+                calendarRenderer.renderCalendar(name, spaceEvents),
+                eTag,
+                lastModified.toEpochMilli());
+    }
+}
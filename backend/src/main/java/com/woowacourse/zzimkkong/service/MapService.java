@@ -1,6 +1,7 @@
 package com.woowacourse.zzimkkong.service;
 
 import com.woowacourse.zzimkkong.domain.Map;
+import com.woowacourse.zzimkkong.domain.MapSnapshot;
 import com.woowacourse.zzimkkong.domain.Member;
 import com.woowacourse.zzimkkong.domain.Space;
 import com.woowacourse.zzimkkong.dto.map.MapCreateResponse;
@@ -10,6 +11,7 @@ import com.woowacourse.zzimkkong.dto.map.MapFindResponse;
 import com.woowacourse.zzimkkong.exception.authorization.NoAuthorityOnMapException;
 import com.woowacourse.zzimkkong.exception.map.NoSuchMapException;
 import com.woowacourse.zzimkkong.exception.space.ReservationExistOnSpaceException;
+import com.woowacourse.zzimkkong.infrastructure.MapSnapshotCache;
 import com.woowacourse.zzimkkong.infrastructure.SharingIdGenerator;
 import com.woowacourse.zzimkkong.infrastructure.ThumbnailManager;
 import com.woowacourse.zzimkkong.repository.MapRepository;
@@ -30,16 +32,19 @@ public class MapService {
     private final ReservationRepository reservations;
     private final ThumbnailManager thumbnailManager;
     private final SharingIdGenerator sharingIdGenerator;
+    private final MapSnapshotCache mapSnapshotCache;
 
     public MapService(
             final MapRepository maps,
             final ReservationRepository reservations,
             final ThumbnailManager thumbnailManager,
-            final SharingIdGenerator sharingIdGenerator) {
+            final SharingIdGenerator sharingIdGenerator,
+            final MapSnapshotCache mapSnapshotCache) {
         this.maps = maps;
         this.reservations = reservations;
         this.thumbnailManager = thumbnailManager;
         this.sharingIdGenerator = sharingIdGenerator;
+        this.mapSnapshotCache = mapSnapshotCache;
     }
 
     public MapCreateResponse saveMap(final MapCreateUpdateRequest mapCreateUpdateRequest, final Member manager) {
@@ -82,6 +87,7 @@ public class MapService {
         map.update(
                 mapCreateUpdateRequest.getMapName(),
                 mapCreateUpdateRequest.getMapDrawing());
+        mapSnapshotCache.evict(mapId);
     }
 
     public void deleteMap(final Long mapId, final Member manager) {
@@ -92,6 +98,7 @@ public class MapService {
         validateExistReservations(map);
 
         maps.delete(map);
+        mapSnapshotCache.evict(mapId);
 
         thumbnailManager.deleteThumbnail(map);
     }
@@ -113,6 +120,12 @@ public class MapService {
         }
     }
 
+    public static void validateManagerOfMap(final MapSnapshot map, final Member manager) {
+        if (map.isNotOwnedBy(manager)) {
+            throw new NoAuthorityOnMapException();
+        }
+    }
+
     public MapFindResponse findMapBySharingId(final String sharingMapId) {
         Long mapId = sharingIdGenerator.parseIdFrom(sharingMapId);
         Map map = maps.findById(mapId)
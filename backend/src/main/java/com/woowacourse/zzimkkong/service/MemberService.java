@@ -2,7 +2,6 @@ package com.woowacourse.zzimkkong.service;
 
 import com.woowacourse.zzimkkong.domain.Member;
 import com.woowacourse.zzimkkong.domain.OauthProvider;
-import com.woowacourse.zzimkkong.domain.oauth.OauthUserInfo;
 import com.woowacourse.zzimkkong.dto.member.MemberSaveRequest;
 import com.woowacourse.zzimkkong.dto.member.MemberSaveResponse;
 import com.woowacourse.zzimkkong.dto.member.MemberUpdateRequest;
@@ -10,12 +9,17 @@ import com.woowacourse.zzimkkong.dto.member.oauth.OauthMemberSaveRequest;
 import com.woowacourse.zzimkkong.dto.member.oauth.OauthReadyResponse;
 import com.woowacourse.zzimkkong.exception.member.DuplicateEmailException;
 import com.woowacourse.zzimkkong.exception.member.ReservationExistsOnMemberException;
+import com.woowacourse.zzimkkong.infrastructure.LoginMemberCache;
+import com.woowacourse.zzimkkong.infrastructure.MapSnapshotCache;
 import com.woowacourse.zzimkkong.infrastructure.oauth.OauthHandler;
 import com.woowacourse.zzimkkong.repository.MemberRepository;
 import com.woowacourse.zzimkkong.repository.ReservationRepository;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 @Transactional
@@ -24,15 +28,21 @@ public class MemberService {
     private final ReservationRepository reservations;
     private final PasswordEncoder passwordEncoder;
     private final OauthHandler oauthHandler;
+    private final MapSnapshotCache mapSnapshotCache;
+    private final LoginMemberCache loginMemberCache;
 
     public MemberService(final MemberRepository members,
                          final ReservationRepository reservations,
                          final PasswordEncoder passwordEncoder,
-                         final OauthHandler oauthHandler) {
+                         final OauthHandler oauthHandler,
+                         final MapSnapshotCache mapSnapshotCache,
+                         final LoginMemberCache loginMemberCache) {
         this.members = members;
         this.reservations = reservations;
         this.passwordEncoder = passwordEncoder;
         this.oauthHandler = oauthHandler;
+        this.mapSnapshotCache = mapSnapshotCache;
+        this.loginMemberCache = loginMemberCache;
     }
 
     public MemberSaveResponse saveMember(final MemberSaveRequest memberSaveRequest) {
@@ -48,14 +58,15 @@ public class MemberService {
         return MemberSaveResponse.from(saveMember);
     }
 
-    @Transactional(readOnly = true)
-    public OauthReadyResponse getUserInfoFromOauth(final OauthProvider oauthProvider, final String code) {
-        OauthUserInfo userInfo = oauthHandler.getUserInfoFromCode(oauthProvider, code);
-        String email = userInfo.getEmail();
-
-        validateDuplicateEmail(email);
-
-        return OauthReadyResponse.of(email, oauthProvider);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<OauthReadyResponse> getUserInfoFromOauth(final OauthProvider oauthProvider, final String code) {
+        return oauthHandler.getUserInfoFromCode(oauthProvider, code)
+                .publishOn(Schedulers.boundedElastic())
+                .map(userInfo -> {
+                    String email = userInfo.getEmail();
+                    validateDuplicateEmail(email);
+                    return OauthReadyResponse.of(email, oauthProvider);
+                });
     }
 
     public MemberSaveResponse saveMemberByOauth(final OauthMemberSaveRequest oauthMemberSaveRequest) {
@@ -79,6 +90,7 @@ public class MemberService {
 
     public void updateMember(final Member member, final MemberUpdateRequest memberUpdateRequest) {
         member.update(memberUpdateRequest.getOrganization());
+        loginMemberCache.evict(member.getEmail());
     }
 
     public void deleteMember(final Member manager) {
@@ -88,5 +100,7 @@ public class MemberService {
         }
 
         members.delete(manager);
+        manager.getMaps().forEach(map -> mapSnapshotCache.evict(map.getId()));
+        loginMemberCache.evict(manager.getEmail());
     }
 }
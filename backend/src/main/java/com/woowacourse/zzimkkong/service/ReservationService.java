@@ -1,73 +1,242 @@
 package com.woowacourse.zzimkkong.service;
 
-import com.woowacourse.zzimkkong.domain.Map;
+import com.woowacourse.zzimkkong.domain.MapSnapshot;
 import com.woowacourse.zzimkkong.domain.Member;
 import com.woowacourse.zzimkkong.domain.Reservation;
+import com.woowacourse.zzimkkong.domain.ReservationChange;
+import com.woowacourse.zzimkkong.domain.ReservationChangeType;
+import com.woowacourse.zzimkkong.domain.ReservationIntervals;
 import com.woowacourse.zzimkkong.domain.Space;
+import com.woowacourse.zzimkkong.domain.SpaceDate;
+import com.woowacourse.zzimkkong.domain.SpaceSnapshot;
+import com.woowacourse.zzimkkong.domain.TimeSlot;
 import com.woowacourse.zzimkkong.dto.reservation.*;
 import com.woowacourse.zzimkkong.dto.slack.SlackResponse;
-import com.woowacourse.zzimkkong.exception.map.NoSuchMapException;
 import com.woowacourse.zzimkkong.exception.reservation.*;
 import com.woowacourse.zzimkkong.exception.space.NoSuchSpaceException;
+import com.woowacourse.zzimkkong.infrastructure.MapSnapshotCache;
+import com.woowacourse.zzimkkong.infrastructure.ReservationEvents;
+import com.woowacourse.zzimkkong.infrastructure.ReservationIntervalIndex;
 import com.woowacourse.zzimkkong.repository.MapRepository;
+import com.woowacourse.zzimkkong.repository.ReservationChangeRepository;
+import com.woowacourse.zzimkkong.repository.ReservationOccupancy;
 import com.woowacourse.zzimkkong.repository.ReservationRepository;
+import com.woowacourse.zzimkkong.repository.ReservationRow;
+import com.woowacourse.zzimkkong.repository.SpaceRepository;
 import com.woowacourse.zzimkkong.service.strategy.ReservationStrategy;
 import com.woowacourse.zzimkkong.service.strategy.ExcludeReservationCreateStrategy;
 import com.woowacourse.zzimkkong.service.strategy.ExcludeReservationStrategy;
 import com.woowacourse.zzimkkong.service.strategy.ExcludeReservationUpdateStrategy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Period;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class ReservationService {
+    private static final Period MAXIMUM_REPEAT_PERIOD = Period.ofYears(1);
+    private static final Period MAXIMUM_OCCUPANCY_PERIOD = Period.ofMonths(3);
+    private static final int CHANGE_PAGE_SIZE = 100;
+    private static final long MAXIMUM_RANGE_DAYS = 42L;
+    private static final Period MAXIMUM_EXPORT_PERIOD = Period.ofYears(1);
+    private static final int ROW_PAGE_SIZE = 500;
+
+    private final MapSnapshotCache mapSnapshotCache;
     private final MapRepository maps;
+    private final SpaceRepository spaces;
     private final ReservationRepository reservations;
+    private final ReservationChangeRepository reservationChanges;
+    private final ReservationIntervalIndex reservationIntervalIndex;
+    private final ReservationEvents reservationEvents;
+    private final SlackService slackService;
 
     public ReservationService(
+            final MapSnapshotCache mapSnapshotCache,
             final MapRepository maps,
-            final ReservationRepository reservations) {
+            final SpaceRepository spaces,
+            final ReservationRepository reservations,
+            final ReservationChangeRepository reservationChanges,
+            final ReservationIntervalIndex reservationIntervalIndex,
+            final ReservationEvents reservationEvents,
+            final SlackService slackService) {
+        this.mapSnapshotCache = mapSnapshotCache;
         this.maps = maps;
+        this.spaces = spaces;
         this.reservations = reservations;
+        this.reservationChanges = reservationChanges;
+        this.reservationIntervalIndex = reservationIntervalIndex;
+        this.reservationEvents = reservationEvents;
+        this.slackService = slackService;
     }
 
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public ReservationCreateResponse saveReservation(
             final ReservationCreateDto reservationCreateDto,
             final ReservationStrategy reservationStrategy) {
         Long mapId = reservationCreateDto.getMapId();
         Member manager = reservationCreateDto.getManager();
-        Map map = maps.findById(mapId)
-                .orElseThrow(NoSuchMapException::new);
+        MapSnapshot map = mapSnapshotCache.findMap(mapId);
         reservationStrategy.validateManagerOfMap(map, manager);
 
         Long spaceId = reservationCreateDto.getSpaceId();
-        Space space = map.findSpaceById(spaceId)
+        SpaceSnapshot space = map.findSpaceById(spaceId)
                 .orElseThrow(NoSuchSpaceException::new);
 
         validateTime(reservationCreateDto);
+        validateSpaceSetting(space, reservationCreateDto.getStartDateTime(), reservationCreateDto.getEndDateTime());
+        validateCachedTimeConflicts(
+                spaceId,
+                reservationCreateDto.getStartDateTime(),
+                reservationCreateDto.getEndDateTime(),
+                new ExcludeReservationCreateStrategy());
+
+        Space lockedSpace = lockSpace(spaceId);
+        validateTimeConflicts(
+                spaceId,
+                reservationCreateDto.getStartDateTime(),
+                reservationCreateDto.getEndDateTime(),
+                new ExcludeReservationCreateStrategy());
+
+        Reservation reservation = reservations.save(makeReservation(reservationCreateDto, lockedSpace));
+        reservationIntervalIndex.add(reservation);
+        recordChange(mapId, ReservationChangeType.CREATED, reservation);
 
-        validateAvailability(space, reservationCreateDto, new ExcludeReservationCreateStrategy());
+        return ReservationCreateResponse.from(reservation);
+    }
 
-        Reservation reservation = reservations.save(
-                Reservation.builder()
-                        .startTime(reservationCreateDto.getStartDateTime())
-                        .endTime(reservationCreateDto.getEndDateTime())
-                        .date(reservationCreateDto.getStartDateTime().toLocalDate())
-                        .password(reservationCreateDto.getPassword())
-                        .userName(reservationCreateDto.getName())
-                        .description(reservationCreateDto.getDescription())
-                        .space(space)
-                        .build());
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public ReservationBatchCreateResponse saveReservations(
+            final ReservationBatchCreateDto reservationBatchCreateDto,
+            final ReservationStrategy reservationStrategy) {
+        Long mapId = reservationBatchCreateDto.getMapId();
+        Member manager = reservationBatchCreateDto.getManager();
+        MapSnapshot map = mapSnapshotCache.findMap(mapId);
+        reservationStrategy.validateManagerOfMap(map, manager);
 
-        return ReservationCreateResponse.from(reservation);
+        List<ReservationCreateDto> reservationCreateDtos = reservationBatchCreateDto.getReservationCreateDtos();
+        for (ReservationCreateDto reservationCreateDto : reservationCreateDtos) {
+            SpaceSnapshot space = map.findSpaceById(reservationCreateDto.getSpaceId())
+                    .orElseThrow(NoSuchSpaceException::new);
+            validateTime(reservationCreateDto);
+            validateSpaceSetting(space, reservationCreateDto.getStartDateTime(), reservationCreateDto.getEndDateTime());
+        }
+
+        Map<Long, Space> lockedSpaces = lockSpaces(reservationCreateDtos.stream()
+                .map(ReservationCreateDto::getSpaceId)
+                .collect(Collectors.toSet()));
+        List<Reservation> newReservations = new ArrayList<>();
+        for (ReservationCreateDto reservationCreateDto : reservationCreateDtos) {
+            newReservations.add(makeReservation(reservationCreateDto, lockedSpaces.get(reservationCreateDto.getSpaceId())));
+        }
+        validateConflictsWithinBatch(newReservations);
+
+        // 공간 lock을 잡은 뒤 공간과 날짜마다 한 번씩만 DB에서 다시 읽어 검사합니다
+        Map<SpaceDate, ReservationIntervals> lockedIntervals = new HashMap<>();
+        for (Reservation reservation : newReservations) {
+            ReservationIntervals reservationIntervals = lockedIntervals.computeIfAbsent(
+                    SpaceDate.from(reservation),
+                    key -> reservationIntervalIndex.loadIntervals(key.getSpaceId(), key.getDate()));
+            if (reservationIntervals.overlaps(reservation.getStartTime(), reservation.getEndTime())) {
+                throw new ImpossibleReservationTimeException();
+            }
+        }
+
+        List<Reservation> savedReservations = reservations.saveAllInBatch(newReservations);
+        savedReservations.forEach(reservationIntervalIndex::add);
+        createReservations(mapId, savedReservations);
+
+        return ReservationBatchCreateResponse.from(savedReservations);
+    }
+
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public ReservationBatchCreateResponse saveRecurringReservations(
+            final ReservationRecurringCreateDto reservationRecurringCreateDto,
+            final ReservationStrategy reservationStrategy) {
+        Long mapId = reservationRecurringCreateDto.getMapId();
+        Member manager = reservationRecurringCreateDto.getManager();
+        MapSnapshot map = mapSnapshotCache.findMap(mapId);
+        reservationStrategy.validateManagerOfMap(map, manager);
+
+        Long spaceId = reservationRecurringCreateDto.getSpaceId();
+        SpaceSnapshot space = map.findSpaceById(spaceId)
+                .orElseThrow(NoSuchSpaceException::new);
+
+        validateTime(reservationRecurringCreateDto);
+
+        List<LocalDate> openDates = findOpenDates(space, reservationRecurringCreateDto);
+
+        // 공간 설정은 날짜와 무관한 시간 조건이므로 첫 회차만 검사하면 모든 회차에 적용됩니다
+        LocalDate firstDate = openDates.get(0);
+        validateSpaceSetting(
+                space,
+                firstDate.atTime(reservationRecurringCreateDto.getStartDateTime().toLocalTime()),
+                firstDate.atTime(reservationRecurringCreateDto.getEndDateTime().toLocalTime()));
+
+        Space lockedSpace = lockSpace(spaceId);
+        List<Reservation> newReservations = openDates.stream()
+                .map(date -> makeReservationOn(date, reservationRecurringCreateDto, lockedSpace))
+                .collect(Collectors.toList());
+        List<Reservation> existingReservations = reservations.findAllBySpaceIdAndDateBetween(
+                spaceId,
+                openDates.get(0),
+                openDates.get(openDates.size() - 1));
+        if (ReservationIntervals.from(existingReservations).overlapsAny(ReservationIntervals.from(newReservations))) {
+            throw new ImpossibleReservationTimeException();
+        }
+
+        List<Reservation> savedReservations = reservations.saveAllInBatch(newReservations);
+        savedReservations.forEach(reservationIntervalIndex::add);
+        createReservations(mapId, savedReservations);
+
+        return ReservationBatchCreateResponse.from(savedReservations);
+    }
+
+    @Transactional(readOnly = true)
+    public String findReservationsETag(
+            final ReservationFindAllDto reservationFindAllDto,
+            final ReservationStrategy reservationStrategy) {
+        Long mapId = reservationFindAllDto.getMapId();
+        Member manager = reservationFindAllDto.getManager();
+        MapSnapshot map = mapSnapshotCache.findMap(mapId);
+        reservationStrategy.validateManagerOfMap(map, manager);
+
+        // 공간 버전과 예약 변경 번호는 DB에 있으므로, 어느 서버에서 조회해도 같은 ETag가 나옵니다
+        long spaceVersion = maps.findSpaceVersionById(mapId).orElse(0L);
+        long lastSequence = reservationChanges.findLastSequenceByMapId(mapId).orElse(0L);
+        return "\"" + reservationFindAllDto.getDate() + "-" + spaceVersion + "-" + lastSequence + "\"";
+    }
+
+    @Transactional(readOnly = true)
+    public Flux<ServerSentEvent<ReservationEventResponse>> subscribeReservationEvents(
+            final ReservationFindAllDto reservationFindAllDto,
+            final ReservationStrategy reservationStrategy) {
+        Long mapId = reservationFindAllDto.getMapId();
+        Member manager = reservationFindAllDto.getManager();
+        MapSnapshot map = mapSnapshotCache.findMap(mapId);
+        reservationStrategy.validateManagerOfMap(map, manager);
+
+        return reservationEvents.subscribe(mapId, reservationFindAllDto.getDate());
     }
 
     @Transactional(readOnly = true)
@@ -76,44 +245,169 @@ public class ReservationService {
             final ReservationStrategy reservationStrategy) {
         Long mapId = reservationFindAllDto.getMapId();
         Member manager = reservationFindAllDto.getManager();
-        Map map = maps.findById(mapId)
-                .orElseThrow(NoSuchMapException::new);
+        MapSnapshot map = mapSnapshotCache.findMap(mapId);
         reservationStrategy.validateManagerOfMap(map, manager);
 
-        List<Space> findSpaces = map.getSpaces();
+        List<SpaceSnapshot> findSpaces = map.getSpaces();
         LocalDate date = reservationFindAllDto.getDate();
         List<Reservation> findReservations = getReservations(findSpaces, date);
 
         return ReservationFindAllResponse.of(findSpaces, findReservations);
     }
 
+    @Transactional(readOnly = true)
+    public void validateReservationRange(
+            final ReservationRangeFindDto reservationRangeFindDto,
+            final ReservationStrategy reservationStrategy) {
+        findSpacesInRange(reservationRangeFindDto, reservationStrategy);
+    }
+
+    // 공간·날짜 순서로 읽으며 묶음 하나가 끝날 때마다 넘기므로, 한 번에 메모리에 두는 예약은 그 묶음과 한 페이지뿐입니다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void findReservationsInRange(
+            final ReservationRangeFindDto reservationRangeFindDto,
+            final ReservationStrategy reservationStrategy,
+            final Consumer<ReservationSpaceDateResponse> action) {
+        Map<Long, SpaceSnapshot> findSpaces = findSpacesInRange(reservationRangeFindDto, reservationStrategy).stream()
+                .collect(Collectors.toMap(SpaceSnapshot::getId, Function.identity()));
+        if (findSpaces.isEmpty()) {
+            return;
+        }
+
+        List<ReservationRow> group = new ArrayList<>();
+        forEachReservationRow(
+                findSpaces.keySet(),
+                reservationRangeFindDto.getStartDate(),
+                reservationRangeFindDto.getEndDate(),
+                row -> {
+                    if (!group.isEmpty() && !isSameGroup(group.get(0), row)) {
+                        action.accept(groupOf(findSpaces, group));
+                        group.clear();
+                    }
+                    group.add(row);
+                });
+        if (!group.isEmpty()) {
+            action.accept(groupOf(findSpaces, group));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void validateReservationExport(
+            final ReservationRangeFindDto reservationRangeFindDto,
+            final ReservationStrategy reservationStrategy) {
+        findSpacesToExport(reservationRangeFindDto, reservationStrategy);
+    }
+
+    // 엔티티가 아닌 프로젝션을 페이지마다 짧은 트랜잭션으로 읽어 넘기므로, 내보내는 동안 트랜잭션과 커서를 잡지 않습니다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportReservations(
+            final ReservationRangeFindDto reservationRangeFindDto,
+            final ReservationStrategy reservationStrategy,
+            final Consumer<ReservationExportResponse> action) {
+        Map<Long, SpaceSnapshot> findSpaces = findSpacesToExport(reservationRangeFindDto, reservationStrategy).stream()
+                .collect(Collectors.toMap(SpaceSnapshot::getId, Function.identity()));
+        if (findSpaces.isEmpty()) {
+            return;
+        }
+
+        forEachReservationRow(
+                findSpaces.keySet(),
+                reservationRangeFindDto.getStartDate(),
+                reservationRangeFindDto.getEndDate(),
+                row -> action.accept(ReservationExportResponse.of(findSpaces.get(row.getSpaceId()), row)));
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationChangeFindResponse findReservationChanges(
+            final ReservationChangeFindDto reservationChangeFindDto,
+            final ReservationStrategy reservationStrategy) {
+        Long mapId = reservationChangeFindDto.getMapId();
+        Member manager = reservationChangeFindDto.getManager();
+        MapSnapshot map = mapSnapshotCache.findMap(mapId);
+        reservationStrategy.validateManagerOfMap(map, manager);
+
+        Long sequence = reservationChangeFindDto.getSequence();
+        List<ReservationChange> changes = reservationChanges.findAllByMapIdAndSequenceGreaterThanOrderBySequenceAsc(
+                mapId,
+                sequence,
+                PageRequest.of(0, CHANGE_PAGE_SIZE + 1));
+
+        return ReservationChangeFindResponse.of(sequence, changes, CHANGE_PAGE_SIZE);
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationOccupancyFindResponse findOccupancies(
+            final ReservationOccupancyFindDto reservationOccupancyFindDto,
+            final ReservationStrategy reservationStrategy) {
+        Long mapId = reservationOccupancyFindDto.getMapId();
+        Member manager = reservationOccupancyFindDto.getManager();
+        MapSnapshot map = mapSnapshotCache.findMap(mapId);
+        reservationStrategy.validateManagerOfMap(map, manager);
+
+        LocalDate startDate = reservationOccupancyFindDto.getStartDate();
+        LocalDate endDate = reservationOccupancyFindDto.getEndDate();
+        if (endDate.isBefore(startDate) || endDate.isAfter(startDate.plus(MAXIMUM_OCCUPANCY_PERIOD))) {
+            throw new InvalidDateRangeException();
+        }
+
+        List<SpaceSnapshot> findSpaces = map.getSpaces();
+        List<Long> spaceIds = findSpaces.stream()
+                .map(SpaceSnapshot::getId)
+                .collect(Collectors.toList());
+        List<ReservationOccupancy> occupancies = spaceIds.isEmpty()
+                ? Collections.emptyList()
+                : reservations.sumReservedMinutesBySpaceIdInAndDateBetween(spaceIds, startDate, endDate);
+
+        return ReservationOccupancyFindResponse.of(startDate, endDate, findSpaces, occupancies);
+    }
+
     @Transactional(readOnly = true)
     public ReservationFindResponse findReservations(
             final ReservationFindDto reservationFindDto,
             final ReservationStrategy reservationStrategy) {
         Long mapId = reservationFindDto.getMapId();
         Member manager = reservationFindDto.getManager();
-        Map map = maps.findById(mapId)
-                .orElseThrow(NoSuchMapException::new);
+        MapSnapshot map = mapSnapshotCache.findMap(mapId);
         reservationStrategy.validateManagerOfMap(map, manager);
 
         Long spaceId = reservationFindDto.getSpaceId();
         LocalDate date = reservationFindDto.getDate();
-        Space space = map.findSpaceById(spaceId)
+        SpaceSnapshot space = map.findSpaceById(spaceId)
                 .orElseThrow(NoSuchSpaceException::new);
         List<Reservation> findReservations = getReservations(Collections.singletonList(space), date);
 
         return ReservationFindResponse.from(findReservations);
     }
 
+    @Transactional(readOnly = true)
+    public ReservationSlotFindResponse findFreeSlots(
+            final ReservationFindDto reservationFindDto,
+            final ReservationStrategy reservationStrategy) {
+        Long mapId = reservationFindDto.getMapId();
+        Member manager = reservationFindDto.getManager();
+        MapSnapshot map = mapSnapshotCache.findMap(mapId);
+        reservationStrategy.validateManagerOfMap(map, manager);
+
+        Long spaceId = reservationFindDto.getSpaceId();
+        LocalDate date = reservationFindDto.getDate();
+        SpaceSnapshot space = map.findSpaceById(spaceId)
+                .orElseThrow(NoSuchSpaceException::new);
+        // 예약 충돌 검사용 인덱스는 공간 lock을 잡은 쓰기 요청만 채우므로, 조회는 DB에서 바로 읽습니다
+        List<TimeSlot> freeSlots = space.findFreeSlots(
+                date,
+                ReservationIntervals.from(getReservations(Collections.singletonList(space), date)),
+                LocalDateTime.now());
+
+        return ReservationSlotFindResponse.of(space.getSetting(), freeSlots);
+    }
+
     @Transactional(readOnly = true)
     public ReservationResponse findReservation(
             final ReservationAuthenticationDto reservationAuthenticationDto,
             final ReservationStrategy reservationStrategy) {
         Long mapId = reservationAuthenticationDto.getMapId();
         Member manager = reservationAuthenticationDto.getManager();
-        Map map = maps.findById(mapId)
-                .orElseThrow(NoSuchMapException::new);
+        MapSnapshot map = mapSnapshotCache.findMap(mapId);
         reservationStrategy.validateManagerOfMap(map, manager);
 
         Long spaceId = reservationAuthenticationDto.getSpaceId();
@@ -129,17 +423,17 @@ public class ReservationService {
         return ReservationResponse.from(reservation);
     }
 
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public SlackResponse updateReservation(
             final ReservationUpdateDto reservationUpdateDto,
             final ReservationStrategy reservationStrategy) {
         Long mapId = reservationUpdateDto.getMapId();
         Member manager = reservationUpdateDto.getManager();
-        Map map = maps.findById(mapId)
-                .orElseThrow(NoSuchMapException::new);
+        MapSnapshot map = mapSnapshotCache.findMap(mapId);
         reservationStrategy.validateManagerOfMap(map, manager);
 
         Long spaceId = reservationUpdateDto.getSpaceId();
-        Space space = map.findSpaceById(spaceId)
+        SpaceSnapshot space = map.findSpaceById(spaceId)
                 .orElseThrow(NoSuchSpaceException::new);
 
         validateTime(reservationUpdateDto);
@@ -150,8 +444,16 @@ public class ReservationService {
                 .findById(reservationId)
                 .orElseThrow(NoSuchReservationException::new);
         reservationStrategy.checkCorrectPassword(reservation, password);
+        validateSpaceSetting(space, reservationUpdateDto.getStartDateTime(), reservationUpdateDto.getEndDateTime());
 
-        validateAvailability(space, reservationUpdateDto, new ExcludeReservationUpdateStrategy(reservation));
+        Space lockedSpace = lockSpaces(Stream.of(spaceId, reservation.getSpace().getId())
+                .collect(Collectors.toSet()))
+                .get(spaceId);
+        validateTimeConflicts(
+                spaceId,
+                reservationUpdateDto.getStartDateTime(),
+                reservationUpdateDto.getEndDateTime(),
+                new ExcludeReservationUpdateStrategy(reservation));
 
         Reservation updateReservation = Reservation.builder()
                 .startTime(reservationUpdateDto.getStartDateTime())
@@ -159,21 +461,37 @@ public class ReservationService {
                 .date(reservationUpdateDto.getStartDateTime().toLocalDate())
                 .userName(reservationUpdateDto.getName())
                 .description(reservationUpdateDto.getDescription())
-                .space(space)
+                .space(lockedSpace)
                 .build();
 
-        reservation.update(updateReservation, space);
+        LocalDate previousDate = reservation.getDate();
+        ReservationChange previousReservation = new ReservationChange(mapId, ReservationChangeType.DELETED, reservation);
+        reservationIntervalIndex.remove(reservation);
+        reservation.update(updateReservation, lockedSpace);
+        reservationIntervalIndex.add(reservation);
+        if (reservation.getDate().equals(previousDate)) {
+            recordChange(mapId, ReservationChangeType.UPDATED, reservation);
+        } else {
+            // 다른 날짜를 보고 있는 화면에는 예약이 빠지고 들어오는 것으로 보입니다
+            recordChanges(List.of(
+                    previousReservation,
+                    new ReservationChange(mapId, ReservationChangeType.CREATED, reservation)));
+        }
 
-        return reservationStrategy.createSlackResponse(reservation);
+        SlackResponse slackResponse = reservationStrategy.createSlackResponse(reservation);
+        if (slackResponse != null) {
+            slackService.sendUpdateMessage(slackResponse);
+        }
+        return slackResponse;
     }
 
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public SlackResponse deleteReservation(
             final ReservationAuthenticationDto reservationAuthenticationDto,
             final ReservationStrategy reservationStrategy) {
         Long mapId = reservationAuthenticationDto.getMapId();
         Member manager = reservationAuthenticationDto.getManager();
-        Map map = maps.findById(mapId)
-                .orElseThrow(NoSuchMapException::new);
+        MapSnapshot map = mapSnapshotCache.findMap(mapId);
         reservationStrategy.validateManagerOfMap(map, manager);
 
         Long spaceId = reservationAuthenticationDto.getSpaceId();
@@ -186,8 +504,16 @@ public class ReservationService {
                 .orElseThrow(NoSuchReservationException::new);
         reservationStrategy.checkCorrectPassword(reservation, password);
 
+        lockSpaces(List.of(reservation.getSpace().getId()));
         reservations.delete(reservation);
-        return reservationStrategy.createSlackResponse(reservation);
+        reservationIntervalIndex.remove(reservation);
+        recordChange(mapId, ReservationChangeType.DELETED, reservation);
+
+        SlackResponse slackResponse = reservationStrategy.createSlackResponse(reservation);
+        if (slackResponse != null) {
+            slackService.sendDeleteMessage(slackResponse);
+        }
+        return slackResponse;
     }
 
     private void validateTime(final ReservationCreateDto reservationCreateDto) {
@@ -207,24 +533,7 @@ public class ReservationService {
         }
     }
 
-    private void validateAvailability(
-            final Space space,
-            final ReservationCreateDto reservationCreateDto,
-            final ExcludeReservationStrategy excludeReservationStrategy) {
-        LocalDateTime startDateTime = reservationCreateDto.getStartDateTime();
-        LocalDateTime endDateTime = reservationCreateDto.getEndDateTime();
-
-        validateSpaceSetting(space, startDateTime, endDateTime);
-
-        List<Reservation> reservationsOnDate = getReservations(
-                Collections.singletonList(space),
-                startDateTime.toLocalDate());
-        excludeReservationStrategy.apply(space, reservationsOnDate);
-
-        validateTimeConflicts(startDateTime, endDateTime, reservationsOnDate);
-    }
-
-    private void validateSpaceSetting(Space space, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+    private void validateSpaceSetting(SpaceSnapshot space, LocalDateTime startDateTime, LocalDateTime endDateTime) {
         int durationMinutes = (int) ChronoUnit.MINUTES.between(startDateTime, endDateTime);
 
         if (space.isNotDivisibleByTimeUnit(startDateTime.getMinute()) || space.isNotDivisibleByTimeUnit(durationMinutes)) {
@@ -248,26 +557,235 @@ public class ReservationService {
         }
     }
 
+    // 이 노드가 최근에 lock을 잡고 읽은 예약과 이미 겹치면, 공간 lock을 기다리지 않고 바로 거절합니다
+    private void validateCachedTimeConflicts(
+            final Long spaceId,
+            final LocalDateTime startDateTime,
+            final LocalDateTime endDateTime,
+            final ExcludeReservationStrategy excludeReservationStrategy) {
+        reservationIntervalIndex.findCachedIntervals(spaceId, startDateTime.toLocalDate())
+                .map(reservationIntervals -> excludeReservationStrategy.apply(spaceId, reservationIntervals))
+                .filter(reservationIntervals -> reservationIntervals.overlaps(startDateTime, endDateTime))
+                .ifPresent(reservationIntervals -> {
+                    throw new ImpossibleReservationTimeException();
+                });
+    }
+
+    // 공간 lock을 잡은 뒤 DB에서 다시 읽은 예약으로 최종 판단합니다
     private void validateTimeConflicts(
+            final Long spaceId,
             final LocalDateTime startDateTime,
             final LocalDateTime endDateTime,
-            final List<Reservation> reservationsOnDate) {
-        for (Reservation existingReservation : reservationsOnDate) {
-            if (existingReservation.hasConflictWith(startDateTime, endDateTime)) {
+            final ExcludeReservationStrategy excludeReservationStrategy) {
+        ReservationIntervals reservationIntervals = excludeReservationStrategy.apply(
+                spaceId,
+                reservationIntervalIndex.loadIntervals(spaceId, startDateTime.toLocalDate()));
+
+        if (reservationIntervals.overlaps(startDateTime, endDateTime)) {
+            throw new ImpossibleReservationTimeException();
+        }
+    }
+
+    private void validateConflictsWithinBatch(final List<Reservation> newReservations) {
+        List<Reservation> sortedReservations = newReservations.stream()
+                .sorted(Comparator.comparing((Reservation reservation) -> reservation.getSpace().getId())
+                        .thenComparing(Reservation::getStartTime))
+                .collect(Collectors.toList());
+
+        // 공간별 시작 시간 순으로 정렬되어 있으므로 인접한 예약끼리만 비교하면 됩니다
+        for (int i = 1; i < sortedReservations.size(); i++) {
+            Reservation previous = sortedReservations.get(i - 1);
+            Reservation current = sortedReservations.get(i);
+
+            if (previous.getSpace().hasSameId(current.getSpace().getId())
+                    && previous.hasConflictWith(current.getStartTime(), current.getEndTime())) {
                 throw new ImpossibleReservationTimeException();
             }
         }
     }
 
-    private List<Reservation> getReservations(final Collection<Space> findSpaces, final LocalDate date) {
+    private Reservation makeReservation(final ReservationCreateDto reservationCreateDto, final Space space) {
+        return Reservation.builder()
+                .startTime(reservationCreateDto.getStartDateTime())
+                .endTime(reservationCreateDto.getEndDateTime())
+                .date(reservationCreateDto.getStartDateTime().toLocalDate())
+                .password(reservationCreateDto.getPassword())
+                .userName(reservationCreateDto.getName())
+                .description(reservationCreateDto.getDescription())
+                .space(space)
+                .build();
+    }
+
+    private List<LocalDate> findOpenDates(
+            final SpaceSnapshot space,
+            final ReservationRecurringCreateDto reservationRecurringCreateDto) {
+        LocalDate startDate = reservationRecurringCreateDto.getStartDateTime().toLocalDate();
+        LocalDate repeatEndDate = reservationRecurringCreateDto.getRepeatEndDate();
+        if (repeatEndDate.isBefore(startDate) || repeatEndDate.isAfter(startDate.plus(MAXIMUM_REPEAT_PERIOD))) {
+            throw new InvalidRepeatEndDateException();
+        }
+
+        List<LocalDate> openDates = reservationRecurringCreateDto.getRepeatType()
+                .datesBetween(startDate, repeatEndDate)
+                .stream()
+                .filter(date -> !space.isClosedOn(date.getDayOfWeek()))
+                .collect(Collectors.toList());
+        if (openDates.isEmpty()) {
+            throw new InvalidDayOfWeekException();
+        }
+        return openDates;
+    }
+
+    private Reservation makeReservationOn(
+            final LocalDate date,
+            final ReservationCreateDto reservationCreateDto,
+            final Space space) {
+        return Reservation.builder()
+                .startTime(date.atTime(reservationCreateDto.getStartDateTime().toLocalTime()))
+                .endTime(date.atTime(reservationCreateDto.getEndDateTime().toLocalTime()))
+                .date(date)
+                .password(reservationCreateDto.getPassword())
+                .userName(reservationCreateDto.getName())
+                .description(reservationCreateDto.getDescription())
+                .space(space)
+                .build();
+    }
+
+    private void recordChange(final Long mapId, final ReservationChangeType type, final Reservation reservation) {
+        recordChanges(List.of(new ReservationChange(mapId, type, reservation)));
+    }
+
+    private void recordChanges(final List<ReservationChange> changes) {
+        // 변경 번호를 올리면 커밋할 때까지 맵의 번호 row lock을 잡으므로, 공간 검사와 저장이 모두 끝난 뒤에 기록합니다
+        reservationChanges.saveAllInBatch(changes);
+    }
+
+    private void createReservations(final Long mapId, final List<Reservation> createdReservations) {
+        recordChanges(createdReservations.stream()
+                .map(reservation -> new ReservationChange(mapId, ReservationChangeType.CREATED, reservation))
+                .collect(Collectors.toList()));
+    }
+
+    private Space lockSpace(final Long spaceId) {
+        return lockSpaces(List.of(spaceId)).get(spaceId);
+    }
+
+    private Map<Long, Space> lockSpaces(final Collection<Long> spaceIds) {
+        // 같은 공간에 대한 예약 변경은 공간 row lock으로 직렬화하고, lock 이후의 조회는 커밋된 최신 예약을 읽습니다
+        Map<Long, Space> lockedSpaces = spaces.findAllByIdInForUpdate(spaceIds)
+                .stream()
+                .collect(Collectors.toMap(Space::getId, Function.identity()));
+
+        // 캐시된 스냅샷에는 있지만 그 사이 삭제된 공간이면 예약할 수 없습니다
+        if (!lockedSpaces.keySet().containsAll(spaceIds)) {
+            throw new NoSuchSpaceException();
+        }
+        return lockedSpaces;
+    }
+
+    private List<Reservation> getReservations(final Collection<SpaceSnapshot> findSpaces, final LocalDate date) {
         List<Long> spaceIds = findSpaces.stream()
-                .map(Space::getId)
+                .map(SpaceSnapshot::getId)
                 .collect(Collectors.toList());
 
         return reservations.findAllBySpaceIdInAndDate(spaceIds, date);
     }
 
-    private void validateSpaceExistence(final Map map, final Long spaceId) {
+    private List<SpaceSnapshot> findSpacesInRange(
+            final ReservationRangeFindDto reservationRangeFindDto,
+            final ReservationStrategy reservationStrategy) {
+        MapSnapshot map = findMapOfRange(reservationRangeFindDto, reservationStrategy);
+
+        LocalDate startDate = reservationRangeFindDto.getStartDate();
+        LocalDate endDate = reservationRangeFindDto.getEndDate();
+        if (endDate.isBefore(startDate) || ChronoUnit.DAYS.between(startDate, endDate) >= MAXIMUM_RANGE_DAYS) {
+            throw new InvalidReservationRangeException();
+        }
+
+        return findSpacesOfRange(map, reservationRangeFindDto);
+    }
+
+    private List<SpaceSnapshot> findSpacesToExport(
+            final ReservationRangeFindDto reservationRangeFindDto,
+            final ReservationStrategy reservationStrategy) {
+        MapSnapshot map = findMapOfRange(reservationRangeFindDto, reservationStrategy);
+
+        LocalDate startDate = reservationRangeFindDto.getStartDate();
+        LocalDate endDate = reservationRangeFindDto.getEndDate();
+        if (endDate.isBefore(startDate) || !endDate.isBefore(startDate.plus(MAXIMUM_EXPORT_PERIOD))) {
+            throw new InvalidExportRangeException();
+        }
+
+        return findSpacesOfRange(map, reservationRangeFindDto);
+    }
+
+    private MapSnapshot findMapOfRange(
+            final ReservationRangeFindDto reservationRangeFindDto,
+            final ReservationStrategy reservationStrategy) {
+        Long mapId = reservationRangeFindDto.getMapId();
+        Member manager = reservationRangeFindDto.getManager();
+        MapSnapshot map = mapSnapshotCache.findMap(mapId);
+        reservationStrategy.validateManagerOfMap(map, manager);
+        return map;
+    }
+
+    private List<SpaceSnapshot> findSpacesOfRange(
+            final MapSnapshot map,
+            final ReservationRangeFindDto reservationRangeFindDto) {
+        Long spaceId = reservationRangeFindDto.getSpaceId();
+        if (spaceId == null) {
+            return map.getSpaces();
+        }
+        SpaceSnapshot space = map.findSpaceById(spaceId)
+                .orElseThrow(NoSuchSpaceException::new);
+        return Collections.singletonList(space);
+    }
+
+    private boolean isSameGroup(final ReservationRow first, final ReservationRow row) {
+        return first.getSpaceId().equals(row.getSpaceId()) && first.getDate().equals(row.getDate());
+    }
+
+    private ReservationSpaceDateResponse groupOf(final Map<Long, SpaceSnapshot> spaces, final List<ReservationRow> group) {
+        ReservationRow first = group.get(0);
+        List<ReservationResponse> reservationResponses = group.stream()
+                .map(ReservationResponse::from)
+                .collect(Collectors.toList());
+        return ReservationSpaceDateResponse.of(spaces.get(first.getSpaceId()), first.getDate(), reservationResponses);
+    }
+
+    // 공간 id 순서로, 공간마다 (date, start_time, id) 다음 값부터 한 페이지씩 읽습니다
+    // 페이지마다 리포지토리의 짧은 읽기 트랜잭션으로 끝나므로, 느린 클라이언트에 쓰는 동안 커넥션을 잡지 않고 JDBC 드라이버의 커서 설정에도 기대지 않습니다
+    private void forEachReservationRow(
+            final Collection<Long> spaceIds,
+            final LocalDate startDate,
+            final LocalDate endDate,
+            final Consumer<ReservationRow> action) {
+        for (Long spaceId : new TreeSet<>(spaceIds)) {
+            LocalDate date = startDate.minusDays(1);
+            LocalDateTime startTime = date.atStartOfDay();
+            Long id = 0L;
+            List<ReservationRow> page;
+            do {
+                page = reservations.findAllBySpaceIdAndDateBetweenAfter(
+                        spaceId,
+                        startDate,
+                        endDate,
+                        date,
+                        startTime,
+                        id,
+                        PageRequest.of(0, ROW_PAGE_SIZE));
+                page.forEach(action);
+                if (!page.isEmpty()) {
+                    ReservationRow last = page.get(page.size() - 1);
+                    date = last.getDate();
+                    startTime = last.getStartTime();
+                    id = last.getId();
+                }
+            } while (page.size() == ROW_PAGE_SIZE);
+        }
+    }
+
+    private void validateSpaceExistence(final MapSnapshot map, final Long spaceId) {
         if (map.doesNotHaveSpaceId(spaceId)) {
             throw new NoSuchSpaceException();
         }
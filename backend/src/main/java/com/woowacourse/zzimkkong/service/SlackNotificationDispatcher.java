@@ -0,0 +1,140 @@
+package com.woowacourse.zzimkkong.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.woowacourse.zzimkkong.domain.SlackNotification;
+import com.woowacourse.zzimkkong.dto.slack.Attachments;
+import com.woowacourse.zzimkkong.infrastructure.SlackWebhookClient;
+import com.woowacourse.zzimkkong.repository.SlackNotificationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class SlackNotificationDispatcher {
+    private static final int WEBHOOK_BATCH_SIZE = 10;
+    private static final int DIGEST_SIZE = 20;
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(1L);
+
+    private final Logger logger = LoggerFactory.getLogger(SlackNotificationDispatcher.class);
+
+    private final SlackNotificationRepository slackNotifications;
+    private final SlackWebhookClient slackWebhookClient;
+    private final ObjectMapper objectMapper;
+
+    public SlackNotificationDispatcher(
+            final SlackNotificationRepository slackNotifications,
+            final SlackWebhookClient slackWebhookClient,
+            final ObjectMapper objectMapper) {
+        this.slackNotifications = slackNotifications;
+        this.slackWebhookClient = slackWebhookClient;
+        this.objectMapper = objectMapper;
+    }
+
+    @Scheduled(fixedDelayString = "${slack.dispatcher.fixed-delay:1000}")
+    public void dispatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> webhookUrls = slackNotifications.findWebhookUrlsToSend(
+                SlackNotification.MAXIMUM_ATTEMPT_COUNT,
+                now,
+                PageRequest.of(0, WEBHOOK_BATCH_SIZE));
+
+        for (String webhookUrl : webhookUrls) {
+            sendDigest(webhookUrl, now);
+        }
+    }
+
+    private void sendDigest(final String webhookUrl, final LocalDateTime now) {
+        List<SlackNotification> notifications = claim(webhookUrl, now);
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        try {
+            slackWebhookClient.send(webhookUrl, digestOf(notifications));
+            slackNotifications.deleteAll(notifications);
+        } catch (RuntimeException exception) {
+            List<SlackNotification> retryingNotifications = new ArrayList<>();
+            List<SlackNotification> exhaustedNotifications = new ArrayList<>();
+            for (SlackNotification notification : notifications) {
+                notification.fail(LocalDateTime.now());
+                logSendFailure(notification, exception);
+                if (notification.isExhausted()) {
+                    exhaustedNotifications.add(notification);
+                } else {
+                    retryingNotifications.add(notification);
+                }
+            }
+            // 재시도 횟수를 다 쓴 알림은 다시 보낼 일이 없으므로 남겨 두지 않습니다
+            slackNotifications.deleteAll(exhaustedNotifications);
+            slackNotifications.saveAll(retryingNotifications);
+        }
+    }
+
+    private List<SlackNotification> claim(final String webhookUrl, final LocalDateTime now) {
+        // 대기 시간이 지난 알림이 하나라도 있으면, 아직 대기 중인 같은 웹훅의 알림까지 한 메시지로 묶어 보냅니다
+        List<Long> ids = slackNotifications.findIdsToSendByWebhookUrl(
+                webhookUrl,
+                SlackNotification.MAXIMUM_ATTEMPT_COUNT,
+                now,
+                PageRequest.of(0, DIGEST_SIZE));
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 다른 서버가 먼저 가져간 알림은 빠지고, 이 서버가 가져간 알림만 보냅니다
+        // 보내던 서버가 죽으면 claimedUntil이 지난 뒤에 다른 서버가 다시 가져갑니다
+        String claimToken = UUID.randomUUID().toString();
+        LocalDateTime claimedAt = LocalDateTime.now();
+        slackNotifications.claim(ids, claimToken, claimedAt.plus(CLAIM_TIMEOUT), claimedAt);
+        return slackNotifications.findAllByClaimTokenOrderByIdAsc(claimToken);
+    }
+
+    private String digestOf(final List<SlackNotification> notifications) {
+        List<Attachments> messages = new ArrayList<>();
+        for (SlackNotification notification : collapse(notifications)) {
+            messages.add(readPayload(notification));
+        }
+
+        try {
+            return objectMapper.writeValueAsString(Attachments.concat(messages));
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private List<SlackNotification> collapse(final List<SlackNotification> notifications) {
+        // 같은 예약이 여러 번 바뀌었다면 마지막 알림만 남깁니다
+        List<SlackNotification> latestNotifications = new ArrayList<>();
+        for (SlackNotification notification : notifications) {
+            latestNotifications.removeIf(notification::isAboutSameReservationAs);
+            latestNotifications.add(notification);
+        }
+        return latestNotifications;
+    }
+
+    private Attachments readPayload(final SlackNotification notification) {
+        try {
+            return objectMapper.readValue(notification.getPayload(), Attachments.class);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void logSendFailure(final SlackNotification notification, final RuntimeException exception) {
+        if (notification.isExhausted()) {
+            logger.error("슬랙 알림 {}을 {}번 보내지 못해 더 이상 재시도하지 않습니다.", notification.getId(), notification.getAttemptCount(), exception);
+            return;
+        }
+        logger.warn("슬랙 알림 {} 전송에 실패했습니다. {}에 다시 보냅니다.", notification.getId(), notification.getNextAttemptAt());
+    }
+}
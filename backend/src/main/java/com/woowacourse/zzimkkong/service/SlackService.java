@@ -1,44 +1,51 @@
 package com.woowacourse.zzimkkong.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.woowacourse.zzimkkong.domain.SlackNotification;
 import com.woowacourse.zzimkkong.domain.SlackUrl;
 import com.woowacourse.zzimkkong.dto.slack.Attachments;
 import com.woowacourse.zzimkkong.dto.slack.SlackResponse;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
+import com.woowacourse.zzimkkong.repository.SlackNotificationRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
 
 @Service
-@Transactional(readOnly = true)
+@Transactional
 public class SlackService {
     private final SlackUrl slackUrl;
-
-    public SlackService(final SlackUrl slackUrl) {
+    private final SlackNotificationRepository slackNotifications;
+    private final ObjectMapper objectMapper;
+    private final Duration digestWindow;
+
+    public SlackService(
+            final SlackUrl slackUrl,
+            final SlackNotificationRepository slackNotifications,
+            final ObjectMapper objectMapper,
+            @Value("${slack.digest.window:10s}") final Duration digestWindow) {
         this.slackUrl = slackUrl;
+        this.slackNotifications = slackNotifications;
+        this.objectMapper = objectMapper;
+        this.digestWindow = digestWindow;
     }
 
-    public void sendUpdateMessage(SlackResponse slackResponse) {
-        RestTemplate restTemplate = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
+    public void sendUpdateMessage(final SlackResponse slackResponse) {
         Attachments attachments = Attachments.updateMessageFrom(slackResponse);
-        HttpEntity<String> requestEntity = new HttpEntity<>(attachments.toString(), headers);
-
-        restTemplate.exchange(slackUrl.getUrl(), HttpMethod.POST, requestEntity, String.class);
+        saveNotification(slackResponse.getReservationId(), attachments);
     }
 
-    public void sendDeleteMessage(SlackResponse slackResponse) {
-        RestTemplate restTemplate = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
+    public void sendDeleteMessage(final SlackResponse slackResponse) {
         Attachments attachments = Attachments.deleteMessageFrom(slackResponse);
-        HttpEntity<String> requestEntity = new HttpEntity<>(attachments.toString(), headers);
+        saveNotification(slackResponse.getReservationId(), attachments);
+    }
 
-        restTemplate.exchange(slackUrl.getUrl(), HttpMethod.POST, requestEntity, String.class);
+    private void saveNotification(final Long reservationId, final Attachments attachments) {
+        // 예약 변경과 같은 트랜잭션에서 저장만 하고, 실제 전송은 SlackNotificationDispatcher가 모아서 맡습니다
+        String payload = objectMapper.valueToTree(attachments).toString();
+        LocalDateTime sendAt = LocalDateTime.now().plus(digestWindow);
+        slackNotifications.save(new SlackNotification(slackUrl.getUrl(), reservationId, payload, sendAt));
     }
 }
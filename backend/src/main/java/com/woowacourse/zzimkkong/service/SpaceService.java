@@ -1,13 +1,16 @@
 package com.woowacourse.zzimkkong.service;
 
 import com.woowacourse.zzimkkong.domain.Map;
+import com.woowacourse.zzimkkong.domain.MapSnapshot;
 import com.woowacourse.zzimkkong.domain.Member;
 import com.woowacourse.zzimkkong.domain.Setting;
 import com.woowacourse.zzimkkong.domain.Space;
+import com.woowacourse.zzimkkong.domain.SpaceSnapshot;
 import com.woowacourse.zzimkkong.dto.space.*;
 import com.woowacourse.zzimkkong.exception.map.NoSuchMapException;
 import com.woowacourse.zzimkkong.exception.space.NoSuchSpaceException;
 import com.woowacourse.zzimkkong.exception.space.ReservationExistOnSpaceException;
+import com.woowacourse.zzimkkong.infrastructure.MapSnapshotCache;
 import com.woowacourse.zzimkkong.infrastructure.ThumbnailManager;
 import com.woowacourse.zzimkkong.repository.MapRepository;
 import com.woowacourse.zzimkkong.repository.ReservationRepository;
@@ -27,16 +30,19 @@ public class SpaceService {
     private final SpaceRepository spaces;
     private final ReservationRepository reservations;
     private final ThumbnailManager thumbnailManager;
+    private final MapSnapshotCache mapSnapshotCache;
 
     public SpaceService(
             final MapRepository maps,
             final SpaceRepository spaces,
             final ReservationRepository reservations,
-            final ThumbnailManager thumbnailManager) {
+            final ThumbnailManager thumbnailManager,
+            final MapSnapshotCache mapSnapshotCache) {
         this.maps = maps;
         this.spaces = spaces;
         this.reservations = reservations;
         this.thumbnailManager = thumbnailManager;
+        this.mapSnapshotCache = mapSnapshotCache;
     }
 
     public SpaceCreateResponse saveSpace(
@@ -57,6 +63,8 @@ public class SpaceService {
                 .map(map)
                 .build();
         Space saveSpace = spaces.save(space);
+        mapSnapshotCache.evict(mapId);
+        maps.increaseSpaceVersion(mapId);
 
         thumbnailManager.uploadMapThumbnail(spaceCreateUpdateRequest.getMapImageSvg(), map);
         return SpaceCreateResponse.from(saveSpace);
@@ -67,11 +75,10 @@ public class SpaceService {
             final Long mapId,
             final Long spaceId,
             final Member manager) {
-        Map map = maps.findById(mapId)
-                .orElseThrow(NoSuchMapException::new);
+        MapSnapshot map = mapSnapshotCache.findMap(mapId);
         validateManagerOfMap(map, manager);
 
-        Space space = map.findSpaceById(spaceId)
+        SpaceSnapshot space = map.findSpaceById(spaceId)
                 .orElseThrow(NoSuchSpaceException::new);
         return SpaceFindDetailResponse.from(space);
     }
@@ -80,21 +87,19 @@ public class SpaceService {
     public SpaceFindAllResponse findAllSpace(
             final Long mapId,
             final Member manager) {
-        Map map = maps.findById(mapId)
-                .orElseThrow(NoSuchMapException::new);
+        MapSnapshot map = mapSnapshotCache.findMap(mapId);
         validateManagerOfMap(map, manager);
 
-        List<Space> findAllSpaces = map.getSpaces();
+        List<SpaceSnapshot> findAllSpaces = map.getSpaces();
         return SpaceFindAllResponse.from(findAllSpaces);
     }
 
     @Transactional(readOnly = true)
     public SpaceFindAllResponse findAllSpace(
             final Long mapId) {
-        Map map = maps.findById(mapId)
-                .orElseThrow(NoSuchMapException::new);
+        MapSnapshot map = mapSnapshotCache.findMap(mapId);
 
-        List<Space> findAllSpaces = map.getSpaces();
+        List<SpaceSnapshot> findAllSpaces = map.getSpaces();
         return SpaceFindAllResponse.from(findAllSpaces);
     }
 
@@ -120,6 +125,8 @@ public class SpaceService {
                 .build();
 
         space.update(updateSpace);
+        mapSnapshotCache.evict(mapId);
+        maps.increaseSpaceVersion(mapId);
         thumbnailManager.uploadMapThumbnail(spaceCreateUpdateRequest.getMapImageSvg(), map);
     }
 
@@ -138,6 +145,8 @@ public class SpaceService {
         validateReservationExistence(spaceId);
 
         spaces.delete(space);
+        mapSnapshotCache.evict(mapId);
+        maps.increaseSpaceVersion(mapId);
         thumbnailManager.uploadMapThumbnail(spaceDeleteRequest.getMapImageSvg(), map);
     }
 
@@ -1,9 +1,7 @@
 package com.woowacourse.zzimkkong.service.strategy;
 
 import com.woowacourse.zzimkkong.domain.Reservation;
-import com.woowacourse.zzimkkong.domain.Space;
-
-import java.util.List;
+import com.woowacourse.zzimkkong.domain.ReservationIntervals;
 
 public class ExcludeReservationUpdateStrategy implements ExcludeReservationStrategy {
     private final Reservation reservation;
@@ -13,9 +11,10 @@ public class ExcludeReservationUpdateStrategy implements ExcludeReservationStrat
     }
 
     @Override
-    public void apply(final Space space, final List<Reservation> reservationsOnDate) {
-        if (reservation.getSpace().equals(space)) {
-            reservationsOnDate.remove(reservation);
+    public ReservationIntervals apply(final Long spaceId, final ReservationIntervals reservationIntervals) {
+        if (reservation.getSpace().hasSameId(spaceId)) {
+            return reservationIntervals.without(reservation.getId());
         }
+        return reservationIntervals;
     }
 }
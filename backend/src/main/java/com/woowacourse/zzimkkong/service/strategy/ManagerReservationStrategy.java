@@ -1,6 +1,6 @@
 package com.woowacourse.zzimkkong.service.strategy;
 
-import com.woowacourse.zzimkkong.domain.Map;
+import com.woowacourse.zzimkkong.domain.MapSnapshot;
 import com.woowacourse.zzimkkong.domain.Member;
 import com.woowacourse.zzimkkong.domain.Reservation;
 import com.woowacourse.zzimkkong.dto.slack.SlackResponse;
@@ -8,7 +8,7 @@ import com.woowacourse.zzimkkong.exception.authorization.NoAuthorityOnMapExcepti
 
 public class ManagerReservationStrategy implements ReservationStrategy {
     @Override
-    public void validateManagerOfMap(final Map map, final Member manager) {
+    public void validateManagerOfMap(final MapSnapshot map, final Member manager) {
         if (map.isNotOwnedBy(manager)) {
             throw new NoAuthorityOnMapException();
         }
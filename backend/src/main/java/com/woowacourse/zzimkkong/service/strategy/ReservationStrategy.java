@@ -1,12 +1,12 @@
 package com.woowacourse.zzimkkong.service.strategy;
 
-import com.woowacourse.zzimkkong.domain.Map;
+import com.woowacourse.zzimkkong.domain.MapSnapshot;
 import com.woowacourse.zzimkkong.domain.Member;
 import com.woowacourse.zzimkkong.domain.Reservation;
 import com.woowacourse.zzimkkong.dto.slack.SlackResponse;
 
 public interface ReservationStrategy {
-    void validateManagerOfMap(final Map map, final Member manager);
+    void validateManagerOfMap(final MapSnapshot map, final Member manager);
 
     void checkCorrectPassword(final Reservation reservation, final String password);
 
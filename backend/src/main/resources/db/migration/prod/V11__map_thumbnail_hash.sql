@@ -0,0 +1 @@
+alter table map add column thumbnail_hash varchar(64);
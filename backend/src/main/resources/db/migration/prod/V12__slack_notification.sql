@@ -0,0 +1,15 @@
+create table slack_notification
+(
+    id              bigint       not null auto_increment primary key,
+    webhook_url     varchar(255) not null,
+    reservation_id  bigint,
+    payload         longtext     not null,
+    attempt_count   integer      not null,
+    next_attempt_at datetime     not null,
+    claim_token     varchar(36),
+    claimed_until   datetime
+);
+
+create index slack_notification_next_attempt_at on slack_notification (next_attempt_at);
+create index slack_notification_webhook_url on slack_notification (webhook_url);
+create index slack_notification_claim_token on slack_notification (claim_token);
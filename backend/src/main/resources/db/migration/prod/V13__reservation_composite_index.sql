@@ -0,0 +1,3 @@
+CREATE INDEX reservation_space_id_date_start_time on reservation(space_id, date, start_time);
+CREATE INDEX reservation_space_id_end_time on reservation(space_id, end_time);
+DROP INDEX date ON reservation;
@@ -0,0 +1,25 @@
+ALTER TABLE space ADD COLUMN enabled_days_of_week integer NOT NULL DEFAULT 0;
+UPDATE space
+SET enabled_days_of_week =
+    IF(FIND_IN_SET('monday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0, 1, 0) +
+    IF(FIND_IN_SET('tuesday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0, 2, 0) +
+    IF(FIND_IN_SET('wednesday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0, 4, 0) +
+    IF(FIND_IN_SET('thursday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0, 8, 0) +
+    IF(FIND_IN_SET('friday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0, 16, 0) +
+    IF(FIND_IN_SET('saturday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0, 32, 0) +
+    IF(FIND_IN_SET('sunday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0, 64, 0);
+ALTER TABLE space ALTER COLUMN enabled_days_of_week DROP DEFAULT;
+ALTER TABLE space DROP COLUMN enabled_day_of_week;
+
+ALTER TABLE preset ADD COLUMN enabled_days_of_week integer NOT NULL DEFAULT 0;
+UPDATE preset
+SET enabled_days_of_week =
+    IF(FIND_IN_SET('monday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0, 1, 0) +
+    IF(FIND_IN_SET('tuesday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0, 2, 0) +
+    IF(FIND_IN_SET('wednesday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0, 4, 0) +
+    IF(FIND_IN_SET('thursday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0, 8, 0) +
+    IF(FIND_IN_SET('friday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0, 16, 0) +
+    IF(FIND_IN_SET('saturday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0, 32, 0) +
+    IF(FIND_IN_SET('sunday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0, 64, 0);
+ALTER TABLE preset ALTER COLUMN enabled_days_of_week DROP DEFAULT;
+ALTER TABLE preset DROP COLUMN enabled_day_of_week;
@@ -0,0 +1,21 @@
+create table reservation_change
+(
+    id             bigint       not null auto_increment primary key,
+    map_id         bigint       not null,
+    sequence       bigint       not null,
+    space_id       bigint       not null,
+    reservation_id bigint       not null,
+    type           varchar(10)  not null,
+    date           date         not null,
+    start_time     datetime     not null,
+    end_time       datetime     not null,
+    user_name      varchar(20)  not null,
+    description    varchar(100) not null,
+    constraint reservation_change_map_id_sequence unique (map_id, sequence)
+);
+
+create table reservation_change_sequence
+(
+    map_id        bigint not null primary key,
+    last_sequence bigint not null
+);
@@ -0,0 +1 @@
+alter table map add column space_version bigint not null default 0;
@@ -0,0 +1,2 @@
+alter table map add column space_modified_at datetime;
+alter table reservation_change_sequence add column modified_at datetime;
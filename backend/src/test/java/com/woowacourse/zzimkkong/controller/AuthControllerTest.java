@@ -14,6 +14,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
@@ -55,7 +56,7 @@ class AuthControllerTest extends AcceptanceTest {
         given(githubRequester.supports(OauthProvider.GITHUB))
                 .willReturn(true);
         given(githubRequester.getUserInfoByCode(code))
-                .willReturn(GithubUserInfo.from(Map.of("email", NEW_EMAIL)));
+                .willReturn(Mono.just(GithubUserInfo.from(Map.of("email", NEW_EMAIL))));
 
         // when
         ExtractableResponse<Response> response = loginByOauth(oauthProvider, code);
@@ -78,9 +79,9 @@ class AuthControllerTest extends AcceptanceTest {
         given(googleRequester.supports(any(OauthProvider.class)))
                 .willReturn(true);
         given(googleRequester.getUserInfoByCode(anyString()))
-                .willReturn(GoogleUserInfo.from(
+                .willReturn(Mono.just(GoogleUserInfo.from(
                         Map.of("id", "123",
-                                "email", NEW_EMAIL)));
+                                "email", NEW_EMAIL))));
 
         // when
         ExtractableResponse<Response> response = loginByOauth(oauthProvider, code);
@@ -0,0 +1,167 @@
+package com.woowacourse.zzimkkong.controller;
+
+import com.woowacourse.zzimkkong.dto.map.MapFindResponse;
+import com.woowacourse.zzimkkong.dto.reservation.ReservationCreateUpdateWithPasswordRequest;
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import static com.woowacourse.zzimkkong.Constants.*;
+import static com.woowacourse.zzimkkong.DocumentUtils.*;
+import static com.woowacourse.zzimkkong.controller.ManagerSpaceControllerTest.saveSpace;
+import static com.woowacourse.zzimkkong.controller.MapControllerTest.findMap;
+import static com.woowacourse.zzimkkong.controller.MapControllerTest.saveMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.restdocs.restassured3.RestAssuredRestDocumentation.document;
+
+class GuestCalendarControllerTest extends AcceptanceTest {
+    private String mapCalendarApi;
+    private String beCalendarApi;
+    private String beReservationApi;
+    private Long reservationId;
+
+    @BeforeEach
+    void setUp() {
+        String mapId = saveMap("/api/managers/maps", mapCreateUpdateRequest).header("location").split("/")[4];
+        String sharingMapId = findMap("/api/managers/maps/" + mapId)
+                .as(MapFindResponse.class)
+                .getSharingMapId();
+        String beSpaceId = saveSpace("/api/managers/maps/" + mapId + "/spaces", beSpaceCreateUpdateRequest)
+                .header("location")
+                .split("/")[6];
+
+        mapCalendarApi = "/api/guests/maps/" + sharingMapId + "/calendar.ics";
+        beCalendarApi = "/api/guests/maps/" + sharingMapId + "/spaces/" + beSpaceId + "/calendar.ics";
+        beReservationApi = "/api/guests/maps/" + mapId + "/spaces/" + beSpaceId + "/reservations";
+        reservationId = saveReservation(new ReservationCreateUpdateWithPasswordRequest(
+                BE_AM_TEN_ELEVEN_START_TIME,
+                BE_AM_TEN_ELEVEN_END_TIME,
+                BE_AM_TEN_ELEVEN_PW,
+                BE_AM_TEN_ELEVEN_USERNAME,
+                BE_AM_TEN_ELEVEN_DESCRIPTION));
+    }
+
+    @Test
+    @DisplayName("공유 맵 id와 공간 id가 주어질 때, 해당 공간의 예약을 iCalendar로 조회한다.")
+    void findSpaceCalendar() {
+        //given, when
+        ExtractableResponse<Response> response = findCalendar(beCalendarApi, "calendar/guest/getSpace");
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.contentType()).startsWith("text/calendar");
+        assertThat(response.header("ETag")).isNotBlank();
+        assertThat(response.header("Last-Modified")).isNotBlank();
+        assertThat(response.asString())
+                .startsWith("BEGIN:VCALENDAR\r\n")
+                .contains(
+                        "UID:reservation-" + reservationId + "@zzimkkong\r\n",
+                        "SUMMARY:" + BE_AM_TEN_ELEVEN_USERNAME + "\r\n",
+                        "LOCATION:" + BE_NAME + "\r\n")
+                .endsWith("END:VCALENDAR\r\n");
+    }
+
+    @Test
+    @DisplayName("공유 맵 id가 주어질 때 받은 ETag로 다시 조회하면, 예약이 바뀌지 않은 동안은 304를 반환한다.")
+    void findMapCalendarNotModified() {
+        //given
+        String eTag = findCalendar(mapCalendarApi, "calendar/guest/getMap").header("ETag");
+
+        //when
+        ExtractableResponse<Response> response = RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("*/*")
+                .filter(document("calendar/guest/getMapNotModified", getRequestPreprocessor(), getResponsePreprocessor()))
+                .header("If-None-Match", eTag)
+                .when().get(mapCalendarApi)
+                .then().log().all().extract();
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.header("ETag")).isEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("받은 Last-Modified를 If-Modified-Since로 보내면, 예약이 바뀌지 않은 동안은 304를 반환한다.")
+    void findSpaceCalendarNotModifiedSince() {
+        //given
+        String lastModified = findCalendar(beCalendarApi, "calendar/guest/getSpace").header("Last-Modified");
+
+        //when
+        ExtractableResponse<Response> response = RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("*/*")
+                .header("If-Modified-Since", lastModified)
+                .when().get(beCalendarApi)
+                .then().log().all().extract();
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @Test
+    @DisplayName("예약이 추가되면, 이전 ETag로 조회해도 새 예약이 담긴 캘린더를 반환한다.")
+    void findSpaceCalendarAfterReservationChanged() {
+        //given
+        String eTag = findCalendar(beCalendarApi, "calendar/guest/getSpace").header("ETag");
+        Long savedReservationId = saveReservation(new ReservationCreateUpdateWithPasswordRequest(
+                BE_PM_ONE_TWO_START_TIME,
+                BE_PM_ONE_TWO_END_TIME,
+                BE_PM_ONE_TWO_PW,
+                BE_PM_ONE_TWO_USERNAME,
+                BE_PM_ONE_TWO_DESCRIPTION));
+
+        //when
+        ExtractableResponse<Response> response = RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("*/*")
+                .header("If-None-Match", eTag)
+                .when().get(beCalendarApi)
+                .then().log().all().extract();
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.header("ETag")).isNotEqualTo(eTag);
+        assertThat(response.asString()).contains("UID:reservation-" + savedReservationId + "@zzimkkong\r\n");
+    }
+
+    @Test
+    @DisplayName("공유 맵 id가 올바르지 않으면, 캘린더를 조회할 수 없다.")
+    void findMapCalendarInvalidSharingId() {
+        //given, when
+        ExtractableResponse<Response> response = RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("*/*")
+                .when().get("/api/guests/maps/invalid/calendar.ics")
+                .then().log().all().extract();
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    }
+
+    private ExtractableResponse<Response> findCalendar(final String api, final String identifier) {
+        return RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("*/*")
+                .filter(document(identifier, getRequestPreprocessor(), getResponsePreprocessor()))
+                .when().get(api)
+                .then().log().all().extract();
+    }
+
+    private Long saveReservation(final ReservationCreateUpdateWithPasswordRequest reservationCreateUpdateWithPasswordRequest) {
+        return Long.valueOf(RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("application/json")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(reservationCreateUpdateWithPasswordRequest)
+                .when().post(beReservationApi)
+                .then().log().all().extract()
+                .header("location")
+                .split("/")[8]);
+    }
+}
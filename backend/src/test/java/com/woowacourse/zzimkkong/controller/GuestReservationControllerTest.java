@@ -2,25 +2,39 @@ package com.woowacourse.zzimkkong.controller;
 
 import com.woowacourse.zzimkkong.domain.*;
 import com.woowacourse.zzimkkong.dto.reservation.*;
+import com.woowacourse.zzimkkong.infrastructure.ReservationEvents;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
 
 import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import static com.woowacourse.zzimkkong.Constants.*;
 import static com.woowacourse.zzimkkong.DocumentUtils.*;
 import static com.woowacourse.zzimkkong.controller.ManagerSpaceControllerTest.saveSpace;
 import static com.woowacourse.zzimkkong.controller.MapControllerTest.saveMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.springframework.restdocs.restassured3.RestAssuredRestDocumentation.document;
 
 class GuestReservationControllerTest extends AcceptanceTest {
+    @Autowired
+    private ReservationEvents reservationEvents;
+
     private ReservationCreateUpdateWithPasswordRequest reservationCreateUpdateWithPasswordRequest;
     private Reservation savedReservation;
     private String beReservationApi;
@@ -148,6 +162,27 @@ class GuestReservationControllerTest extends AcceptanceTest {
                 .isEqualTo(expectedResponse);
     }
 
+    @Test
+    @DisplayName("space id와 특정 날짜가 주어질 때 해당 공간에서 예약할 수 있는 빈 구간들을 조회한다")
+    void findSlots() {
+        //given, when
+        String api = beReservationApi.replace("/reservations", "/slots");
+        ExtractableResponse<Response> response = findSlots(api, THE_DAY_AFTER_TOMORROW.toString());
+
+        ReservationSlotFindResponse actualResponse = response.as(ReservationSlotFindResponse.class);
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(actualResponse.getReservationTimeUnit()).isEqualTo(BE_RESERVATION_TIME_UNIT);
+        assertThat(actualResponse.getReservationMinimumTimeUnit()).isEqualTo(BE_RESERVATION_MINIMUM_TIME_UNIT);
+        assertThat(actualResponse.getSlots())
+                .extracting(ReservationSlotResponse::getStartDateTime, ReservationSlotResponse::getEndDateTime)
+                .containsExactly(
+                        tuple(BE_AM_TEN_ELEVEN_END_TIME, BE_PM_ONE_TWO_START_TIME),
+                        tuple(BE_PM_ONE_TWO_END_TIME, savedReservation.getStartTime()),
+                        tuple(savedReservation.getEndTime(), THE_DAY_AFTER_TOMORROW.atTime(BE_AVAILABLE_END_TIME)));
+    }
+
     @Test
     @DisplayName("map id와 특정 날짜가 주어질 때 해당 맵, 해당 날짜의 모든 공간에 대한 예약을 조회한다.")
     void findAll() {
@@ -157,7 +192,7 @@ class GuestReservationControllerTest extends AcceptanceTest {
 
         ReservationFindAllResponse actualResponse = response.as(ReservationFindAllResponse.class);
         ReservationFindAllResponse expectedResponse = ReservationFindAllResponse.of(
-                Arrays.asList(be, fe),
+                Arrays.asList(SpaceSnapshot.from(be), SpaceSnapshot.from(fe)),
                 Arrays.asList(savedReservation,
                         beAmZeroOne,
                         bePmOneTwo,
@@ -172,6 +207,133 @@ class GuestReservationControllerTest extends AcceptanceTest {
                 .isEqualTo(expectedResponse);
     }
 
+    @Test
+    @DisplayName("map id와 날짜 범위가 주어질 때 한 번의 요청으로 모든 공간의 예약을 공간별 날짜별로 묶어 조회한다.")
+    void findAllInRange() {
+        //given, when
+        String api = beReservationApi.replaceAll("/spaces/[0-9]+/reservations", "/spaces/reservations");
+        ExtractableResponse<Response> response = findAllReservationsInRange(
+                api,
+                THE_DAY_AFTER_TOMORROW.toString(),
+                THE_DAY_AFTER_TOMORROW.plusDays(6).toString());
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getString("startDate")).isEqualTo(THE_DAY_AFTER_TOMORROW.toString());
+        assertThat(response.jsonPath().getList("data.spaceId", Long.class))
+                .containsExactly(be.getId(), be.getId(), fe.getId());
+        assertThat(response.jsonPath().getList("data.date", String.class))
+                .containsExactly(
+                        THE_DAY_AFTER_TOMORROW.toString(),
+                        THE_DAY_AFTER_TOMORROW.plusDays(1).toString(),
+                        THE_DAY_AFTER_TOMORROW.toString());
+        assertThat(response.jsonPath().getList("data[0].reservations.id", Long.class))
+                .containsExactly(beAmZeroOne.getId(), bePmOneTwo.getId(), savedReservationId);
+        assertThat(response.jsonPath().getList("data[2].reservations.id", Long.class))
+                .containsExactly(fe1ZeroOne.getId());
+    }
+
+    @Test
+    @DisplayName("날짜 범위 예약 조회 시 범위가 6주를 넘으면, 응답을 쓰기 전에 400을 반환한다.")
+    void findAllInRangeTooLong() {
+        //given, when
+        String api = beReservationApi.replaceAll("/spaces/[0-9]+/reservations", "/spaces/reservations");
+        ExtractableResponse<Response> response = findAllReservationsInRange(
+                api,
+                THE_DAY_AFTER_TOMORROW.toString(),
+                THE_DAY_AFTER_TOMORROW.plusDays(42).toString());
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.jsonPath().getString("field")).isEqualTo("endDate");
+    }
+
+    @Test
+    @DisplayName("전체 예약 조회 시 받은 ETag로 다시 조회하면, 예약이 바뀌지 않은 동안은 304를 반환한다.")
+    void findAllNotModified() {
+        //given
+        String api = beReservationApi.replaceAll("/spaces/[0-9]", "/spaces");
+        String eTag = findAllReservations(api, THE_DAY_AFTER_TOMORROW.toString()).header(HttpHeaders.ETAG);
+
+        //when
+        ExtractableResponse<Response> notModifiedResponse = findAllReservationsIfNoneMatch(api, THE_DAY_AFTER_TOMORROW.toString(), eTag);
+        saveReservation(beReservationApi, new ReservationCreateUpdateWithPasswordRequest(
+                THE_DAY_AFTER_TOMORROW.atTime(18, 0),
+                THE_DAY_AFTER_TOMORROW.atTime(19, 0),
+                SALLY_PW,
+                SALLY_NAME,
+                SALLY_DESCRIPTION));
+        ExtractableResponse<Response> modifiedResponse = findAllReservationsIfNoneMatch(api, THE_DAY_AFTER_TOMORROW.toString(), eTag);
+
+        //then
+        assertThat(eTag).isNotBlank();
+        assertThat(notModifiedResponse.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(notModifiedResponse.body().asString()).isEmpty();
+        assertThat(modifiedResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(modifiedResponse.header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("예약 변경 조회 요청 시, 주어진 변경 번호 이후의 생성, 수정, 삭제 내역만 번호 순서대로 조회된다.")
+    void findChanges() {
+        //given
+        String api = beReservationApi.replaceAll("/spaces/[0-9]+/reservations", "/spaces/reservations/changes");
+        ReservationChangeFindResponse allChanges = findChanges(api, 0L).as(ReservationChangeFindResponse.class);
+        deleteReservation(beReservationApi + "/" + savedReservationId, new ReservationPasswordAuthenticationRequest(SALLY_PW));
+
+        //when
+        ExtractableResponse<Response> response = findChanges(api, allChanges.getLastSequence());
+        ReservationChangeFindResponse actualResponse = response.as(ReservationChangeFindResponse.class);
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(allChanges.getChanges()).extracting(ReservationChangeResponse::getType)
+                .containsOnly(ReservationChangeType.CREATED)
+                .hasSize(5);
+        assertThat(allChanges.getChanges()).extracting(ReservationChangeResponse::getSequence)
+                .isSorted();
+        assertThat(actualResponse.getChanges())
+                .extracting(ReservationChangeResponse::getType, ReservationChangeResponse::getReservationId, ReservationChangeResponse::getName)
+                .containsExactly(tuple(ReservationChangeType.DELETED, savedReservationId, null));
+        assertThat(actualResponse.getLastSequence()).isGreaterThan(allChanges.getLastSequence());
+        assertThat(actualResponse.getHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("예약 이벤트를 구독하면, 해당 날짜에 예약이 생성되어 변경 내역을 읽을 때 이벤트를 받는다.")
+    void subscribe() throws InterruptedException {
+        //given
+        String api = beReservationApi.replaceAll("/spaces/[0-9]+/reservations", "/spaces/reservations/events");
+        BlockingQueue<ServerSentEvent<String>> receivedEvents = new LinkedBlockingQueue<>();
+        Disposable subscription = WebClient.create("http://localhost:" + port)
+                .get()
+                .uri(api + "?date=" + THE_DAY_AFTER_TOMORROW)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {
+                })
+                .subscribe(receivedEvents::add);
+
+        //when
+        ServerSentEvent<String> connected = receivedEvents.poll(5L, TimeUnit.SECONDS);
+        saveReservation(beReservationApi, new ReservationCreateUpdateWithPasswordRequest(
+                THE_DAY_AFTER_TOMORROW.atTime(18, 0),
+                THE_DAY_AFTER_TOMORROW.atTime(19, 0),
+                SALLY_PW,
+                SALLY_NAME,
+                SALLY_DESCRIPTION));
+        reservationEvents.poll();
+        ServerSentEvent<String> created = receivedEvents.poll(1L, TimeUnit.SECONDS);
+        subscription.dispose();
+
+        //then
+        assertThat(connected).isNotNull();
+        assertThat(connected.comment()).isEqualTo("connected");
+        assertThat(created).isNotNull();
+        assertThat(created.event()).isEqualTo("created");
+        assertThat(created.data()).contains(SALLY_NAME);
+    }
+
     @Test
     @DisplayName("공간 변경 없는 새로운 예약 정보가 주어지면 예약을 업데이트 한다")
     void update_sameSpace() {
@@ -370,6 +532,16 @@ class GuestReservationControllerTest extends AcceptanceTest {
                 .then().log().all().extract();
     }
 
+    private ExtractableResponse<Response> findSlots(final String api, final String date) {
+        return RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("*/*")
+                .filter(document("reservation/guest/getSlots", getRequestPreprocessor(), getResponsePreprocessor()))
+                .queryParams("date", date)
+                .when().get(api)
+                .then().log().all().extract();
+    }
+
     private ExtractableResponse<Response> findAllReservations(final String api, final String date) {
         return RestAssured
                 .given(getRequestSpecification()).log().all()
@@ -380,6 +552,38 @@ class GuestReservationControllerTest extends AcceptanceTest {
                 .then().log().all().extract();
     }
 
+    private ExtractableResponse<Response> findAllReservationsInRange(final String api, final String startDate, final String endDate) {
+        return RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("*/*")
+                .filter(document("reservation/guest/getAllInRange", getRequestPreprocessor(), getResponsePreprocessor()))
+                .queryParam("startDate", startDate)
+                .queryParam("endDate", endDate)
+                .when().get(api)
+                .then().log().all().extract();
+    }
+
+    private ExtractableResponse<Response> findAllReservationsIfNoneMatch(final String api, final String date, final String eTag) {
+        return RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("*/*")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .filter(document("reservation/guest/getAllNotModified", getRequestPreprocessor(), getResponsePreprocessor()))
+                .queryParams("date", date)
+                .when().get(api)
+                .then().log().all().extract();
+    }
+
+    private ExtractableResponse<Response> findChanges(final String api, final Long since) {
+        return RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("application/json")
+                .filter(document("reservation/guest/getChanges", getRequestPreprocessor(), getResponsePreprocessor()))
+                .queryParams("since", since)
+                .when().get(api)
+                .then().log().all().extract();
+    }
+
     private ExtractableResponse<Response> updateReservation(
             final String api,
             final ReservationCreateUpdateWithPasswordRequest reservationCreateUpdateWithPasswordRequest) {
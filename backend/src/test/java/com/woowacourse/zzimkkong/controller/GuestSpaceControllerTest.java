@@ -4,6 +4,7 @@ import com.woowacourse.zzimkkong.domain.Map;
 import com.woowacourse.zzimkkong.domain.Member;
 import com.woowacourse.zzimkkong.domain.Setting;
 import com.woowacourse.zzimkkong.domain.Space;
+import com.woowacourse.zzimkkong.domain.SpaceSnapshot;
 import com.woowacourse.zzimkkong.dto.space.SpaceFindAllResponse;
 import com.woowacourse.zzimkkong.infrastructure.AuthorizationExtractor;
 import io.restassured.RestAssured;
@@ -89,7 +90,7 @@ class GuestSpaceControllerTest extends AcceptanceTest {
         String guestSpaceApi = spaceApi.replaceAll("managers", "guests");
         ExtractableResponse<Response> response = findAllSpace(guestSpaceApi);
         SpaceFindAllResponse actual = response.body().as(SpaceFindAllResponse.class);
-        SpaceFindAllResponse expected = SpaceFindAllResponse.from(List.of(be, fe));
+        SpaceFindAllResponse expected = SpaceFindAllResponse.from(List.of(SpaceSnapshot.from(be), SpaceSnapshot.from(fe)));
 
         // then
         assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
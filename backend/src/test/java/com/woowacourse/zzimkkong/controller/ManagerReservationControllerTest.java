@@ -15,12 +15,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static com.woowacourse.zzimkkong.Constants.*;
 import static com.woowacourse.zzimkkong.DocumentUtils.*;
 import static com.woowacourse.zzimkkong.controller.ManagerSpaceControllerTest.saveSpace;
 import static com.woowacourse.zzimkkong.controller.MapControllerTest.saveMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.springframework.restdocs.restassured3.RestAssuredRestDocumentation.document;
 
 class ManagerReservationControllerTest extends AcceptanceTest {
@@ -131,6 +133,56 @@ class ManagerReservationControllerTest extends AcceptanceTest {
         assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
     }
 
+    @Test
+    @DisplayName("여러 공간의 예약을 한 번에 등록한다.")
+    void saveAll() {
+        //given
+        ReservationBatchCreateRequest reservationBatchCreateRequest = new ReservationBatchCreateRequest(Arrays.asList(
+                new ReservationBatchItemRequest(
+                        be.getId(),
+                        THE_DAY_AFTER_TOMORROW.atTime(19, 0),
+                        THE_DAY_AFTER_TOMORROW.atTime(20, 0),
+                        SALLY_PW,
+                        SALLY_NAME,
+                        SALLY_DESCRIPTION),
+                new ReservationBatchItemRequest(
+                        fe.getId(),
+                        THE_DAY_AFTER_TOMORROW.atTime(19, 0),
+                        THE_DAY_AFTER_TOMORROW.atTime(20, 0),
+                        SALLY_PW,
+                        SALLY_NAME,
+                        SALLY_DESCRIPTION)));
+        String api = beReservationApi.replaceAll("/spaces/[0-9]", "/spaces");
+
+        //when
+        ExtractableResponse<Response> response = saveReservations(api, reservationBatchCreateRequest);
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(response.as(ReservationBatchCreateResponse.class).getReservations()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("매주 반복되는 예약을 종료 날짜까지 한 번에 등록한다.")
+    void saveRecurring() {
+        //given
+        ReservationRecurringCreateRequest reservationRecurringCreateRequest = new ReservationRecurringCreateRequest(
+                THE_DAY_AFTER_TOMORROW.atTime(19, 0),
+                THE_DAY_AFTER_TOMORROW.atTime(20, 0),
+                SALLY_PW,
+                SALLY_NAME,
+                SALLY_DESCRIPTION,
+                RepeatType.WEEKLY,
+                THE_DAY_AFTER_TOMORROW.plusWeeks(3));
+
+        //when
+        ExtractableResponse<Response> response = saveRecurringReservations(beReservationApi + "/recurring", reservationRecurringCreateRequest);
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(response.as(ReservationBatchCreateResponse.class).getReservations()).hasSize(4);
+    }
+
     @Test
     @DisplayName("map id, space id, 특정 날짜가 주어질 때 해당 맵, 해당 공간, 해당 날짜에 속하는 예약들만 찾아온다")
     void find() {
@@ -160,7 +212,7 @@ class ManagerReservationControllerTest extends AcceptanceTest {
 
         ReservationFindAllResponse actualResponse = response.as(ReservationFindAllResponse.class);
         ReservationFindAllResponse expectedResponse = ReservationFindAllResponse.of(
-                Arrays.asList(be, fe),
+                Arrays.asList(SpaceSnapshot.from(be), SpaceSnapshot.from(fe)),
                 Arrays.asList(savedReservation,
                         beAmZeroOne,
                         bePmOneTwo,
@@ -175,6 +227,101 @@ class ManagerReservationControllerTest extends AcceptanceTest {
                 .isEqualTo(expectedResponse);
     }
 
+    @Test
+    @DisplayName("map id와 날짜 범위가 주어질 때 해당 맵의 모든 공간에 대한 날짜별 예약률을 조회한다.")
+    void findOccupancies() {
+        //given, when
+        String api = beReservationApi.replaceAll("/spaces/[0-9]", "/spaces") + "/occupancy";
+        ExtractableResponse<Response> response = findOccupancies(
+                api,
+                THE_DAY_AFTER_TOMORROW.toString(),
+                THE_DAY_AFTER_TOMORROW.plusDays(1).toString());
+
+        ReservationOccupancyFindResponse actualResponse = response.as(ReservationOccupancyFindResponse.class);
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(actualResponse.getSpaces())
+                .extracting(SpaceOccupancyResponse::getSpaceId, SpaceOccupancyResponse::getOccupancyRates)
+                .containsExactly(
+                        tuple(be.getId(), List.of(0.25, 0.167)),
+                        tuple(fe.getId(), List.of(0.083, 0.0)));
+    }
+
+    @Test
+    @DisplayName("map id와 날짜 범위가 주어질 때 해당 맵의 예약을 공간, 날짜, 시작 시간 순서로 CSV로 내보낸다.")
+    void exportCsv() {
+        //given, when
+        String api = beReservationApi.replaceAll("/spaces/[0-9]+/reservations", "/spaces/reservations") + "/export";
+        ExtractableResponse<Response> response = exportReservations(
+                api,
+                THE_DAY_AFTER_TOMORROW.toString(),
+                THE_DAY_AFTER_TOMORROW.plusDays(1).toString(),
+                "csv");
+
+        //then
+        String[] lines = response.asString().split("\r\n");
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.header("Content-Disposition")).contains("attachment");
+        assertThat(lines).hasSize(6);
+        assertThat(lines[0]).endsWith("id,spaceId,spaceName,date,startDateTime,endDateTime,name,description");
+        assertThat(lines[1]).startsWith(beAmZeroOne.getId() + "," + be.getId() + "," + BE_NAME);
+        assertThat(lines[5]).startsWith(fe1ZeroOne.getId() + "," + fe.getId() + "," + FE_NAME);
+    }
+
+    @Test
+    @DisplayName("map id와 날짜 범위가 주어질 때 해당 맵의 예약을 한 줄에 하나씩 NDJSON으로 내보낸다.")
+    void exportNdjson() {
+        //given, when
+        String api = beReservationApi.replaceAll("/spaces/[0-9]+/reservations", "/spaces/reservations") + "/export";
+        ExtractableResponse<Response> response = exportReservations(
+                api,
+                THE_DAY_AFTER_TOMORROW.toString(),
+                THE_DAY_AFTER_TOMORROW.plusDays(1).toString(),
+                "ndjson");
+
+        //then
+        String[] lines = response.asString().split("\n");
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(lines).hasSize(5);
+        assertThat(lines[0]).contains("\"id\":" + beAmZeroOne.getId(), "\"spaceName\":\"" + BE_NAME + "\"");
+    }
+
+    @Test
+    @DisplayName("예약 내보내기 시 지원하지 않는 형식이면, 응답을 쓰기 전에 400을 반환한다.")
+    void exportUnsupportedFormat() {
+        //given, when
+        String api = beReservationApi.replaceAll("/spaces/[0-9]+/reservations", "/spaces/reservations") + "/export";
+        ExtractableResponse<Response> response = exportReservations(
+                api,
+                THE_DAY_AFTER_TOMORROW.toString(),
+                THE_DAY_AFTER_TOMORROW.plusDays(1).toString(),
+                "xlsx");
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.jsonPath().getString("field")).isEqualTo("format");
+    }
+
+    @Test
+    @DisplayName("space id와 날짜 범위가 주어질 때 해당 공간의 예약을 날짜별로 묶어 한 번에 조회한다.")
+    void findInRange() {
+        //given, when
+        ExtractableResponse<Response> response = findReservationsInRange(
+                beReservationApi,
+                THE_DAY_AFTER_TOMORROW.toString(),
+                THE_DAY_AFTER_TOMORROW.plusDays(6).toString());
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("data.spaceId", Long.class))
+                .containsOnly(be.getId());
+        assertThat(response.jsonPath().getList("data.date", String.class))
+                .containsExactly(THE_DAY_AFTER_TOMORROW.toString(), THE_DAY_AFTER_TOMORROW.plusDays(1).toString());
+        assertThat(response.jsonPath().getList("data[0].reservations.id", Long.class))
+                .containsExactly(beAmZeroOne.getId(), bePmOneTwo.getId(), savedReservationId);
+    }
+
     @Test
     @DisplayName("올바른 토큰과 함께 예약 수정을 위한 예약 조회 요청 시, 예약에 대한 정보를 반환한다")
     void findOne() {
@@ -367,6 +514,34 @@ class ManagerReservationControllerTest extends AcceptanceTest {
                 .then().log().all().extract();
     }
 
+    private ExtractableResponse<Response> saveReservations(
+            final String api,
+            final ReservationBatchCreateRequest reservationBatchCreateRequest) {
+        return RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("application/json")
+                .header("Authorization", AuthorizationExtractor.AUTHENTICATION_TYPE + " " + accessToken)
+                .filter(document("reservation/manager/postAll", getRequestPreprocessor(), getResponsePreprocessor()))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(reservationBatchCreateRequest)
+                .when().post(api)
+                .then().log().all().extract();
+    }
+
+    private ExtractableResponse<Response> saveRecurringReservations(
+            final String api,
+            final ReservationRecurringCreateRequest reservationRecurringCreateRequest) {
+        return RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("application/json")
+                .header("Authorization", AuthorizationExtractor.AUTHENTICATION_TYPE + " " + accessToken)
+                .filter(document("reservation/manager/postRecurring", getRequestPreprocessor(), getResponsePreprocessor()))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(reservationRecurringCreateRequest)
+                .when().post(api)
+                .then().log().all().extract();
+    }
+
     private ExtractableResponse<Response> findReservations(final String api, final String date) {
         return RestAssured
                 .given(getRequestSpecification()).log().all()
@@ -389,6 +564,43 @@ class ManagerReservationControllerTest extends AcceptanceTest {
                 .then().log().all().extract();
     }
 
+    private ExtractableResponse<Response> exportReservations(final String api, final String startDate, final String endDate, final String format) {
+        return RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("*/*")
+                .header("Authorization", AuthorizationExtractor.AUTHENTICATION_TYPE + " " + accessToken)
+                .filter(document("reservation/manager/export/" + format, getRequestPreprocessor(), getResponsePreprocessor()))
+                .queryParam("startDate", startDate)
+                .queryParam("endDate", endDate)
+                .queryParam("format", format)
+                .when().get(api)
+                .then().log().all().extract();
+    }
+
+    private ExtractableResponse<Response> findReservationsInRange(final String api, final String startDate, final String endDate) {
+        return RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("*/*")
+                .header("Authorization", AuthorizationExtractor.AUTHENTICATION_TYPE + " " + accessToken)
+                .filter(document("reservation/manager/getInRange", getRequestPreprocessor(), getResponsePreprocessor()))
+                .queryParam("startDate", startDate)
+                .queryParam("endDate", endDate)
+                .when().get(api)
+                .then().log().all().extract();
+    }
+
+    private ExtractableResponse<Response> findOccupancies(final String api, final String startDate, final String endDate) {
+        return RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("*/*")
+                .header("Authorization", AuthorizationExtractor.AUTHENTICATION_TYPE + " " + accessToken)
+                .filter(document("reservation/manager/getOccupancy", getRequestPreprocessor(), getResponsePreprocessor()))
+                .queryParam("startDate", startDate)
+                .queryParam("endDate", endDate)
+                .when().get(api)
+                .then().log().all().extract();
+    }
+
     private ExtractableResponse<Response> updateReservation(
             final String api,
             final ReservationCreateUpdateRequest reservationCreateUpdateRequest) {
@@ -4,6 +4,7 @@ import com.woowacourse.zzimkkong.domain.Map;
 import com.woowacourse.zzimkkong.domain.Member;
 import com.woowacourse.zzimkkong.domain.Setting;
 import com.woowacourse.zzimkkong.domain.Space;
+import com.woowacourse.zzimkkong.domain.SpaceSnapshot;
 import com.woowacourse.zzimkkong.dto.space.*;
 import com.woowacourse.zzimkkong.infrastructure.AuthorizationExtractor;
 import io.restassured.RestAssured;
@@ -161,7 +162,7 @@ class ManagerSpaceControllerTest extends AcceptanceTest {
 
         ExtractableResponse<Response> findResponse = findSpace(api);
         SpaceFindDetailResponse actualSpaceFindDetailResponse = findResponse.as(SpaceFindDetailResponse.class);
-        SpaceFindDetailResponse expectedSpaceFindDetailResponse = SpaceFindDetailResponse.from(defaultSpace);
+        SpaceFindDetailResponse expectedSpaceFindDetailResponse = SpaceFindDetailResponse.from(SpaceSnapshot.from(defaultSpace));
 
         assertThat(actualSpaceFindDetailResponse)
                 .usingRecursiveComparison()
@@ -175,7 +176,7 @@ class ManagerSpaceControllerTest extends AcceptanceTest {
         String api = spaceApi + "/" + beSpaceId;
         ExtractableResponse<Response> response = findSpace(api);
         SpaceFindDetailResponse actual = response.body().as(SpaceFindDetailResponse.class);
-        SpaceFindDetailResponse expected = SpaceFindDetailResponse.from(be);
+        SpaceFindDetailResponse expected = SpaceFindDetailResponse.from(SpaceSnapshot.from(be));
 
         // then
         assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
@@ -191,7 +192,7 @@ class ManagerSpaceControllerTest extends AcceptanceTest {
         // given, when
         ExtractableResponse<Response> response = findAllSpace(spaceApi);
         SpaceFindAllResponse actual = response.body().as(SpaceFindAllResponse.class);
-        SpaceFindAllResponse expected = SpaceFindAllResponse.from(List.of(be, fe));
+        SpaceFindAllResponse expected = SpaceFindAllResponse.from(List.of(SpaceSnapshot.from(be), SpaceSnapshot.from(fe)));
 
         // then
         assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
@@ -24,6 +24,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
@@ -88,9 +89,9 @@ class MemberControllerTest extends AcceptanceTest {
         given(googleRequester.supports(any(OauthProvider.class)))
                 .willReturn(true);
         given(googleRequester.getUserInfoByCode(anyString()))
-                .willReturn(GoogleUserInfo.from(
+                .willReturn(Mono.just(GoogleUserInfo.from(
                         Map.of("id", "123",
-                                "email", NEW_EMAIL)));
+                                "email", NEW_EMAIL))));
 
         OauthProvider oauthProvider = OauthProvider.GOOGLE;
         String code = "example-code";
@@ -112,7 +113,7 @@ class MemberControllerTest extends AcceptanceTest {
         given(githubRequester.supports(any(OauthProvider.class)))
                 .willReturn(true);
         given(githubRequester.getUserInfoByCode(anyString()))
-                .willReturn(GithubUserInfo.from(Map.of("email", NEW_EMAIL)));
+                .willReturn(Mono.just(GithubUserInfo.from(Map.of("email", NEW_EMAIL))));
 
         OauthProvider oauthProvider = OauthProvider.GITHUB;
         String code = "example-code";
@@ -0,0 +1,124 @@
+package com.woowacourse.zzimkkong.controller;
+
+import com.woowacourse.zzimkkong.dto.reservation.ReservationCreateUpdateWithPasswordRequest;
+import com.woowacourse.zzimkkong.infrastructure.ReservationEvents;
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static com.woowacourse.zzimkkong.Constants.*;
+import static com.woowacourse.zzimkkong.controller.ManagerSpaceControllerTest.saveSpace;
+import static com.woowacourse.zzimkkong.controller.MapControllerTest.saveMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 HTTP로 SSE 연결을 수천 개 열어 두고, 연결만 해 둔 구독자가 요청 스레드와 이벤트 스트림 스레드를 잡지 않는지 확인합니다
+class ReservationEventStreamTest extends AcceptanceTest {
+    private static final int SUBSCRIBER_COUNT = 2_000;
+    private static final int ASYNC_RESPONSE_POOL_SIZE = 8;
+    private static final long TIMEOUT_SECONDS = 30L;
+
+    @Autowired
+    private ReservationEvents reservationEvents;
+
+    private final Disposable.Composite subscriptions = Disposables.composite();
+    private Long mapId;
+    private String reservationApi;
+    private String eventsApi;
+
+    @BeforeEach
+    void setUp() {
+        String mapApi = saveMap("/api/managers/maps", mapCreateUpdateRequest).header("location");
+        mapId = Long.valueOf(mapApi.split("/")[4]);
+        String spaceApi = saveSpace(mapApi + "/spaces", beSpaceCreateUpdateRequest).header("location");
+        reservationApi = spaceApi.replaceAll("managers", "guests") + "/reservations";
+        eventsApi = "/api/guests/maps/" + mapId + "/spaces/reservations/events?date=" + THE_DAY_AFTER_TOMORROW;
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscriptions.dispose();
+    }
+
+    @Test
+    @DisplayName("수천 개의 SSE 연결을 열어 두어도 요청 스레드를 잡지 않고, 예약이 생성되면 모든 연결에 이벤트를 보낸다.")
+    void manyIdleConnections() throws InterruptedException {
+        //given
+        // 스트리밍 연결은 풀로 돌아오지 않으므로, 연결마다 새 커넥션을 엽니다
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(ConnectionProvider.newConnection())))
+                .build();
+        AtomicInteger createdCount = new AtomicInteger();
+        for (int i = 0; i < SUBSCRIBER_COUNT; i++) {
+            subscriptions.add(webClient.get()
+                    .uri(eventsApi)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .retrieve()
+                    .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {
+                    })
+                    .filter(event -> "created".equals(event.event()))
+                    .subscribe(event -> createdCount.incrementAndGet()));
+        }
+        assertThat(await(() -> reservationEvents.countSubscribers(mapId, THE_DAY_AFTER_TOMORROW) == SUBSCRIBER_COUNT)).isTrue();
+
+        //when
+        ExtractableResponse<Response> response = saveReservation();
+        reservationEvents.poll();
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(await(() -> createdCount.get() == SUBSCRIBER_COUNT)).isTrue();
+        assertThat(countThreads("async-response-")).isLessThanOrEqualTo(ASYNC_RESPONSE_POOL_SIZE);
+        assertThat(countThreads("http-nio-")).isLessThan(SUBSCRIBER_COUNT / 4);
+    }
+
+    private ExtractableResponse<Response> saveReservation() {
+        return RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new ReservationCreateUpdateWithPasswordRequest(
+                        THE_DAY_AFTER_TOMORROW.atTime(18, 0),
+                        THE_DAY_AFTER_TOMORROW.atTime(19, 0),
+                        SALLY_PW,
+                        SALLY_NAME,
+                        SALLY_DESCRIPTION))
+                .when().post(reservationApi)
+                .then().log().all().extract();
+    }
+
+    private boolean await(final BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            TimeUnit.MILLISECONDS.sleep(100L);
+        }
+        return condition.getAsBoolean();
+    }
+
+    private long countThreads(final String namePrefix) {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith(namePrefix))
+                .count();
+    }
+}
@@ -25,13 +25,23 @@ class MapTest {
     @Test
     @DisplayName("맵의 관리자가 아니면 true, 맞으면 false")
     void isNotOwnedBy() {
-        Member pobi = new Member(EMAIL, PW, ORGANIZATION);
+        Member pobi = new Member(1L, EMAIL, PW, ORGANIZATION);
         Map luther = new Map(LUTHER_NAME, MAP_DRAWING_DATA, MAP_IMAGE_URL, pobi);
 
-        boolean result = luther.isNotOwnedBy(new Member("삭정이", "test1234", "잠실"));
+        boolean result = luther.isNotOwnedBy(new Member(2L, "삭정이", "test1234", "잠실"));
         assertThat(result).isTrue();
     }
 
+    @Test
+    @DisplayName("다른 조회로 읽어 온 같은 회원이라도 id가 같으면 맵의 관리자다")
+    void isOwnedBySameId() {
+        Member pobi = new Member(1L, EMAIL, PW, ORGANIZATION);
+        Map luther = new Map(LUTHER_NAME, MAP_DRAWING_DATA, MAP_IMAGE_URL, pobi);
+
+        boolean result = luther.isNotOwnedBy(new Member(1L, EMAIL, PW, ORGANIZATION));
+        assertThat(result).isFalse();
+    }
+
     @ParameterizedTest
     @DisplayName("생성자 인자에 주어지는 Member가 null이 아니라면 Member의 maps에 Map이 추가된다.")
     @CsvSource({"true", "false"})
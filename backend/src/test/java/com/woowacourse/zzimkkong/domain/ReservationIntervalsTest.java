@@ -0,0 +1,128 @@
+package com.woowacourse.zzimkkong.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+
+import static com.woowacourse.zzimkkong.Constants.THE_DAY_AFTER_TOMORROW;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservationIntervalsTest {
+    private ReservationIntervals reservationIntervals;
+
+    @BeforeEach
+    void setUp() {
+        reservationIntervals = ReservationIntervals.from(List.of(
+                makeReservation(3L, "13:00", "14:00"),
+                makeReservation(1L, "08:00", "09:00"),
+                makeReservation(2L, "10:00", "12:00")));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"08:01+08:59+true", "07:59+08:01+true", "08:59+09:01+true",
+            "07:59+09:01+true", "08:00+09:00+true", "07:59+08:00+false",
+            "09:00+10:00+false", "12:00+13:00+false", "11:59+13:01+true",
+            "07:00+15:00+true", "14:00+15:00+false"}, delimiter = '+')
+    @DisplayName("겹치는 예약이 하나라도 있으면 true, 예약 가능한 시간대면 false")
+    void overlaps(String startTime, String endTime, Boolean result) {
+        assertThat(reservationIntervals.overlaps(toDateTime(startTime), toDateTime(endTime))).isEqualTo(result);
+    }
+
+    @Test
+    @DisplayName("다른 예약을 포함하는 긴 예약이 있어도 겹침을 찾는다.")
+    void overlapsWithContainingInterval() {
+        ReservationIntervals nested = ReservationIntervals.from(List.of(
+                makeReservation(1L, "08:00", "18:00"),
+                makeReservation(2L, "09:00", "10:00")));
+
+        assertThat(nested.overlaps(toDateTime("15:00"), toDateTime("16:00"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("정렬된 두 예약 목록 중 하나라도 겹치면 true를 반환한다.")
+    void overlapsAny() {
+        ReservationIntervals overlapping = ReservationIntervals.from(List.of(
+                makeReservation(null, "09:00", "10:00"),
+                makeReservation(null, "11:30", "12:30")));
+        ReservationIntervals notOverlapping = ReservationIntervals.from(List.of(
+                makeReservation(null, "07:00", "08:00"),
+                makeReservation(null, "09:00", "10:00"),
+                makeReservation(null, "12:00", "13:00"),
+                makeReservation(null, "14:00", "15:00")));
+
+        assertThat(reservationIntervals.overlapsAny(overlapping)).isTrue();
+        assertThat(overlapping.overlapsAny(reservationIntervals)).isTrue();
+        assertThat(reservationIntervals.overlapsAny(notOverlapping)).isFalse();
+        assertThat(reservationIntervals.overlapsAny(ReservationIntervals.empty())).isFalse();
+    }
+
+    @Test
+    @DisplayName("예약을 추가하면 추가된 시간과 겹치는지 판단한다.")
+    void with() {
+        ReservationIntervals added = reservationIntervals.with(4L, toDateTime("09:00"), toDateTime("10:00"));
+
+        assertThat(added.size()).isEqualTo(4);
+        assertThat(added.overlaps(toDateTime("09:30"), toDateTime("09:40"))).isTrue();
+        assertThat(reservationIntervals.overlaps(toDateTime("09:30"), toDateTime("09:40"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 존재하는 예약을 추가하면 기존 시간을 대체한다.")
+    void withSameId() {
+        ReservationIntervals moved = reservationIntervals.with(1L, toDateTime("16:00"), toDateTime("17:00"));
+
+        assertThat(moved.size()).isEqualTo(3);
+        assertThat(moved.overlaps(toDateTime("08:00"), toDateTime("09:00"))).isFalse();
+        assertThat(moved.overlaps(toDateTime("16:00"), toDateTime("17:00"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("예약을 제외하면 해당 시간은 겹치지 않는다.")
+    void without() {
+        ReservationIntervals removed = reservationIntervals.without(2L);
+
+        assertThat(removed.size()).isEqualTo(2);
+        assertThat(removed.overlaps(toDateTime("10:00"), toDateTime("12:00"))).isFalse();
+        assertThat(reservationIntervals.without(4L)).isSameAs(reservationIntervals);
+    }
+
+    @Test
+    @DisplayName("주어진 범위에서 예약 사이의 빈 구간을 시작 시간 순으로 찾는다.")
+    void findGaps() {
+        ReservationIntervals withNested = reservationIntervals.with(4L, toDateTime("10:30"), toDateTime("11:00"));
+
+        assertThat(withNested.findGaps(toDateTime("08:30"), toDateTime("15:00"))).containsExactly(
+                new TimeSlot(toDateTime("09:00"), toDateTime("10:00")),
+                new TimeSlot(toDateTime("12:00"), toDateTime("13:00")),
+                new TimeSlot(toDateTime("14:00"), toDateTime("15:00")));
+        assertThat(withNested.findGaps(toDateTime("10:00"), toDateTime("12:00"))).isEmpty();
+        assertThat(ReservationIntervals.empty().findGaps(toDateTime("09:00"), toDateTime("10:00")))
+                .containsExactly(new TimeSlot(toDateTime("09:00"), toDateTime("10:00")));
+    }
+
+    @Test
+    @DisplayName("예약이 없으면 어떤 시간과도 겹치지 않는다.")
+    void empty() {
+        assertThat(ReservationIntervals.from(Collections.emptyList()).overlaps(toDateTime("00:00"), toDateTime("23:59"))).isFalse();
+        assertThat(ReservationIntervals.empty().size()).isZero();
+    }
+
+    private Reservation makeReservation(final Long id, final String startTime, final String endTime) {
+        return Reservation.builder()
+                .id(id)
+                .startTime(toDateTime(startTime))
+                .endTime(toDateTime(endTime))
+                .build();
+    }
+
+    private LocalDateTime toDateTime(final String time) {
+        return THE_DAY_AFTER_TOMORROW.atTime(LocalTime.parse(time));
+    }
+}
@@ -6,9 +6,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
 
 import static com.woowacourse.zzimkkong.Constants.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
@@ -114,4 +120,98 @@ class SettingTest {
                 .enabledDayOfWeek(FE_ENABLED_DAY_OF_WEEK);
         assertThatThrownBy(settingBuilder::build).isInstanceOf(TimeUnitInconsistencyException.class);
     }
+
+    @Test
+    @DisplayName("예약 가능한 요일을 요일 순서대로 정리해서 돌려준다")
+    void enabledDaysOfWeek() {
+        Setting setting = Setting.builder()
+                .availableStartTime(FE_AVAILABLE_START_TIME)
+                .availableEndTime(FE_AVAILABLE_END_TIME)
+                .reservationTimeUnit(FE_RESERVATION_TIME_UNIT)
+                .reservationMinimumTimeUnit(FE_RESERVATION_MINIMUM_TIME_UNIT)
+                .reservationMaximumTimeUnit(FE_RESERVATION_MAXIMUM_TIME_UNIT)
+                .reservationEnable(FE_RESERVATION_ENABLE)
+                .enabledDayOfWeek("sunday, Wednesday,monday")
+                .build();
+
+        assertThat(setting.getEnabledDaysOfWeek()).containsExactly(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.SUNDAY);
+        assertThat(setting.getEnabledDayOfWeek()).isEqualTo("monday,wednesday,sunday");
+    }
+
+    @Test
+    @DisplayName("setting 생성 시 존재하지 않는 요일이 있으면 예외를 던진다")
+    void noSuchDayOfWeek() {
+        final Setting.SettingBuilder settingBuilder = Setting.builder()
+                .availableStartTime(FE_AVAILABLE_START_TIME)
+                .availableEndTime(FE_AVAILABLE_END_TIME)
+                .reservationTimeUnit(FE_RESERVATION_TIME_UNIT)
+                .reservationMinimumTimeUnit(FE_RESERVATION_MINIMUM_TIME_UNIT)
+                .reservationMaximumTimeUnit(FE_RESERVATION_MAXIMUM_TIME_UNIT)
+                .reservationEnable(FE_RESERVATION_ENABLE)
+                .enabledDayOfWeek("monday,someday");
+        assertThatThrownBy(settingBuilder::build).isInstanceOf(NoSuchDayOfWeekException.class);
+    }
+
+    @Test
+    @DisplayName("예약 사이의 빈 시간 중 시간 단위에 맞고 최소 예약 시간 이상인 구간만 예약 가능한 구간으로 돌려준다")
+    void findFreeSlots() {
+        Setting setting = makeSetting(LocalTime.of(9, 0), LocalTime.of(18, 0), 30, 60, "monday");
+        LocalDate monday = THE_DAY_AFTER_TOMORROW.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        ReservationIntervals reservationIntervals = ReservationIntervals.from(List.of(
+                makeReservation(monday.atTime(10, 0), monday.atTime(11, 0)),
+                makeReservation(monday.atTime(11, 30), monday.atTime(12, 40)),
+                makeReservation(monday.atTime(13, 20), monday.atTime(17, 0))));
+
+        List<TimeSlot> freeSlots = setting.findFreeSlots(monday, reservationIntervals, monday.minusDays(1).atStartOfDay());
+
+        assertThat(freeSlots).containsExactly(
+                new TimeSlot(monday.atTime(9, 0), monday.atTime(10, 0)),
+                new TimeSlot(monday.atTime(17, 0), monday.atTime(18, 0)));
+    }
+
+    @Test
+    @DisplayName("오늘 이미 지난 시간은 예약 가능한 구간에서 제외한다")
+    void findFreeSlotsToday() {
+        Setting setting = makeSetting(LocalTime.of(9, 0), LocalTime.of(18, 0), 30, 30, FE_ENABLED_DAY_OF_WEEK);
+        LocalDate date = THE_DAY_AFTER_TOMORROW;
+
+        List<TimeSlot> freeSlots = setting.findFreeSlots(date, ReservationIntervals.empty(), date.atTime(15, 10));
+
+        assertThat(freeSlots).containsExactly(new TimeSlot(date.atTime(15, 30), date.atTime(18, 0)));
+    }
+
+    @Test
+    @DisplayName("예약할 수 없는 요일이거나 예약이 닫혀 있으면 예약 가능한 구간이 없다")
+    void findFreeSlotsClosed() {
+        Setting closedOnMonday = makeSetting(LocalTime.of(9, 0), LocalTime.of(18, 0), 30, 60, "tuesday");
+        LocalDate monday = THE_DAY_AFTER_TOMORROW.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        LocalDateTime now = monday.minusDays(1).atStartOfDay();
+
+        assertThat(closedOnMonday.findFreeSlots(monday, ReservationIntervals.empty(), now)).isEmpty();
+        assertThat(closedOnMonday.findFreeSlots(monday.plusDays(1), ReservationIntervals.empty(), now)).hasSize(1);
+    }
+
+    private Setting makeSetting(
+            final LocalTime availableStartTime,
+            final LocalTime availableEndTime,
+            final int reservationTimeUnit,
+            final int reservationMinimumTimeUnit,
+            final String enabledDayOfWeek) {
+        return Setting.builder()
+                .availableStartTime(availableStartTime)
+                .availableEndTime(availableEndTime)
+                .reservationTimeUnit(reservationTimeUnit)
+                .reservationMinimumTimeUnit(reservationMinimumTimeUnit)
+                .reservationMaximumTimeUnit(reservationMinimumTimeUnit)
+                .reservationEnable(true)
+                .enabledDayOfWeek(enabledDayOfWeek)
+                .build();
+    }
+
+    private Reservation makeReservation(final LocalDateTime startTime, final LocalDateTime endTime) {
+        return Reservation.builder()
+                .startTime(startTime)
+                .endTime(endTime)
+                .build();
+    }
 }
@@ -0,0 +1,61 @@
+package com.woowacourse.zzimkkong.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlackNotificationTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2021, 8, 1, 10, 0);
+
+    @Test
+    @DisplayName("전송에 실패할 때마다 다음 전송까지의 대기 시간이 두 배로 늘어난다.")
+    void fail() {
+        //given
+        SlackNotification slackNotification = new SlackNotification("http://slack", 1L, "{}", NOW);
+
+        //when, then
+        slackNotification.fail(NOW);
+        assertThat(slackNotification.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(2));
+
+        slackNotification.fail(NOW);
+        assertThat(slackNotification.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(4));
+
+        slackNotification.fail(NOW);
+        assertThat(slackNotification.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(8));
+        assertThat(slackNotification.getAttemptCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패하면 더 이상 재시도하지 않는다.")
+    void isExhausted() {
+        //given
+        SlackNotification slackNotification = new SlackNotification("http://slack", 1L, "{}", NOW);
+
+        //when
+        for (int i = 0; i < SlackNotification.MAXIMUM_ATTEMPT_COUNT; i++) {
+            slackNotification.fail(NOW);
+        }
+
+        //then
+        assertThat(slackNotification.isExhausted()).isTrue();
+        assertThat(slackNotification.getNextAttemptAt()).isBeforeOrEqualTo(NOW.plusMinutes(10));
+    }
+
+    @Test
+    @DisplayName("같은 예약에 대한 알림인지 확인한다.")
+    void isAboutSameReservationAs() {
+        //given
+        SlackNotification update = new SlackNotification("http://slack", 1L, "{}", NOW);
+        SlackNotification delete = new SlackNotification("http://slack", 1L, "{}", NOW);
+        SlackNotification other = new SlackNotification("http://slack", 2L, "{}", NOW);
+        SlackNotification unknown = new SlackNotification("http://slack", null, "{}", NOW);
+
+        //when, then
+        assertThat(delete.isAboutSameReservationAs(update)).isTrue();
+        assertThat(other.isAboutSameReservationAs(update)).isFalse();
+        assertThat(unknown.isAboutSameReservationAs(unknown)).isFalse();
+    }
+}
@@ -0,0 +1,65 @@
+package com.woowacourse.zzimkkong.dto;
+
+import com.woowacourse.zzimkkong.dto.reservation.ReservationBatchCreateRequest;
+import com.woowacourse.zzimkkong.dto.reservation.ReservationBatchItemRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.woowacourse.zzimkkong.Constants.*;
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.BATCH_SIZE_MESSAGE;
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.EMPTY_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservationBatchCreateRequestTest extends RequestTest {
+    private final ReservationBatchItemRequest reservationBatchItemRequest = new ReservationBatchItemRequest(
+            1L,
+            THE_DAY_AFTER_TOMORROW.atTime(13, 0),
+            THE_DAY_AFTER_TOMORROW.atTime(14, 0),
+            RESERVATION_PW,
+            USER_NAME,
+            DESCRIPTION);
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @DisplayName("예약 목록에 빈 값이 들어오면 처리한다.")
+    void blankReservations(List<ReservationBatchItemRequest> reservations) {
+        ReservationBatchCreateRequest reservationBatchCreateRequest = new ReservationBatchCreateRequest(reservations);
+
+        assertThat(getConstraintViolations(reservationBatchCreateRequest).stream()
+                .anyMatch(violation -> violation.getMessage().equals(EMPTY_MESSAGE)))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("예약 목록이 최대 개수를 넘으면 처리한다.")
+    void tooManyReservations() {
+        ReservationBatchCreateRequest reservationBatchCreateRequest = new ReservationBatchCreateRequest(
+                Collections.nCopies(ReservationBatchCreateRequest.MAXIMUM_BATCH_SIZE + 1, reservationBatchItemRequest));
+
+        assertThat(getConstraintViolations(reservationBatchCreateRequest).stream()
+                .anyMatch(violation -> violation.getMessage().equals(BATCH_SIZE_MESSAGE)))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("예약 목록의 각 예약에 공간 id가 없으면 처리한다.")
+    void blankSpaceId() {
+        ReservationBatchItemRequest withoutSpaceId = new ReservationBatchItemRequest(
+                null,
+                THE_DAY_AFTER_TOMORROW.atTime(13, 0),
+                THE_DAY_AFTER_TOMORROW.atTime(14, 0),
+                RESERVATION_PW,
+                USER_NAME,
+                DESCRIPTION);
+        ReservationBatchCreateRequest reservationBatchCreateRequest = new ReservationBatchCreateRequest(List.of(withoutSpaceId));
+
+        assertThat(getConstraintViolations(reservationBatchCreateRequest).stream()
+                .anyMatch(violation -> violation.getMessage().equals(EMPTY_MESSAGE)))
+                .isTrue();
+    }
+}
@@ -16,6 +16,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @SpringBootTest
 @ActiveProfiles("test")
 class BatikConverterTest {
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
     @Autowired
     private BatikConverter batikConverter;
 
@@ -34,6 +36,26 @@ class BatikConverterTest {
         assertThat(testFile).isEqualTo(new File(batikConverter.getSaveDirectoryPath() + "testPngFileName.png"));
     }
 
+    @Test
+    @DisplayName("svg 데이터를 파일 없이 png 바이트로 변환한다.")
+    void convertToBytes() {
+        // given
+        String rawSvgData = "<?xml version=\"1.0\"?><svg fill=\"#000000\" xmlns=\"http://www.w3.org/2000/svg\"  viewBox=\"0 0 30 30\" width=\"30px\" height=\"30px\">    <path d=\"M 7 4 L 4 7 L 11 15 L 4 22 L 7 25 L 15 18 L 22 25 L 25 22 L 18 15 L 25 7 L 22 4 L 15 11 z\"/></svg>";
+
+        // when
+        byte[] png = batikConverter.convertSvgToPng(rawSvgData);
+
+        // then
+        assertThat(png).startsWith(PNG_SIGNATURE);
+    }
+
+    @Test
+    @DisplayName("옳지 않은 svg 데이터를 바이트로 변환하면 오류가 발생한다.")
+    void convertToBytesException() {
+        assertThatThrownBy(() -> batikConverter.convertSvgToPng("strangeSvgData"))
+                .isInstanceOf(SvgToPngConvertException.class);
+    }
+
     @Test
     @DisplayName("옳지 않은 svg 데이터가 들어오면 오류가 발생한다.")
     void convertException() {
@@ -0,0 +1,68 @@
+package com.woowacourse.zzimkkong.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarFeedsTest {
+    private static final LocalDate TODAY = LocalDate.of(2021, 7, 1);
+
+    private final CalendarFeeds calendarFeeds = new CalendarFeeds();
+    private final AtomicInteger renderCount = new AtomicInteger();
+
+    @Test
+    @DisplayName("한 번 그린 공간의 예약은 다시 그리지 않고 캐시에서 꺼낸다.")
+    void findEvents() {
+        // when
+        CalendarEvents first = calendarFeeds.findEvents(1L, TODAY, "0-1", rendererFrom(TODAY));
+        CalendarEvents second = calendarFeeds.findEvents(1L, TODAY, "0-1", rendererFrom(TODAY));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(renderCount.get()).isEqualTo(1);
+        assertThat(calendarFeeds.stats().hitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌어 조회 구간이 밀리면 다시 그린다.")
+    void findEventsWindowMoved() {
+        // given
+        calendarFeeds.findEvents(1L, TODAY, "0-1", rendererFrom(TODAY));
+
+        // when
+        CalendarEvents events = calendarFeeds.findEvents(1L, TODAY.plusDays(1), "0-1", rendererFrom(TODAY.plusDays(1)));
+
+        // then
+        assertThat(events.isRenderedFrom(TODAY.plusDays(1))).isTrue();
+        assertThat(renderCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 예약이 바뀌어 맵 버전이 달라지면, 캐시에 있어도 다시 그린다.")
+    void findEventsVersionChanged() {
+        // given
+        CalendarEvents first = calendarFeeds.findEvents(1L, TODAY, "0-1", rendererFrom(TODAY));
+
+        // when
+        CalendarEvents changed = calendarFeeds.findEvents(1L, TODAY, "0-2", rendererFrom(TODAY));
+        CalendarEvents cached = calendarFeeds.findEvents(1L, TODAY, "0-2", rendererFrom(TODAY));
+
+        // then
+        assertThat(changed).isNotSameAs(first);
+        assertThat(cached).isSameAs(changed);
+        assertThat(renderCount.get()).isEqualTo(2);
+    }
+
+    private Function<Long, CalendarEvents> rendererFrom(final LocalDate startDate) {
+        return spaceId -> {
+            renderCount.incrementAndGet();
+            return new CalendarEvents(startDate, new byte[0], spaceId.toString(), Instant.now());
+        };
+    }
+}
@@ -59,6 +59,36 @@ class JwtUtilsTest {
         jwtUtils.validateToken(token);
     }
 
+    @Test
+    @DisplayName("검증한 토큰에서 Payload를 다시 꺼낼 수 있다.")
+    void getPayloadOfVerifiedToken() {
+        // given
+        String token = jwtUtils.createToken(createPayload());
+        jwtUtils.validateToken(token);
+
+        // when
+        String payload = jwtUtils.getPayload(token);
+
+        // then
+        assertThat(payload).isEqualTo(EMAIL);
+    }
+
+    @Test
+    @DisplayName("검증 결과는 토큰의 유효기간이 지나면 재사용하지 않는다.")
+    void verifiedTokenExpires() throws InterruptedException {
+        // given
+        JwtUtils jwtUtils = new JwtUtils("Temporal_Secret_Key", 1_000);
+        String token = jwtUtils.createToken(createPayload());
+        jwtUtils.validateToken(token);
+
+        // when
+        Thread.sleep(1_500);
+
+        // then
+        assertThatThrownBy(() -> jwtUtils.validateToken(token))
+                .isInstanceOf(TokenExpiredException.class);
+    }
+
     @Test
     @DisplayName("유효기간이 지나면 예외를 발생시킨다.")
     void expiredTokenThrowsException() {
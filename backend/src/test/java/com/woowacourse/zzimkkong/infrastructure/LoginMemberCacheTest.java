@@ -0,0 +1,85 @@
+package com.woowacourse.zzimkkong.infrastructure;
+
+import com.woowacourse.zzimkkong.domain.Member;
+import com.woowacourse.zzimkkong.exception.member.NoSuchMemberException;
+import com.woowacourse.zzimkkong.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.woowacourse.zzimkkong.Constants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class LoginMemberCacheTest {
+    private final MemberRepository members = mock(MemberRepository.class);
+    private final LoginMemberCache loginMemberCache = new LoginMemberCache(members);
+
+    private Member pobi;
+
+    @BeforeEach
+    void setUp() {
+        pobi = new Member(1L, EMAIL, PW, ORGANIZATION);
+
+        given(members.findByEmail(EMAIL))
+                .willReturn(Optional.of(pobi));
+        given(members.findById(pobi.getId()))
+                .willReturn(Optional.of(pobi));
+    }
+
+    @Test
+    @DisplayName("한 번 찾은 회원은 이메일로 다시 조회하지 않는다.")
+    void findMember() {
+        // when
+        Member first = loginMemberCache.findMember(EMAIL);
+        Member second = loginMemberCache.findMember(EMAIL);
+
+        // then
+        assertThat(first).isEqualTo(pobi);
+        assertThat(second).isEqualTo(pobi);
+        verify(members, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("캐시를 비우면 다음 조회 때 회원을 다시 찾는다.")
+    void evict() {
+        // given
+        loginMemberCache.findMember(EMAIL);
+
+        // when
+        loginMemberCache.evict(EMAIL);
+        loginMemberCache.findMember(EMAIL);
+
+        // then
+        verify(members, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원을 찾으면 에러가 발생한다.")
+    void findMemberNotExists() {
+        // given
+        given(members.findByEmail(NEW_EMAIL))
+                .willReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> loginMemberCache.findMember(NEW_EMAIL))
+                .isInstanceOf(NoSuchMemberException.class);
+    }
+
+    @Test
+    @DisplayName("이메일로 찾아 둔 회원이 그 사이 탈퇴했다면 에러가 발생한다.")
+    void findMemberDeleted() {
+        // given
+        loginMemberCache.findMember(EMAIL);
+        given(members.findById(pobi.getId()))
+                .willReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> loginMemberCache.findMember(EMAIL))
+                .isInstanceOf(NoSuchMemberException.class);
+    }
+}
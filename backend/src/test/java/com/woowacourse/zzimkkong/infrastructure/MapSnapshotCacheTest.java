@@ -0,0 +1,104 @@
+package com.woowacourse.zzimkkong.infrastructure;
+
+import com.woowacourse.zzimkkong.domain.*;
+import com.woowacourse.zzimkkong.exception.map.NoSuchMapException;
+import com.woowacourse.zzimkkong.repository.MapRepository;
+import com.woowacourse.zzimkkong.repository.MapSummary;
+import com.woowacourse.zzimkkong.repository.SpaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.woowacourse.zzimkkong.Constants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class MapSnapshotCacheTest {
+    private final MapRepository maps = mock(MapRepository.class);
+    private final SpaceRepository spaces = mock(SpaceRepository.class);
+    private final MapSnapshotCache mapSnapshotCache = new MapSnapshotCache(maps, spaces);
+
+    private Member pobi;
+    private Map luther;
+    private Space be;
+
+    @BeforeEach
+    void setUp() {
+        pobi = new Member(1L, EMAIL, PW, ORGANIZATION);
+        luther = new Map(1L, LUTHER_NAME, MAP_DRAWING_DATA, MAP_IMAGE_URL, pobi);
+        Setting setting = Setting.builder()
+                .availableStartTime(BE_AVAILABLE_START_TIME)
+                .availableEndTime(BE_AVAILABLE_END_TIME)
+                .reservationTimeUnit(BE_RESERVATION_TIME_UNIT)
+                .reservationMinimumTimeUnit(BE_RESERVATION_MINIMUM_TIME_UNIT)
+                .reservationMaximumTimeUnit(BE_RESERVATION_MAXIMUM_TIME_UNIT)
+                .reservationEnable(BE_RESERVATION_ENABLE)
+                .enabledDayOfWeek(BE_ENABLED_DAY_OF_WEEK)
+                .build();
+        be = Space.builder()
+                .id(1L)
+                .name(BE_NAME)
+                .color(BE_COLOR)
+                .description(BE_DESCRIPTION)
+                .area(SPACE_DRAWING)
+                .setting(setting)
+                .map(luther)
+                .build();
+
+        MapSummary summary = mock(MapSummary.class);
+        given(summary.getId()).willReturn(luther.getId());
+        given(summary.getName()).willReturn(luther.getName());
+        given(summary.getMemberId()).willReturn(pobi.getId());
+        given(maps.findSummaryById(luther.getId()))
+                .willReturn(Optional.of(summary));
+        given(spaces.findAllByMapIdOrderByIdAsc(luther.getId()))
+                .willReturn(luther.getSpaces());
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 맵은 다시 조회하지 않고 캐시에서 꺼낸다.")
+    void findMap() {
+        // when
+        MapSnapshot first = mapSnapshotCache.findMap(luther.getId());
+        MapSnapshot second = mapSnapshotCache.findMap(luther.getId());
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getMemberId()).isEqualTo(pobi.getId());
+        assertThat(first.findSpaceById(be.getId())).isPresent();
+        assertThat(first.getName()).isEqualTo(LUTHER_NAME);
+        assertThat(mapSnapshotCache.stats().hitCount()).isEqualTo(1L);
+        assertThat(mapSnapshotCache.stats().missCount()).isEqualTo(1L);
+        verify(maps, times(1)).findSummaryById(luther.getId());
+    }
+
+    @Test
+    @DisplayName("캐시를 비우면 다음 조회 때 맵을 다시 읽는다.")
+    void evict() {
+        // given
+        mapSnapshotCache.findMap(luther.getId());
+
+        // when
+        mapSnapshotCache.evict(luther.getId());
+        mapSnapshotCache.findMap(luther.getId());
+
+        // then
+        verify(maps, times(2)).findSummaryById(luther.getId());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 맵을 조회하면 에러가 발생한다.")
+    void findMapNotExists() {
+        // given
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> mapSnapshotCache.findMap(2L))
+                .isInstanceOf(NoSuchMapException.class);
+    }
+}
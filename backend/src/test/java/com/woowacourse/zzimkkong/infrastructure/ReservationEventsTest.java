@@ -0,0 +1,207 @@
+package com.woowacourse.zzimkkong.infrastructure;
+
+import com.woowacourse.zzimkkong.domain.Reservation;
+import com.woowacourse.zzimkkong.domain.ReservationChange;
+import com.woowacourse.zzimkkong.domain.ReservationChangeType;
+import com.woowacourse.zzimkkong.domain.Space;
+import com.woowacourse.zzimkkong.dto.reservation.ReservationEventResponse;
+import com.woowacourse.zzimkkong.repository.ReservationChangeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.woowacourse.zzimkkong.Constants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ReservationEventsTest {
+    private final ReservationChangeRepository reservationChanges = mock(ReservationChangeRepository.class);
+    private final ReservationEvents reservationEvents = new ReservationEvents(reservationChanges);
+    private final Disposable.Composite subscriptions = Disposables.composite();
+
+    @AfterEach
+    void tearDown() {
+        subscriptions.dispose();
+    }
+
+    @Test
+    @DisplayName("구독하면 연결 확인 주석을 먼저 받고, 같은 맵과 날짜의 커밋된 예약 변경만 이벤트로 받는다.")
+    void subscribe() {
+        List<ServerSentEvent<ReservationEventResponse>> received = new ArrayList<>();
+        List<ServerSentEvent<ReservationEventResponse>> otherDate = new ArrayList<>();
+        subscriptions.add(reservationEvents.subscribe(1L, THE_DAY_AFTER_TOMORROW).subscribe(received::add));
+        subscriptions.add(reservationEvents.subscribe(1L, THE_DAY_AFTER_TOMORROW.plusDays(1)).subscribe(otherDate::add));
+        given(reservationChanges.findAllByMapIdAndSequenceGreaterThanOrderBySequenceAsc(eq(1L), eq(0L), any()))
+                .willReturn(List.of(change(1L, THE_DAY_AFTER_TOMORROW)));
+
+        reservationEvents.poll();
+
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0).comment()).isEqualTo("connected");
+        assertThat(received.get(0).retry()).isEqualTo(Duration.ofSeconds(3L));
+        assertThat(received.get(1).event()).isEqualTo("created");
+        assertThat(received.get(1).data().getReservation().getName()).isEqualTo(BE_AM_TEN_ELEVEN_USERNAME);
+        assertThat(otherDate).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("구독한 시점의 마지막 변경 번호 이후의 변경만 이어서 읽는다.")
+    void pollSinceLastSequence() {
+        List<ServerSentEvent<ReservationEventResponse>> received = new ArrayList<>();
+        given(reservationChanges.findLastSequenceByMapId(1L))
+                .willReturn(Optional.of(5L));
+        subscriptions.add(reservationEvents.subscribe(1L, THE_DAY_AFTER_TOMORROW).subscribe(received::add));
+        given(reservationChanges.findAllByMapIdAndSequenceGreaterThanOrderBySequenceAsc(eq(1L), eq(5L), any()))
+                .willReturn(List.of(change(6L, THE_DAY_AFTER_TOMORROW)));
+
+        reservationEvents.poll();
+        reservationEvents.poll();
+
+        assertThat(received).hasSize(2);
+        verify(reservationChanges).findAllByMapIdAndSequenceGreaterThanOrderBySequenceAsc(eq(1L), eq(6L), any());
+    }
+
+    @Test
+    @DisplayName("한 번에 읽는 개수보다 변경이 많으면 남은 변경을 이어서 읽는다.")
+    void pollNextPage() {
+        AtomicInteger receivedCount = new AtomicInteger();
+        subscriptions.add(reservationEvents.subscribe(1L, THE_DAY_AFTER_TOMORROW)
+                .filter(event -> event.data() != null)
+                .subscribe(event -> receivedCount.incrementAndGet()));
+        given(reservationChanges.findAllByMapIdAndSequenceGreaterThanOrderBySequenceAsc(eq(1L), eq(0L), any()))
+                .willReturn(Collections.nCopies(100, change(100L, THE_DAY_AFTER_TOMORROW)));
+        given(reservationChanges.findAllByMapIdAndSequenceGreaterThanOrderBySequenceAsc(eq(1L), eq(100L), any()))
+                .willReturn(List.of(change(101L, THE_DAY_AFTER_TOMORROW)));
+
+        reservationEvents.poll();
+
+        assertThat(receivedCount.get()).isEqualTo(101);
+    }
+
+    @Test
+    @DisplayName("구독자가 모두 떠난 맵의 변경 내역은 더 읽지 않는다.")
+    void stopPollingWithoutSubscribers() {
+        Disposable subscription = reservationEvents.subscribe(1L, THE_DAY_AFTER_TOMORROW).subscribe();
+
+        subscription.dispose();
+        reservationEvents.poll();
+
+        verify(reservationChanges, never()).findAllByMapIdAndSequenceGreaterThanOrderBySequenceAsc(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("이벤트를 가져가지 않아 버퍼가 넘친 구독자만 끊고, 나머지 구독자는 계속 받는다.")
+    void evictSlowSubscriber() {
+        List<ServerSentEvent<ReservationEventResponse>> received = new ArrayList<>();
+        subscriptions.add(reservationEvents.subscribe(1L, THE_DAY_AFTER_TOMORROW).subscribe(received::add));
+        AtomicBoolean slowSubscriberCompleted = new AtomicBoolean();
+        BaseSubscriber<ServerSentEvent<ReservationEventResponse>> slowSubscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(final Subscription subscription) {
+                request(1);
+            }
+
+            @Override
+            protected void hookOnComplete() {
+                slowSubscriberCompleted.set(true);
+            }
+        };
+        reservationEvents.subscribe(1L, THE_DAY_AFTER_TOMORROW).subscribe(slowSubscriber);
+        subscriptions.add(slowSubscriber);
+        int changeCount = 1_000;
+        given(reservationChanges.findAllByMapIdAndSequenceGreaterThanOrderBySequenceAsc(eq(1L), eq(0L), any()))
+                .willReturn(Collections.nCopies(changeCount, change(1L, THE_DAY_AFTER_TOMORROW)));
+
+        reservationEvents.poll();
+
+        assertThat(slowSubscriberCompleted).isTrue();
+        assertThat(received).hasSize(changeCount + 1);
+        assertThat(reservationEvents.countSubscribers(1L, THE_DAY_AFTER_TOMORROW)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 노드에 수천 명이 연결만 해 둔 상태에서도 예약 변경이 모두에게 전달되고, 연결이 끊기면 정리된다.")
+    void manyIdleSubscribers() {
+        int subscriberCount = 5_000;
+        AtomicInteger receivedCount = new AtomicInteger();
+        Disposable.Composite idleSubscriptions = Disposables.composite();
+        for (int i = 0; i < subscriberCount; i++) {
+            idleSubscriptions.add(reservationEvents.subscribe(1L, THE_DAY_AFTER_TOMORROW)
+                    .filter(event -> event.data() != null)
+                    .subscribe(event -> receivedCount.incrementAndGet()));
+        }
+        assertThat(reservationEvents.countSubscribers(1L, THE_DAY_AFTER_TOMORROW)).isEqualTo(subscriberCount);
+        given(reservationChanges.findAllByMapIdAndSequenceGreaterThanOrderBySequenceAsc(eq(1L), eq(0L), any()))
+                .willReturn(List.of(change(1L, THE_DAY_AFTER_TOMORROW)));
+
+        reservationEvents.poll();
+        assertThat(receivedCount.get()).isEqualTo(subscriberCount);
+
+        idleSubscriptions.dispose();
+        assertThat(reservationEvents.countSubscribers(1L, THE_DAY_AFTER_TOMORROW)).isZero();
+    }
+
+    @Test
+    @DisplayName("연결 시간이 지나면 스트림을 정상 종료해서 클라이언트가 다시 연결하게 한다.")
+    void completeAfterConnectionTimeout() {
+        ReservationEvents shortLivedEvents = new ReservationEvents(reservationChanges, Duration.ofMillis(100L));
+
+        ServerSentEvent<ReservationEventResponse> lastEvent = shortLivedEvents.subscribe(1L, THE_DAY_AFTER_TOMORROW)
+                .blockLast(Duration.ofSeconds(5L));
+
+        assertThat(lastEvent.comment()).isEqualTo("connected");
+    }
+
+    private ReservationChange change(final Long sequence, final LocalDate date) {
+        Space be = Space.builder()
+                .id(1L)
+                .name(BE_NAME)
+                .build();
+        Reservation reservation = Reservation.builder()
+                .id(1L)
+                .date(date)
+                .startTime(date.atTime(BE_AM_TEN_ELEVEN_START_TIME.toLocalTime()))
+                .endTime(date.atTime(BE_AM_TEN_ELEVEN_END_TIME.toLocalTime()))
+                .description(BE_AM_TEN_ELEVEN_DESCRIPTION)
+                .userName(BE_AM_TEN_ELEVEN_USERNAME)
+                .password(BE_AM_TEN_ELEVEN_PW)
+                .space(be)
+                .build();
+        return new SequencedChange(sequence, reservation);
+    }
+
+    // 변경 번호는 저장할 때 DB에서 붙으므로, 테스트에서는 번호를 직접 정해 둡니다
+    private static class SequencedChange extends ReservationChange {
+        private final Long sequence;
+
+        private SequencedChange(final Long sequence, final Reservation reservation) {
+            super(1L, ReservationChangeType.CREATED, reservation);
+            this.sequence = sequence;
+        }
+
+        @Override
+        public Long getSequence() {
+            return sequence;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.woowacourse.zzimkkong.infrastructure;
+
+import com.woowacourse.zzimkkong.domain.Map;
+import com.woowacourse.zzimkkong.domain.Member;
+import com.woowacourse.zzimkkong.exception.infrastructure.SvgToPngConvertException;
+import com.woowacourse.zzimkkong.repository.MapRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import static com.woowacourse.zzimkkong.Constants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class ThumbnailManagerTest {
+    private final SvgConverter svgConverter = mock(SvgConverter.class);
+    private final StorageUploader storageUploader = mock(StorageUploader.class);
+    private final MapRepository maps = mock(MapRepository.class);
+    private final QueuedExecutor executor = new QueuedExecutor();
+    private final ThumbnailManager thumbnailManager = new ThumbnailManager(svgConverter, storageUploader, maps, executor);
+
+    private Map luther;
+
+    @BeforeEach
+    void setUp() {
+        Member pobi = new Member(1L, EMAIL, PW, ORGANIZATION);
+        luther = new Map(1L, LUTHER_NAME, MAP_DRAWING_DATA, MAP_IMAGE_URL, pobi);
+
+        given(svgConverter.convertSvgToPng(anyString()))
+                .willReturn(new byte[]{1, 2, 3});
+        given(storageUploader.getUrl(anyString(), anyString()))
+                .willReturn(MAP_IMAGE_URL);
+        given(maps.existsById(luther.getId()))
+                .willReturn(true);
+        given(maps.updateThumbnailHash(eq(luther.getId()), anyString()))
+                .willAnswer(invocation -> {
+                    luther.updateThumbnailHash(invocation.getArgument(1));
+                    return 1;
+                });
+    }
+
+    @Test
+    @DisplayName("썸네일은 요청 스레드가 아닌 작업 큐에서 만들어진다.")
+    void uploadMapThumbnail() {
+        // when
+        String thumbnailUrl = thumbnailManager.uploadMapThumbnail(MAP_SVG, luther);
+
+        // then
+        assertThat(thumbnailUrl).isEqualTo(MAP_IMAGE_URL);
+        verify(svgConverter, never()).convertSvgToPng(anyString());
+
+        executor.runAll();
+
+        verify(storageUploader, times(1)).upload(anyString(), eq(luther.getId() + ThumbnailManager.THUMBNAIL_EXTENSION), any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("같은 맵의 썸네일 요청이 밀려 있으면 마지막 SVG만 렌더링한다.")
+    void coalesceSameMap() {
+        // given
+        thumbnailManager.uploadMapThumbnail("first", luther);
+        thumbnailManager.uploadMapThumbnail("second", luther);
+        thumbnailManager.uploadMapThumbnail(MAP_SVG, luther);
+
+        // when
+        executor.runAll();
+
+        // then
+        verify(svgConverter, times(1)).convertSvgToPng(anyString());
+        verify(svgConverter).convertSvgToPng(MAP_SVG);
+    }
+
+    @Test
+    @DisplayName("썸네일 변환에 실패하면 업로드하지 않고 해시도 저장하지 않는다.")
+    void renderFail() {
+        // given
+        given(svgConverter.convertSvgToPng(anyString()))
+                .willThrow(new SvgToPngConvertException(new RuntimeException()));
+        thumbnailManager.uploadMapThumbnail(MAP_SVG, luther);
+
+        // when
+        executor.runAll();
+
+        // then
+        assertThat(luther.getThumbnailHash()).isNull();
+        verify(storageUploader, never()).upload(anyString(), anyString(), any(byte[].class));
+        verify(maps, never()).updateThumbnailHash(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("썸네일 해시는 렌더링과 업로드가 끝난 뒤에만 저장한다.")
+    void saveHashAfterUpload() {
+        // given
+        thumbnailManager.uploadMapThumbnail(MAP_SVG, luther);
+        assertThat(luther.getThumbnailHash()).isNull();
+
+        // when
+        executor.runAll();
+
+        // then
+        assertThat(luther.getThumbnailHash()).isNotNull();
+        verify(maps, times(1)).updateThumbnailHash(eq(luther.getId()), anyString());
+    }
+
+    @Test
+    @DisplayName("이전과 같은 SVG가 들어오면 다시 렌더링하지 않는다.")
+    void skipSameSvg() {
+        // given
+        thumbnailManager.uploadMapThumbnail(MAP_SVG, luther);
+        executor.runAll();
+
+        // when
+        thumbnailManager.uploadMapThumbnail(MAP_SVG + "\n", luther);
+        executor.runAll();
+
+        // then
+        assertThat(luther.getThumbnailHash()).isNotNull();
+        verify(svgConverter, times(1)).convertSvgToPng(anyString());
+    }
+
+    @Test
+    @DisplayName("렌더링 중인 SVG가 있으면 저장된 해시와 같은 SVG도 다시 렌더링한다.")
+    void renderSameSvgWhileRendering() {
+        // given
+        String otherSvg = "other";
+        thumbnailManager.uploadMapThumbnail(MAP_SVG, luther);
+        executor.runAll();
+        String renderedHash = luther.getThumbnailHash();
+
+        // when
+        given(svgConverter.convertSvgToPng(otherSvg))
+                .willAnswer(invocation -> {
+                    thumbnailManager.uploadMapThumbnail(MAP_SVG, luther);
+                    return new byte[]{1, 2, 3};
+                });
+        thumbnailManager.uploadMapThumbnail(otherSvg, luther);
+        executor.runAll();
+
+        // then
+        assertThat(luther.getThumbnailHash()).isEqualTo(renderedHash);
+        verify(svgConverter, times(2)).convertSvgToPng(MAP_SVG);
+        verify(svgConverter, times(1)).convertSvgToPng(otherSvg);
+    }
+
+    @Test
+    @DisplayName("같은 SVG라도 이전 렌더링이 실패했다면 다시 렌더링한다.")
+    void retrySameSvgAfterFailure() {
+        // given
+        given(svgConverter.convertSvgToPng(anyString()))
+                .willThrow(new SvgToPngConvertException(new RuntimeException()))
+                .willReturn(new byte[]{1, 2, 3});
+        thumbnailManager.uploadMapThumbnail(MAP_SVG, luther);
+        executor.runAll();
+
+        // when
+        thumbnailManager.uploadMapThumbnail(MAP_SVG, luther);
+        executor.runAll();
+
+        // then
+        assertThat(luther.getThumbnailHash()).isNotNull();
+        verify(svgConverter, times(2)).convertSvgToPng(anyString());
+    }
+
+    @Test
+    @DisplayName("맵을 삭제하면 기다리던 썸네일 작업은 렌더링하지 않는다.")
+    void deleteThumbnailCancelsPending() {
+        // given
+        thumbnailManager.uploadMapThumbnail(MAP_SVG, luther);
+
+        // when
+        thumbnailManager.deleteThumbnail(luther);
+        executor.runAll();
+
+        // then
+        verify(svgConverter, never()).convertSvgToPng(anyString());
+        verify(storageUploader, never()).upload(anyString(), anyString(), any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("렌더링하는 사이에 맵이 삭제되면 올린 썸네일을 다시 지운다.")
+    void deleteUploadedThumbnailOfDeletedMap() {
+        // given
+        given(maps.updateThumbnailHash(eq(luther.getId()), anyString()))
+                .willReturn(0);
+        thumbnailManager.uploadMapThumbnail(MAP_SVG, luther);
+
+        // when
+        executor.runAll();
+
+        // then
+        verify(storageUploader, times(1)).delete(anyString(), eq(luther.getId() + ThumbnailManager.THUMBNAIL_EXTENSION));
+    }
+
+    private static class QueuedExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(final Runnable command) {
+            tasks.add(command);
+        }
+
+        private void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+            }
+        }
+    }
+}
@@ -78,7 +78,7 @@ class GithubRequesterTest {
             );
 
             // when
-            OauthUserInfo code = githubRequester.getUserInfoByCode("code");
+            OauthUserInfo code = githubRequester.getUserInfoByCode("code").block();
             String email = code.getEmail();
 
             // then
@@ -112,7 +112,7 @@ class GithubRequesterTest {
             );
 
             // when, then
-            assertThatThrownBy(() -> githubRequester.getUserInfoByCode("code"))
+            assertThatThrownBy(() -> githubRequester.getUserInfoByCode("code").block())
                     .isInstanceOf(ErrorResponseToGetGithubAccessTokenException.class);
         } catch (IOException ignored) {
         }
@@ -55,7 +55,7 @@ class GoogleRequesterTest {
             );
 
             // when
-            OauthUserInfo code = googleRequester.getUserInfoByCode("code");
+            OauthUserInfo code = googleRequester.getUserInfoByCode("code").block();
             String email = code.getEmail();
 
             //then
@@ -4,20 +4,27 @@ import com.woowacourse.zzimkkong.domain.OauthProvider;
 import com.woowacourse.zzimkkong.domain.oauth.GithubUserInfo;
 import com.woowacourse.zzimkkong.domain.oauth.GoogleUserInfo;
 import com.woowacourse.zzimkkong.domain.oauth.OauthUserInfo;
+import com.woowacourse.zzimkkong.exception.infrastructure.oauth.OauthRequestLimitExceededException;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
 
 import static com.woowacourse.zzimkkong.infrastructure.oauth.GoogleRequesterTest.SALLY_EMAIL;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -45,22 +52,45 @@ class OauthHandlerTest {
         mockingGoogleGetUserInfo(SALLY_EMAIL);
 
         //when
-        OauthUserInfo oauthUserInfo = oauthHandler.getUserInfoFromCode(oauthProvider, "code");
+        OauthUserInfo oauthUserInfo = oauthHandler.getUserInfoFromCode(oauthProvider, "code").block();
         String email = oauthUserInfo.getEmail();
 
         //then
         assertThat(email).isEqualTo(SALLY_EMAIL);
     }
 
+    @Test
+    @DisplayName("처리 중인 요청이 동시 요청 한도를 넘으면 제공자에 요청하지 않고 바로 실패한다.")
+    void getUserInfoFromCodeOverLimit() {
+        //given
+        OauthAPIRequester slowRequester = mock(OauthAPIRequester.class);
+        given(slowRequester.supports(OauthProvider.GITHUB))
+                .willReturn(true);
+        given(slowRequester.getUserInfoByCode(anyString()))
+                .willReturn(Mono.never());
+        OauthHandler limitedOauthHandler = new OauthHandler(List.of(slowRequester), 1);
+        Disposable pendingRequest = limitedOauthHandler.getUserInfoFromCode(OauthProvider.GITHUB, "code").subscribe();
+
+        //when, then
+        assertThatThrownBy(() -> limitedOauthHandler.getUserInfoFromCode(OauthProvider.GITHUB, "code").block())
+                .isInstanceOf(OauthRequestLimitExceededException.class);
+
+        pendingRequest.dispose();
+        given(slowRequester.getUserInfoByCode(anyString()))
+                .willReturn(Mono.just(GithubUserInfo.from(Map.of("email", SALLY_EMAIL))));
+        OauthUserInfo oauthUserInfo = limitedOauthHandler.getUserInfoFromCode(OauthProvider.GITHUB, "code").block();
+        assertThat(oauthUserInfo.getEmail()).isEqualTo(SALLY_EMAIL);
+    }
+
     private void mockingGithubGetUserInfo(String email) {
         given(githubRequester.getUserInfoByCode(anyString()))
-                .willReturn(GithubUserInfo.from(Map.of("email", email)));
+                .willReturn(Mono.just(GithubUserInfo.from(Map.of("email", email))));
     }
 
     private void mockingGoogleGetUserInfo(String email) {
         given(googleRequester.getUserInfoByCode(anyString()))
-                .willReturn(GoogleUserInfo.from(
+                .willReturn(Mono.just(GoogleUserInfo.from(
                         Map.of("id", "12",
-                                "email", email)));
+                                "email", email))));
     }
 }
@@ -0,0 +1,31 @@
+package com.woowacourse.zzimkkong.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Hibernate가 실제로 만들어 보내는 SQL을 모아, 손으로 옮겨 적은 SQL이 아닌 그 SQL의 실행 계획을 확인합니다
+public class CapturingStatementInspector implements StatementInspector {
+    private static final List<String> STATEMENTS = new ArrayList<>();
+
+    @Override
+    public String inspect(final String sql) {
+        synchronized (STATEMENTS) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    static void clear() {
+        synchronized (STATEMENTS) {
+            STATEMENTS.clear();
+        }
+    }
+
+    static String lastStatement() {
+        synchronized (STATEMENTS) {
+            return STATEMENTS.get(STATEMENTS.size() - 1);
+        }
+    }
+}
@@ -2,6 +2,10 @@ package com.woowacourse.zzimkkong.repository;
 
 import com.woowacourse.zzimkkong.domain.Map;
 import com.woowacourse.zzimkkong.domain.Member;
+import com.woowacourse.zzimkkong.domain.Reservation;
+import com.woowacourse.zzimkkong.domain.ReservationChange;
+import com.woowacourse.zzimkkong.domain.ReservationChangeType;
+import com.woowacourse.zzimkkong.domain.Space;
 import com.woowacourse.zzimkkong.exception.map.NoSuchMapException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -64,4 +68,75 @@ class MapRepositoryTest extends RepositoryTest {
         //then
         assertThat(actualMaps).containsExactlyInAnyOrderElementsOf(List.of(savedMap1, savedMap2));
     }
+
+    @Test
+    @DisplayName("id로부터 맵 그림 없이 Map의 이름과 소유자만 조회할 수 있다.")
+    void findSummaryById() {
+        //given
+        Map savedMap = maps.save(luther);
+
+        //when
+        MapSummary summary = maps.findSummaryById(savedMap.getId())
+                .orElseThrow(NoSuchMapException::new);
+
+        //then
+        assertThat(summary.getId()).isEqualTo(savedMap.getId());
+        assertThat(summary.getName()).isEqualTo(LUTHER_NAME);
+        assertThat(summary.getMemberId()).isEqualTo(pobi.getId());
+    }
+
+    @Test
+    @DisplayName("맵의 공간 버전을 1씩 올리고, 엔티티를 다시 저장해도 올린 버전이 유지된다.")
+    void increaseSpaceVersion() {
+        //given
+        Map savedMap = maps.save(luther);
+
+        //when
+        maps.increaseSpaceVersion(savedMap.getId());
+        maps.increaseSpaceVersion(savedMap.getId());
+        savedMap.update(SMALL_HOUSE_NAME, MAP_DRAWING_DATA);
+        maps.flush();
+
+        //then
+        assertThat(maps.findSpaceVersionById(savedMap.getId())).contains(2L);
+    }
+
+    @Test
+    @DisplayName("id로부터 맵의 공간 버전과 예약 변경 번호, 각각의 마지막 변경 시각을 한 번에 조회한다.")
+    void findVersionById() {
+        //given
+        Map savedMap = maps.save(luther);
+        Space be = Space.builder()
+                .id(1L)
+                .name(BE_NAME)
+                .build();
+        Reservation reservation = Reservation.builder()
+                .id(1L)
+                .date(THE_DAY_AFTER_TOMORROW)
+                .startTime(BE_AM_TEN_ELEVEN_START_TIME)
+                .endTime(BE_AM_TEN_ELEVEN_END_TIME)
+                .description(BE_AM_TEN_ELEVEN_DESCRIPTION)
+                .userName(BE_AM_TEN_ELEVEN_USERNAME)
+                .password(BE_AM_TEN_ELEVEN_PW)
+                .space(be)
+                .build();
+        MapVersion beforeChange = maps.findVersionById(savedMap.getId())
+                .orElseThrow(NoSuchMapException::new);
+
+        //when
+        maps.increaseSpaceVersion(savedMap.getId());
+        reservationChanges.saveAllInBatch(List.of(
+                new ReservationChange(savedMap.getId(), ReservationChangeType.CREATED, reservation)));
+        MapVersion afterChange = maps.findVersionById(savedMap.getId())
+                .orElseThrow(NoSuchMapException::new);
+
+        //then
+        assertThat(beforeChange.getSpaceVersion()).isZero();
+        assertThat(beforeChange.getLastSequence()).isNull();
+        assertThat(beforeChange.getReservationModifiedAt()).isNull();
+        assertThat(afterChange.getSpaceVersion()).isEqualTo(1L);
+        assertThat(afterChange.getSpaceModifiedAt()).isNotNull();
+        assertThat(afterChange.getLastSequence()).isEqualTo(1L);
+        assertThat(afterChange.getReservationModifiedAt()).isNotNull();
+    }
 }
@@ -13,6 +13,9 @@ class RepositoryTest {
     @Autowired
     protected ReservationRepository reservations;
 
+    @Autowired
+    protected ReservationChangeRepository reservationChanges;
+
     @Autowired
     protected SpaceRepository spaces;
 
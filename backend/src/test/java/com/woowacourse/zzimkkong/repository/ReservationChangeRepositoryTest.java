@@ -0,0 +1,74 @@
+package com.woowacourse.zzimkkong.repository;
+
+import com.woowacourse.zzimkkong.domain.Reservation;
+import com.woowacourse.zzimkkong.domain.ReservationChange;
+import com.woowacourse.zzimkkong.domain.ReservationChangeType;
+import com.woowacourse.zzimkkong.domain.Space;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.woowacourse.zzimkkong.Constants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ReservationChangeRepositoryTest extends RepositoryTest {
+    private static final Long LUTHER_ID = 1L;
+    private static final Long OTHER_MAP_ID = 2L;
+
+    @Test
+    @DisplayName("맵의 예약 변경을 batch insert로 저장하면서 맵마다 1부터 변경 번호를 붙이고, 주어진 번호 이후의 변경만 번호 순서대로 나눠서 조회한다.")
+    void findAllByMapIdAndSequenceGreaterThan() {
+        // given
+        Space be = Space.builder()
+                .id(1L)
+                .name(BE_NAME)
+                .build();
+        List<ReservationChange> changes = new ArrayList<>();
+        for (long i = 0; i < 5; i++) {
+            LocalDateTime startTime = THE_DAY_AFTER_TOMORROW.atTime(10, 0).plusHours(i);
+            Reservation reservation = Reservation.builder()
+                    .id(i + 1)
+                    .date(startTime.toLocalDate())
+                    .startTime(startTime)
+                    .endTime(startTime.plusHours(1))
+                    .description(BE_AM_TEN_ELEVEN_DESCRIPTION)
+                    .userName(BE_AM_TEN_ELEVEN_USERNAME)
+                    .password(BE_AM_TEN_ELEVEN_PW)
+                    .space(be)
+                    .build();
+            changes.add(new ReservationChange(LUTHER_ID, ReservationChangeType.CREATED, reservation));
+            changes.add(new ReservationChange(OTHER_MAP_ID, ReservationChangeType.DELETED, reservation));
+        }
+        reservationChanges.saveAllInBatch(changes);
+
+        // when
+        List<ReservationChange> firstPage = reservationChanges.findAllByMapIdAndSequenceGreaterThanOrderBySequenceAsc(
+                LUTHER_ID,
+                0L,
+                PageRequest.of(0, 3));
+        List<ReservationChange> secondPage = reservationChanges.findAllByMapIdAndSequenceGreaterThanOrderBySequenceAsc(
+                LUTHER_ID,
+                firstPage.get(firstPage.size() - 1).getSequence(),
+                PageRequest.of(0, 3));
+
+        // then
+        assertThat(firstPage).extracting(ReservationChange::getReservationId, ReservationChange::getType)
+                .containsExactly(
+                        tuple(1L, ReservationChangeType.CREATED),
+                        tuple(2L, ReservationChangeType.CREATED),
+                        tuple(3L, ReservationChangeType.CREATED));
+        assertThat(secondPage).extracting(ReservationChange::getReservationId)
+                .containsExactly(4L, 5L);
+        assertThat(secondPage.get(0).getStartTime()).isEqualTo(THE_DAY_AFTER_TOMORROW.atTime(13, 0));
+        assertThat(secondPage.get(0).getDate()).isEqualTo(THE_DAY_AFTER_TOMORROW);
+        assertThat(secondPage).extracting(ReservationChange::getSequence)
+                .containsExactly(4L, 5L);
+        assertThat(reservationChanges.findLastSequenceByMapId(LUTHER_ID)).contains(5L);
+        assertThat(reservationChanges.findLastSequenceByMapId(3L)).isEmpty();
+    }
+}
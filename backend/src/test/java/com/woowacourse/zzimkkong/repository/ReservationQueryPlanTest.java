@@ -0,0 +1,139 @@
+package com.woowacourse.zzimkkong.repository;
+
+import com.woowacourse.zzimkkong.domain.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static com.woowacourse.zzimkkong.Constants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.woowacourse.zzimkkong.repository.CapturingStatementInspector")
+class ReservationQueryPlanTest extends RepositoryTest {
+    private static final String SPACE_ID_DATE_START_TIME_INDEX = "reservation_space_id_date_start_time";
+    private static final String SPACE_ID_END_TIME_INDEX = "reservation_space_id_end_time";
+    private static final String CHANGE_MAP_ID_SEQUENCE_INDEX = "reservation_change_map_id_sequence";
+    private static final List<Long> SPACE_IDS = List.of(1L, 2L, 3L);
+    private static final LocalDate DATE = LocalDate.of(2021, 7, 1);
+    private static final LocalDateTime DATE_TIME = DATE.atTime(10, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    @DisplayName("공간들의 특정 날짜 예약 조회는 공간, 날짜, 시작 시간 복합 인덱스를 사용한다.")
+    void findAllBySpaceIdInAndDate() {
+        reservations.findAllBySpaceIdInAndDate(SPACE_IDS, DATE);
+
+        String plan = explainLastStatement(1L, 2L, 3L, DATE);
+
+        assertThat(plan).contains(SPACE_ID_DATE_START_TIME_INDEX);
+    }
+
+    @Test
+    @DisplayName("겹침 검사용 예약 시간 조회는 공간, 날짜, 시작 시간 복합 인덱스를 사용한다.")
+    void findIntervalsBySpaceIdAndDate() {
+        reservations.findIntervalsBySpaceIdAndDate(1L, DATE);
+
+        String plan = explainLastStatement(1L, DATE);
+
+        assertThat(plan).contains(SPACE_ID_DATE_START_TIME_INDEX);
+    }
+
+    @Test
+    @DisplayName("공간의 기간 예약 조회는 공간, 날짜, 시작 시간 복합 인덱스를 사용한다.")
+    void findAllBySpaceIdAndDateBetween() {
+        reservations.findAllBySpaceIdAndDateBetween(1L, DATE, DATE.plusDays(6));
+
+        String plan = explainLastStatement(1L, DATE, DATE.plusDays(6));
+
+        assertThat(plan).contains(SPACE_ID_DATE_START_TIME_INDEX);
+    }
+
+    @Test
+    @DisplayName("맵 예약률 집계는 예약 엔티티를 읽지 않고 공간, 날짜, 시작 시간 복합 인덱스로 범위를 좁힌다.")
+    void sumReservedMinutesBySpaceIdInAndDateBetween() {
+        reservations.sumReservedMinutesBySpaceIdInAndDateBetween(SPACE_IDS, DATE, DATE.plusDays(89));
+
+        String plan = explainLastStatement(1L, 2L, 3L, DATE, DATE.plusDays(89));
+
+        assertThat(plan).contains(SPACE_ID_DATE_START_TIME_INDEX);
+    }
+
+    @Test
+    @DisplayName("공간에 남은 예약이 있는지 확인할 때는 공간, 종료 시간 복합 인덱스를 사용한다.")
+    void existsBySpaceIdAndEndTimeAfter() {
+        reservations.existsBySpaceIdAndEndTimeAfter(1L, DATE_TIME);
+
+        String plan = explainLastStatement(1L, DATE_TIME, 1);
+
+        assertThat(plan).contains(SPACE_ID_END_TIME_INDEX);
+    }
+
+    @Test
+    @DisplayName("회원의 남은 예약이 있는지 확인할 때 예약 테이블은 공간, 종료 시간 복합 인덱스로 읽는다.")
+    void existsReservationsByMemberFromToday() {
+        Member pobi = members.save(new Member(EMAIL, PW, ORGANIZATION));
+        reservations.existsReservationsByMemberFromToday(pobi);
+
+        String plan = explainLastStatement(pobi.getId(), DATE_TIME);
+
+        assertThat(plan).contains(SPACE_ID_END_TIME_INDEX);
+    }
+
+    @Test
+    @DisplayName("맵의 예약 변경 조회는 맵, 변경 번호 복합 인덱스로 주어진 번호 이후부터 읽는다.")
+    void findAllByMapIdAndSequenceGreaterThan() {
+        reservationChanges.findAllByMapIdAndSequenceGreaterThanOrderBySequenceAsc(1L, 100L, PageRequest.of(0, 101));
+
+        String plan = explainLastStatement(1L, 100L, 101);
+
+        assertThat(plan).contains(CHANGE_MAP_ID_SEQUENCE_INDEX);
+    }
+
+    // 레포지토리 메서드가 방금 보낸 SQL에 같은 순서로 값을 바인딩해 실행 계획을 구합니다
+    private String explainLastStatement(final Object... parameters) {
+        String sql = CapturingStatementInspector.lastStatement();
+        if (isMySql()) {
+            // MySQL은 EXPLAIN 결과의 key 컬럼에 실제로 고른 인덱스가 나옵니다
+            return jdbcTemplate.queryForList("EXPLAIN " + sql, parameters).stream()
+                    .map(row -> String.valueOf(row.get("key")))
+                    .collect(Collectors.joining(","));
+        }
+
+        // H2는 실행 계획 문자열의 주석에 테이블마다 고른 인덱스를 대문자로 남깁니다
+        List<String> plans = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters);
+        return String.join("\n", plans).toLowerCase(Locale.ROOT);
+    }
+
+    private boolean isMySql() {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return productName.toLowerCase(Locale.ROOT).contains("mysql");
+        } catch (Exception exception) {
+            return false;
+        }
+    }
+}
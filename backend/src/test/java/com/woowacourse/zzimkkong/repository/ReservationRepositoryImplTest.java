@@ -3,13 +3,18 @@ package com.woowacourse.zzimkkong.repository;
 import com.woowacourse.zzimkkong.domain.*;
 import org.assertj.core.api.AssertionsForClassTypes;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.woowacourse.zzimkkong.Constants.*;
+import static org.assertj.core.api.Assertions.assertThat;
 
 class ReservationRepositoryImplTest extends RepositoryTest {
     @ParameterizedTest
@@ -76,4 +81,58 @@ class ReservationRepositoryImplTest extends RepositoryTest {
         // then
         AssertionsForClassTypes.assertThat(hasAnyReservations).isEqualTo(isReservationExists);
     }
+
+    @Test
+    @DisplayName("여러 예약을 batch insert로 한 번에 저장하고, 저장된 예약을 요청 순서대로 반환한다.")
+    void saveAllInBatch() {
+        // given
+        Member sakjung = members.save(new Member(NEW_EMAIL, PW, ORGANIZATION));
+        Map luther = maps.save(new Map(LUTHER_NAME, MAP_DRAWING_DATA, MAP_IMAGE_URL, sakjung));
+
+        Setting beSetting = Setting.builder()
+                .availableStartTime(BE_AVAILABLE_START_TIME)
+                .availableEndTime(BE_AVAILABLE_END_TIME)
+                .reservationTimeUnit(BE_RESERVATION_TIME_UNIT)
+                .reservationMinimumTimeUnit(BE_RESERVATION_MINIMUM_TIME_UNIT)
+                .reservationMaximumTimeUnit(BE_RESERVATION_MAXIMUM_TIME_UNIT)
+                .reservationEnable(BE_RESERVATION_ENABLE)
+                .enabledDayOfWeek(BE_ENABLED_DAY_OF_WEEK)
+                .build();
+
+        Space be = spaces.save(Space.builder()
+                .name(BE_NAME)
+                .color(BE_COLOR)
+                .description(BE_DESCRIPTION)
+                .area(SPACE_DRAWING)
+                .setting(beSetting)
+                .map(luther)
+                .build());
+
+        List<Reservation> newReservations = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            LocalDateTime startTime = THE_DAY_AFTER_TOMORROW.atStartOfDay().plusMinutes(10L * i);
+            newReservations.add(Reservation.builder()
+                    .date(startTime.toLocalDate())
+                    .startTime(startTime)
+                    .endTime(startTime.plusMinutes(10))
+                    .description(BE_AM_TEN_ELEVEN_DESCRIPTION)
+                    .userName(BE_AM_TEN_ELEVEN_USERNAME)
+                    .password(BE_AM_TEN_ELEVEN_PW)
+                    .space(be)
+                    .build());
+        }
+
+        // when
+        List<Reservation> savedReservations = reservations.saveAllInBatch(newReservations);
+
+        // then
+        assertThat(savedReservations).hasSize(newReservations.size());
+        assertThat(savedReservations).extracting(Reservation::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(savedReservations).extracting(Reservation::getStartTime)
+                .containsExactlyElementsOf(newReservations.stream()
+                        .map(Reservation::getStartTime)
+                        .collect(Collectors.toList()));
+        assertThat(reservations.findAllBySpaceIdInAndDate(List.of(be.getId()), THE_DAY_AFTER_TOMORROW))
+                .hasSize(newReservations.size());
+    }
 }
@@ -7,13 +7,17 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.woowacourse.zzimkkong.Constants.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 class ReservationRepositoryTest extends RepositoryTest {
@@ -156,6 +160,20 @@ class ReservationRepositoryTest extends RepositoryTest {
                 .isEqualTo(List.of(beAmZeroOne, bePmOneTwo, fe1ZeroOne));
     }
 
+    @Test
+    @DisplayName("space id와 날짜가 주어질 때, 엔티티 없이 해당 공간과 날짜의 예약 시간만 찾아온다")
+    void findIntervalsBySpaceIdAndDate() {
+        // given, when
+        List<ReservationInterval> intervals = reservations.findIntervalsBySpaceIdAndDate(be.getId(), THE_DAY_AFTER_TOMORROW);
+
+        // then
+        assertThat(intervals)
+                .extracting(ReservationInterval::getId, ReservationInterval::getStartTime, ReservationInterval::getEndTime)
+                .containsExactlyInAnyOrder(
+                        tuple(beAmZeroOne.getId(), beAmZeroOne.getStartTime(), beAmZeroOne.getEndTime()),
+                        tuple(bePmOneTwo.getId(), bePmOneTwo.getStartTime(), bePmOneTwo.getEndTime()));
+    }
+
     @Test
     @DisplayName("특정 날짜에 부합하는 예약이 없으면 빈 리스트를 반환한다")
     void findAllBySpaceIdInAndDate_noMatchingTime() {
@@ -192,6 +210,90 @@ class ReservationRepositoryTest extends RepositoryTest {
         assertThat(foundReservations).containsExactlyInAnyOrderElementsOf(List.of(beAmZeroOne, bePmOneTwo, fe1ZeroOne));
     }
 
+    @Test
+    @DisplayName("space id와 날짜 범위가 주어질 때, 해당 공간에서 범위 안의 날짜에 속하는 예약들을 한 번에 찾아온다")
+    void findAllBySpaceIdAndDateBetween() {
+        // given, when
+        List<Reservation> foundReservations = reservations.findAllBySpaceIdAndDateBetween(
+                be.getId(),
+                THE_DAY_AFTER_TOMORROW,
+                THE_DAY_AFTER_TOMORROW.plusDays(1));
+
+        // then
+        assertThat(foundReservations).containsExactlyInAnyOrder(beAmZeroOne, bePmOneTwo, beNextDayAmSixTwelve);
+    }
+
+    @Test
+    @DisplayName("공간 id들과 날짜 범위가 주어질 때, 공간별 날짜별 예약된 시간(분)의 합을 한 번에 집계한다")
+    void sumReservedMinutesBySpaceIdInAndDateBetween() {
+        // given, when
+        List<ReservationOccupancy> occupancies = reservations.sumReservedMinutesBySpaceIdInAndDateBetween(
+                List.of(be.getId(), fe.getId()),
+                THE_DAY_AFTER_TOMORROW,
+                THE_DAY_AFTER_TOMORROW.plusDays(1));
+
+        // then
+        assertThat(occupancies)
+                .extracting(ReservationOccupancy::getSpaceId, ReservationOccupancy::getDate, ReservationOccupancy::getReservedMinutes)
+                .containsExactlyInAnyOrder(
+                        tuple(be.getId(), THE_DAY_AFTER_TOMORROW, 120L),
+                        tuple(be.getId(), THE_DAY_AFTER_TOMORROW.plusDays(1), 120L),
+                        tuple(fe.getId(), THE_DAY_AFTER_TOMORROW, 60L));
+    }
+
+    @Test
+    @DisplayName("공간 id들과 날짜 범위가 주어질 때, 범위 안의 예약들을 공간, 날짜, 시작 시간 순서로 흘려보낸다")
+    void streamAllBySpaceIdInAndDateBetween() {
+        // given, when
+        List<Long> foundReservationIds;
+        try (Stream<ReservationRow> rows = reservations.streamAllBySpaceIdInAndDateBetween(
+                List.of(be.getId(), fe.getId()),
+                THE_DAY_AFTER_TOMORROW,
+                THE_DAY_AFTER_TOMORROW.plusDays(1))) {
+            foundReservationIds = rows.map(ReservationRow::getId)
+                    .collect(Collectors.toList());
+        }
+
+        // then
+        assertThat(foundReservationIds).containsExactly(
+                beAmZeroOne.getId(),
+                bePmOneTwo.getId(),
+                beNextDayAmSixTwelve.getId(),
+                fe1ZeroOne.getId());
+    }
+
+    @Test
+    @DisplayName("공간 id와 날짜 범위가 주어질 때, 마지막으로 읽은 (날짜, 시작 시간, id) 다음 예약부터 한 페이지씩 읽는다")
+    void findAllBySpaceIdAndDateBetweenAfter() {
+        // given
+        LocalDate beforeStartDate = THE_DAY_AFTER_TOMORROW.minusDays(1);
+        List<ReservationRow> firstPage = reservations.findAllBySpaceIdAndDateBetweenAfter(
+                be.getId(),
+                THE_DAY_AFTER_TOMORROW,
+                THE_DAY_AFTER_TOMORROW.plusDays(1),
+                beforeStartDate,
+                beforeStartDate.atStartOfDay(),
+                0L,
+                PageRequest.of(0, 2));
+        ReservationRow last = firstPage.get(firstPage.size() - 1);
+
+        // when
+        List<ReservationRow> secondPage = reservations.findAllBySpaceIdAndDateBetweenAfter(
+                be.getId(),
+                THE_DAY_AFTER_TOMORROW,
+                THE_DAY_AFTER_TOMORROW.plusDays(1),
+                last.getDate(),
+                last.getStartTime(),
+                last.getId(),
+                PageRequest.of(0, 2));
+
+        // then
+        assertThat(firstPage).extracting(ReservationRow::getId)
+                .containsExactly(beAmZeroOne.getId(), bePmOneTwo.getId());
+        assertThat(secondPage).extracting(ReservationRow::getId)
+                .containsExactly(beNextDayAmSixTwelve.getId());
+    }
+
     @Test
     @DisplayName("예약을 삭제할 수 있다.")
     void delete() {
@@ -4,14 +4,23 @@ import com.woowacourse.zzimkkong.domain.Map;
 import com.woowacourse.zzimkkong.domain.Member;
 import com.woowacourse.zzimkkong.domain.Setting;
 import com.woowacourse.zzimkkong.domain.Space;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.DayOfWeek;
+import java.util.List;
 
 import static com.woowacourse.zzimkkong.Constants.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class SpaceRepositoryTest extends RepositoryTest {
+    @Autowired
+    private TestEntityManager testEntityManager;
+
     private Map luther;
     private Space be;
     private Space fe;
@@ -47,7 +56,7 @@ class SpaceRepositoryTest extends RepositoryTest {
                 .reservationMinimumTimeUnit(FE_RESERVATION_MINIMUM_TIME_UNIT)
                 .reservationMaximumTimeUnit(FE_RESERVATION_MAXIMUM_TIME_UNIT)
                 .reservationEnable(FE_RESERVATION_ENABLE)
-                .enabledDayOfWeek(FE_ENABLED_DAY_OF_WEEK)
+                .enabledDayOfWeek("monday,wednesday,friday")
                 .build();
 
         fe = Space.builder()
@@ -73,4 +82,51 @@ class SpaceRepositoryTest extends RepositoryTest {
         assertThat(savedSpace.getId()).isNotNull();
         assertThat(savedSpace).isEqualTo(be);
     }
+
+    @Test
+    @DisplayName("잠금을 걸고 공간들을 id 순서대로 조회한다.")
+    void findAllByIdInForUpdate() {
+        // given
+        spaces.save(be);
+        spaces.save(fe);
+
+        // when
+        List<Space> lockedSpaces = spaces.findAllByIdInForUpdate(List.of(fe.getId(), be.getId()));
+
+        // then
+        assertThat(lockedSpaces).containsExactly(be, fe);
+    }
+
+    @Test
+    @DisplayName("맵의 공간들을 맵 그림을 읽지 않고 id 순서대로 조회한다.")
+    void findAllByMapIdOrderByIdAsc() {
+        // given
+        spaces.save(be);
+        spaces.save(fe);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        List<Space> actual = spaces.findAllByMapIdOrderByIdAsc(luther.getId());
+
+        // then
+        assertThat(actual).extracting(Space::getId).containsExactly(be.getId(), fe.getId());
+        assertThat(actual).allMatch(space -> !Hibernate.isInitialized(space.getMap()));
+    }
+
+    @Test
+    @DisplayName("맵의 공간들 중 해당 요일에 예약할 수 있는 공간만 조회한다.")
+    void findAllByMapIdOpenOn() {
+        // given
+        spaces.save(be);
+        spaces.save(fe);
+
+        // when
+        List<Space> openOnMonday = spaces.findAllByMapIdOpenOn(luther.getId(), DayOfWeek.MONDAY);
+        List<Space> openOnSunday = spaces.findAllByMapIdOpenOn(luther.getId(), DayOfWeek.SUNDAY);
+
+        // then
+        assertThat(openOnMonday).containsExactly(be, fe);
+        assertThat(openOnSunday).containsExactly(be);
+    }
 }
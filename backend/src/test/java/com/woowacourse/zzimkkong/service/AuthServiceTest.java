@@ -17,6 +17,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import reactor.core.publisher.Mono;
 
 import java.util.Arrays;
 import java.util.Optional;
@@ -101,14 +102,14 @@ class AuthServiceTest extends ServiceTest {
 
         OauthUserInfo mockOauthUserInfo = mock(OauthUserInfo.class);
         given(oauthHandler.getUserInfoFromCode(any(OauthProvider.class), anyString()))
-                .willReturn(mockOauthUserInfo);
+                .willReturn(Mono.just(mockOauthUserInfo));
         given(mockOauthUserInfo.getEmail())
                 .willReturn(EMAIL);
         given(members.findByEmail(EMAIL))
                 .willReturn(Optional.of(new Member(EMAIL, ORGANIZATION, oauthProvider)));
 
         // when
-        TokenResponse tokenResponse = authService.loginByOauth(oauthProvider, mockCode);
+        TokenResponse tokenResponse = authService.loginByOauth(oauthProvider, mockCode).block();
 
         // then
         String accessToken = tokenResponse.getAccessToken();
@@ -125,14 +126,14 @@ class AuthServiceTest extends ServiceTest {
 
         OauthUserInfo mockOauthUserInfo = mock(OauthUserInfo.class);
         given(oauthHandler.getUserInfoFromCode(any(OauthProvider.class), anyString()))
-                .willReturn(mockOauthUserInfo);
+                .willReturn(Mono.just(mockOauthUserInfo));
         given(mockOauthUserInfo.getEmail())
                 .willReturn(EMAIL);
         given(members.findByEmail(EMAIL))
                 .willReturn(Optional.empty());
 
         // when, then
-        assertThatThrownBy(() -> authService.loginByOauth(oauthProvider, mockCode))
+        assertThatThrownBy(() -> authService.loginByOauth(oauthProvider, mockCode).block())
                 .isInstanceOf(NoSuchMemberException.class);
     }
 
@@ -149,14 +150,14 @@ class AuthServiceTest extends ServiceTest {
 
         OauthUserInfo mockOauthUserInfo = mock(OauthUserInfo.class);
         given(oauthHandler.getUserInfoFromCode(any(OauthProvider.class), anyString()))
-                .willReturn(mockOauthUserInfo);
+                .willReturn(Mono.just(mockOauthUserInfo));
         given(mockOauthUserInfo.getEmail())
                 .willReturn(EMAIL);
         given(members.findByEmail(EMAIL))
                 .willReturn(Optional.of(new Member(EMAIL, ORGANIZATION, anotherProvider)));
 
         // when, then
-        assertThatThrownBy(() -> authService.loginByOauth(oauthProvider, mockCode))
+        assertThatThrownBy(() -> authService.loginByOauth(oauthProvider, mockCode).block())
                 .isInstanceOf(OauthProviderMismatchException.class);
     }
 }
@@ -12,22 +12,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static com.woowacourse.zzimkkong.Constants.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 class GuestReservationServiceTest extends ServiceTest {
     private static final String CHANGED_NAME = "이름 변경";
@@ -130,14 +135,21 @@ class GuestReservationServiceTest extends ServiceTest {
         beId = be.getId();
         noneExistingMapId = lutherId + 1;
         noneExistingSpaceId = (long) (luther.getSpaces().size() + 1);
+
+        given(spaces.findAllByMapIdOrderByIdAsc(anyLong()))
+                .willReturn(luther.getSpaces());
+        given(spaces.findAllByIdInForUpdate(anyCollection()))
+                .willAnswer(invocation -> luther.getSpaces().stream()
+                        .filter(space -> invocation.<Collection<Long>>getArgument(0).contains(space.getId()))
+                        .collect(Collectors.toList()));
     }
 
     @Test
     @DisplayName("예약 생성 요청 시, mapId와 요청이 들어온다면 예약을 생성한다.")
     void save() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.save(any(Reservation.class)))
                 .willReturn(reservation);
 
@@ -155,11 +167,236 @@ class GuestReservationServiceTest extends ServiceTest {
         assertThat(reservationCreateResponse.getId()).isEqualTo(reservation.getId());
     }
 
+    @Test
+    @DisplayName("예약 생성 요청 시, 캐시에 없는 예약이 그 사이 커밋되었더라도 공간 lock을 잡은 뒤 다시 읽어 겹침을 찾는다.")
+    void saveConflictCommittedAfterCaching() {
+        //given
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
+        given(reservations.save(any(Reservation.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        given(reservations.findAllBySpaceIdInAndDate(
+                anyList(),
+                any(LocalDate.class)))
+                .willReturn(Collections.emptyList())
+                .willReturn(List.of(reservation));
+
+        ReservationCreateDto reservationCreateDto = ReservationCreateDto.of(
+                lutherId,
+                beId,
+                reservationCreateUpdateWithPasswordRequest);
+        ReservationCreateDto otherReservationCreateDto = ReservationCreateDto.of(
+                lutherId,
+                beId,
+                new ReservationCreateUpdateWithPasswordRequest(
+                        THE_DAY_AFTER_TOMORROW.atTime(12, 0),
+                        THE_DAY_AFTER_TOMORROW.atTime(12, 30),
+                        RESERVATION_PW,
+                        USER_NAME,
+                        DESCRIPTION));
+        reservationService.saveReservation(otherReservationCreateDto, guestReservationStrategy);
+
+        //when, then
+        assertThatThrownBy(() -> reservationService.saveReservation(
+                reservationCreateDto,
+                guestReservationStrategy))
+                .isInstanceOf(ImpossibleReservationTimeException.class);
+    }
+
+    @Test
+    @DisplayName("여러 예약 생성 요청 시, 모든 예약이 가능하면 한 번에 생성한다.")
+    void saveAll() {
+        //given
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
+        given(reservations.saveAllInBatch(anyList()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        ReservationBatchCreateDto reservationBatchCreateDto = ReservationBatchCreateDto.of(
+                lutherId,
+                new ReservationBatchCreateRequest(List.of(
+                        makeBatchItemRequest(beId, 13, 14),
+                        makeBatchItemRequest(beId, 14, 15),
+                        makeBatchItemRequest(fe.getId(), 13, 14))));
+
+        //when
+        ReservationBatchCreateResponse reservationBatchCreateResponse = reservationService.saveReservations(
+                reservationBatchCreateDto,
+                guestReservationStrategy);
+
+        //then
+        assertThat(reservationBatchCreateResponse.getReservations()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("여러 예약 생성 요청 시, 요청한 예약끼리 시간이 겹치면 예외가 발생한다.")
+    void saveAllConflictWithinBatch() {
+        //given
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
+
+        ReservationBatchCreateDto reservationBatchCreateDto = ReservationBatchCreateDto.of(
+                lutherId,
+                new ReservationBatchCreateRequest(List.of(
+                        makeBatchItemRequest(beId, 14, 16),
+                        makeBatchItemRequest(fe.getId(), 13, 14),
+                        makeBatchItemRequest(beId, 13, 15))));
+
+        //when, then
+        assertThatThrownBy(() -> reservationService.saveReservations(
+                reservationBatchCreateDto,
+                guestReservationStrategy))
+                .isInstanceOf(ImpossibleReservationTimeException.class);
+    }
+
+    @Test
+    @DisplayName("여러 예약 생성 요청 시, 하나라도 기존 예약과 겹치면 예외가 발생한다.")
+    void saveAllConflictWithExisting() {
+        //given
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
+        given(reservations.findAllBySpaceIdInAndDate(
+                anyList(),
+                any(LocalDate.class)))
+                .willReturn(List.of(bePmOneTwo));
+
+        ReservationBatchCreateDto reservationBatchCreateDto = ReservationBatchCreateDto.of(
+                lutherId,
+                new ReservationBatchCreateRequest(List.of(
+                        makeBatchItemRequest(beId, 11, 12),
+                        makeBatchItemRequest(beId, 13, 14))));
+
+        //when, then
+        assertThatThrownBy(() -> reservationService.saveReservations(
+                reservationBatchCreateDto,
+                guestReservationStrategy))
+                .isInstanceOf(ImpossibleReservationTimeException.class);
+    }
+
+    @Test
+    @DisplayName("반복 예약 생성 요청 시, 종료 날짜까지 반복되는 모든 예약을 한 번에 생성한다.")
+    void saveRecurring() {
+        //given
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
+        given(reservations.findAllBySpaceIdAndDateBetween(anyLong(), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(Collections.emptyList());
+        given(reservations.saveAllInBatch(anyList()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        ReservationRecurringCreateDto reservationRecurringCreateDto = ReservationRecurringCreateDto.of(
+                lutherId,
+                beId,
+                makeRecurringRequest(RepeatType.WEEKLY, THE_DAY_AFTER_TOMORROW.plusWeeks(51)));
+
+        //when
+        ReservationBatchCreateResponse reservationBatchCreateResponse = reservationService.saveRecurringReservations(
+                reservationRecurringCreateDto,
+                guestReservationStrategy);
+
+        //then
+        assertThat(reservationBatchCreateResponse.getReservations()).hasSize(52);
+    }
+
+    @Test
+    @DisplayName("반복 예약 생성 요청 시, 공간이 닫혀있는 요일은 건너뛴다.")
+    void saveRecurringSkipClosedDays() {
+        //given
+        Setting oneDaySetting = Setting.builder()
+                .availableStartTime(BE_AVAILABLE_START_TIME)
+                .availableEndTime(BE_AVAILABLE_END_TIME)
+                .reservationTimeUnit(BE_RESERVATION_TIME_UNIT)
+                .reservationMinimumTimeUnit(BE_RESERVATION_MINIMUM_TIME_UNIT)
+                .reservationMaximumTimeUnit(BE_RESERVATION_MAXIMUM_TIME_UNIT)
+                .reservationEnable(BE_RESERVATION_ENABLE)
+                .enabledDayOfWeek(THE_DAY_AFTER_TOMORROW.getDayOfWeek().name().toLowerCase())
+                .build();
+        Space oneDaySpace = Space.builder()
+                .id(3L)
+                .name("하루만 여는 공간")
+                .map(luther)
+                .description(BE_DESCRIPTION)
+                .area(SPACE_DRAWING)
+                .setting(oneDaySetting)
+                .build();
+
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
+        given(reservations.findAllBySpaceIdAndDateBetween(anyLong(), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(Collections.emptyList());
+        given(reservations.saveAllInBatch(anyList()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        ReservationRecurringCreateDto reservationRecurringCreateDto = ReservationRecurringCreateDto.of(
+                lutherId,
+                oneDaySpace.getId(),
+                makeRecurringRequest(RepeatType.DAILY, THE_DAY_AFTER_TOMORROW.plusWeeks(2)));
+
+        //when
+        ReservationBatchCreateResponse reservationBatchCreateResponse = reservationService.saveRecurringReservations(
+                reservationRecurringCreateDto,
+                guestReservationStrategy);
+
+        //then
+        assertThat(reservationBatchCreateResponse.getReservations()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("반복 예약 생성 요청 시, 한 회차라도 기존 예약과 겹치면 예외가 발생한다.")
+    void saveRecurringConflictWithExisting() {
+        //given
+        Reservation beLastWeek = Reservation.builder()
+                .id(10L)
+                .startTime(THE_DAY_AFTER_TOMORROW.plusWeeks(3).atTime(13, 30))
+                .endTime(THE_DAY_AFTER_TOMORROW.plusWeeks(3).atTime(14, 30))
+                .date(THE_DAY_AFTER_TOMORROW.plusWeeks(3))
+                .description(DESCRIPTION)
+                .userName(USER_NAME)
+                .password(RESERVATION_PW)
+                .build();
+
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
+        given(reservations.findAllBySpaceIdAndDateBetween(anyLong(), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(List.of(beLastWeek));
+
+        ReservationRecurringCreateDto reservationRecurringCreateDto = ReservationRecurringCreateDto.of(
+                lutherId,
+                beId,
+                makeRecurringRequest(RepeatType.WEEKLY, THE_DAY_AFTER_TOMORROW.plusWeeks(3)));
+
+        //when, then
+        assertThatThrownBy(() -> reservationService.saveRecurringReservations(
+                reservationRecurringCreateDto,
+                guestReservationStrategy))
+                .isInstanceOf(ImpossibleReservationTimeException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1, 367})
+    @DisplayName("반복 예약 생성 요청 시, 반복 종료 날짜가 첫 예약 이전이거나 1년을 넘으면 예외가 발생한다.")
+    void saveRecurringInvalidRepeatEndDate(long plusDays) {
+        //given
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
+
+        ReservationRecurringCreateDto reservationRecurringCreateDto = ReservationRecurringCreateDto.of(
+                lutherId,
+                beId,
+                makeRecurringRequest(RepeatType.DAILY, THE_DAY_AFTER_TOMORROW.plusDays(plusDays)));
+
+        //when, then
+        assertThatThrownBy(() -> reservationService.saveRecurringReservations(
+                reservationRecurringCreateDto,
+                guestReservationStrategy))
+                .isInstanceOf(InvalidRepeatEndDateException.class);
+    }
+
     @Test
     @DisplayName("예약 생성 요청 시, mapId에 따른 map이 존재하지 않는다면 예외가 발생한다.")
     void saveNotExistMapException() {
         //given, when
-        given(maps.findById(anyLong()))
+        given(maps.findSummaryById(anyLong()))
                 .willReturn(Optional.empty());
 
         // when
@@ -179,8 +416,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, spaceId에 따른 space가 존재하지 않는다면 예외가 발생한다.")
     void saveNotExistSpaceException() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         // when
         ReservationCreateDto reservationCreateDto = ReservationCreateDto.of(
@@ -199,8 +436,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, 시작 시간이 현재 시간보다 빠르다면 예외가 발생한다.")
     void saveStartTimeBeforeNow() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         // when
         reservationCreateUpdateWithPasswordRequest = new ReservationCreateUpdateWithPasswordRequest(
@@ -225,8 +462,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, 종료 시간이 현재 시간보다 빠르다면 예외가 발생한다.")
     void saveEndTimeBeforeNow() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         // when
         reservationCreateUpdateWithPasswordRequest = new ReservationCreateUpdateWithPasswordRequest(
@@ -251,8 +488,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, 시작 시간과 종료 시간이 같다면 예외가 발생한다.")
     void saveStartTimeEqualsEndTime() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         //when
         reservationCreateUpdateWithPasswordRequest = new ReservationCreateUpdateWithPasswordRequest(
@@ -277,8 +514,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, 시작 시간과 종료 시간의 날짜가 다르다면 예외가 발생한다.")
     void saveStartTimeDateNotEqualsEndTimeDate() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         //when
         reservationCreateUpdateWithPasswordRequest = new ReservationCreateUpdateWithPasswordRequest(
@@ -304,8 +541,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, 공간의 예약가능 시간이 아니라면 예외가 발생한다.")
     void saveInvalidTimeSetting(int startTime, int endTime) {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         //when
         reservationCreateUpdateWithPasswordRequest = new ReservationCreateUpdateWithPasswordRequest(
@@ -332,8 +569,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, 이미 겹치는 시간이 존재하면 예외가 발생한다.")
     void saveAvailabilityException(int startMinute, int endMinute) {
         //given, when
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findAllBySpaceIdInAndDate(
                 anyList(),
                 any(LocalDate.class)))
@@ -378,8 +615,8 @@ class GuestReservationServiceTest extends ServiceTest {
                 .setting(setting)
                 .build();
 
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         Long closedSpaceId = closedSpace.getId();
 
         ReservationCreateDto reservationCreateDto = ReservationCreateDto.of(
@@ -418,8 +655,8 @@ class GuestReservationServiceTest extends ServiceTest {
                 .setting(setting)
                 .build();
 
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         Long invalidDayOfWeekSpaceId = invalidDayOfWeekSpace.getId();
 
         ReservationCreateDto reservationCreateDto = ReservationCreateDto.of(
@@ -439,8 +676,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, 경계값이 일치한다면 생성된다.")
     void saveSameThresholdTime(int duration) {
         //given, when
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findAllBySpaceIdInAndDate(
                 anyList(),
                 any(LocalDate.class)))
@@ -473,8 +710,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성/수정 요청 시, space setting의 reservationTimeUnit이 일치하지 않으면 예외가 발생한다.")
     void saveReservationTimeUnitException(int additionalStartMinute, int additionalEndMinute) {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
         LocalDateTime theDayAfterTomorrowTen = THE_DAY_AFTER_TOMORROW.atTime(10, 0);
@@ -514,8 +751,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성/수정 요청 시, space setting의 minimum, maximum 시간이 옳지 않으면 예외가 발생한다.")
     void saveReservationMinimumMaximumTimeUnitException(int duration) {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
 
@@ -565,8 +802,8 @@ class GuestReservationServiceTest extends ServiceTest {
                         reservationCreateUpdateWithPasswordRequest.getEndDateTime().plusMinutes(duration),
                         be));
 
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findAllBySpaceIdInAndDate(
                 anyList(),
                 any(LocalDate.class)))
@@ -586,11 +823,39 @@ class GuestReservationServiceTest extends ServiceTest {
                 .isEqualTo(reservationFindResponse);
     }
 
+    @Test
+    @DisplayName("예약 가능 구간 조회 요청 시, 해당 날짜의 예약 사이 빈 시간이 공간 설정에 맞춰 조회된다.")
+    void findFreeSlots() {
+        //given
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
+        given(reservations.findAllBySpaceIdInAndDate(
+                anyList(),
+                any(LocalDate.class)))
+                .willReturn(List.of(makeReservation(BE_PM_ONE_TWO_START_TIME, BE_PM_ONE_TWO_END_TIME, be)));
+
+        //when
+        ReservationFindDto reservationFindDto = ReservationFindDto.of(
+                lutherId,
+                beId,
+                THE_DAY_AFTER_TOMORROW);
+        ReservationSlotFindResponse reservationSlotFindResponse = reservationService.findFreeSlots(
+                reservationFindDto,
+                guestReservationStrategy);
+
+        //then
+        assertThat(reservationSlotFindResponse.getSlots())
+                .extracting(ReservationSlotResponse::getStartDateTime, ReservationSlotResponse::getEndDateTime)
+                .containsExactly(
+                        tuple(THE_DAY_AFTER_TOMORROW.atTime(BE_AVAILABLE_START_TIME), BE_PM_ONE_TWO_START_TIME),
+                        tuple(BE_PM_ONE_TWO_END_TIME, THE_DAY_AFTER_TOMORROW.atTime(BE_AVAILABLE_END_TIME)));
+    }
+
     @Test
     @DisplayName("특정 공간 예약 조회 요청 시, 해당하는 맵이 없으면 오류가 발생한다.")
     void findReservationsNotExistMap() {
         //given
-        given(maps.findById(anyLong()))
+        given(maps.findSummaryById(anyLong()))
                 .willReturn(Optional.empty());
 
         //when
@@ -610,8 +875,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("특정 공간 예약 조회 요청 시, 해당하는 공간이 없으면 오류가 발생한다.")
     void findReservationsNotExistSpace() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         //when
         ReservationFindDto reservationFindDto = ReservationFindDto.of(
@@ -630,8 +895,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("전체 예약이나 특정 공간 예약 조회 요청 시, 해당하는 예약이 없으면 빈 정보가 조회된다.")
     void findEmptyReservations() {
         //given, when
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(maps.existsById(anyLong()))
                 .willReturn(true);
         given(reservations.findAllBySpaceIdInAndDate(
@@ -660,7 +925,7 @@ class GuestReservationServiceTest extends ServiceTest {
                 reservationFindAllDto,
                 guestReservationStrategy))
                 .usingRecursiveComparison()
-                .isEqualTo(ReservationFindAllResponse.of(List.of(be, fe), Collections.emptyList()));
+                .isEqualTo(ReservationFindAllResponse.of(List.of(SpaceSnapshot.from(be), SpaceSnapshot.from(fe)), Collections.emptyList()));
     }
 
     @Test
@@ -685,10 +950,10 @@ class GuestReservationServiceTest extends ServiceTest {
                         reservationCreateUpdateWithPasswordRequest.getStartDateTime().plusMinutes(duration),
                         reservationCreateUpdateWithPasswordRequest.getEndDateTime().plusMinutes(duration),
                         fe));
-        List<Space> findSpaces = List.of(be, fe);
+        List<SpaceSnapshot> findSpaces = List.of(SpaceSnapshot.from(be), SpaceSnapshot.from(fe));
 
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findAllBySpaceIdInAndDate(
                 anyList(),
                 any(LocalDate.class)))
@@ -709,8 +974,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 수정 요청 시, 비밀번호가 일치하는지 확인하고 해당 예약을 반환한다.")
     void findReservation() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
 
@@ -734,8 +999,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 수정 요청 시, 해당 예약이 존재하지 않으면 에러가 발생한다.")
     void findInvalidReservationException() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.empty());
         Long reservationId = reservation.getId();
@@ -759,8 +1024,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 수정 요청 시, 비밀번호가 일치하지 않으면 에러가 발생한다.")
     void findWrongPasswordException() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
         Long reservationId = reservation.getId();
@@ -784,8 +1049,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 수정 요청 시, 올바른 요청이 들어오면 예약이 수정된다.")
     void update() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
         Long reservationId = reservation.getId();
@@ -811,13 +1076,56 @@ class GuestReservationServiceTest extends ServiceTest {
         assertThat(reservation.getDescription()).isEqualTo(CHANGED_DESCRIPTION);
     }
 
+    @Test
+    @DisplayName("예약을 다른 날짜로 옮기면, 이전 날짜에는 삭제로, 옮긴 날짜에는 생성으로 변경 내역을 남긴다.")
+    void updateRecordsMovedReservation() {
+        //given
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
+        Reservation datedReservation = Reservation.builder()
+                .id(reservation.getId())
+                .date(THE_DAY_AFTER_TOMORROW)
+                .startTime(reservation.getStartTime())
+                .endTime(reservation.getEndTime())
+                .password(reservation.getPassword())
+                .userName(reservation.getUserName())
+                .description(reservation.getDescription())
+                .space(be)
+                .build();
+        given(reservations.findById(anyLong()))
+                .willReturn(Optional.of(datedReservation));
+        LocalDate movedDate = THE_DAY_AFTER_TOMORROW.plusDays(1);
+        ReservationUpdateDto reservationUpdateDto = ReservationUpdateDto.of(
+                lutherId,
+                beId,
+                datedReservation.getId(),
+                new ReservationCreateUpdateWithPasswordRequest(
+                        movedDate.atTime(10, 0),
+                        movedDate.atTime(11, 0),
+                        datedReservation.getPassword(),
+                        CHANGED_NAME,
+                        CHANGED_DESCRIPTION));
+        ArgumentCaptor<List<ReservationChange>> recordedChanges = ArgumentCaptor.forClass(List.class);
+
+        //when
+        reservationService.updateReservation(reservationUpdateDto, guestReservationStrategy);
+
+        //then
+        verify(reservationChanges).saveAllInBatch(recordedChanges.capture());
+        assertThat(recordedChanges.getValue())
+                .extracting(ReservationChange::getType, ReservationChange::getDate)
+                .containsExactly(
+                        tuple(ReservationChangeType.DELETED, THE_DAY_AFTER_TOMORROW),
+                        tuple(ReservationChangeType.CREATED, movedDate));
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {0, 1})
     @DisplayName("예약 수정 요청 시, 끝 시간 입력이 옳지 않으면 에러가 발생한다.")
     void updateInvalidEndTimeException(int endTime) {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         //when
         ReservationCreateUpdateWithPasswordRequest reservationCreateUpdateWithPasswordRequest = new ReservationCreateUpdateWithPasswordRequest(
@@ -845,8 +1153,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 수정 요청 시, 시작 시간과 끝 시간이 같은 날짜가 아니면 에러가 발생한다.")
     void updateInvalidDateException() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         //when
         ReservationCreateUpdateWithPasswordRequest reservationCreateUpdateWithPasswordRequest = new ReservationCreateUpdateWithPasswordRequest(
@@ -874,8 +1182,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 수정 요청 시, 비밀번호가 일치하지 않으면 에러가 발생한다.")
     void updateIncorrectPasswordException() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
 
@@ -906,8 +1214,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 수정 요청 시, 해당 시간에 예약이 존재하면 에러가 발생한다.")
     void updateImpossibleTimeException(int startTime, int endTime) {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
         given(reservations.findAllBySpaceIdInAndDate(anyList(), any()))
@@ -942,8 +1250,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 수정 요청 시, 공간의 예약가능 시간이 아니라면 에러가 발생한다.")
     void updateInvalidTimeSetting(int startTime, int endTime) {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
 
@@ -992,8 +1300,8 @@ class GuestReservationServiceTest extends ServiceTest {
                 .setting(setting)
                 .build();
 
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
         Long closedSpaceId = closedSpace.getId();
@@ -1036,8 +1344,8 @@ class GuestReservationServiceTest extends ServiceTest {
                 .setting(setting)
                 .build();
 
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
         Long invalidDayOfWeekSpaceId = invalidDayOfWeekSpace.getId();
@@ -1060,8 +1368,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 삭제 요청이 옳다면 삭제한다.")
     void deleteReservation() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(makeReservation(
                         reservationCreateUpdateWithPasswordRequest.getStartDateTime(),
@@ -1087,8 +1395,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 삭제 요청 시, 예약이 존재하지 않는다면 오류가 발생한다.")
     void deleteReservationException() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.empty());
         Long reservationId = reservation.getId();
@@ -1111,8 +1419,8 @@ class GuestReservationServiceTest extends ServiceTest {
     @DisplayName("예약 삭제 요청 시, 비밀번호가 일치하지 않는다면 오류가 발생한다.")
     void deleteReservationPasswordException() {
         //given, when
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(makeReservation(
                         reservationCreateUpdateWithPasswordRequest.getStartDateTime(),
@@ -1148,4 +1456,25 @@ class GuestReservationServiceTest extends ServiceTest {
                 .space(space)
                 .build();
     }
+
+    private ReservationBatchItemRequest makeBatchItemRequest(final Long spaceId, final int startHour, final int endHour) {
+        return new ReservationBatchItemRequest(
+                spaceId,
+                THE_DAY_AFTER_TOMORROW.atTime(startHour, 0),
+                THE_DAY_AFTER_TOMORROW.atTime(endHour, 0),
+                RESERVATION_PW,
+                USER_NAME,
+                DESCRIPTION);
+    }
+
+    private ReservationRecurringCreateRequest makeRecurringRequest(final RepeatType repeatType, final LocalDate repeatEndDate) {
+        return new ReservationRecurringCreateRequest(
+                THE_DAY_AFTER_TOMORROW.atTime(13, 0),
+                THE_DAY_AFTER_TOMORROW.atTime(14, 0),
+                RESERVATION_PW,
+                USER_NAME,
+                DESCRIPTION,
+                repeatType,
+                repeatEndDate);
+    }
 }
@@ -6,6 +6,9 @@ import com.woowacourse.zzimkkong.exception.authorization.NoAuthorityOnMapExcepti
 import com.woowacourse.zzimkkong.exception.map.NoSuchMapException;
 import com.woowacourse.zzimkkong.exception.reservation.*;
 import com.woowacourse.zzimkkong.exception.space.NoSuchSpaceException;
+import com.woowacourse.zzimkkong.repository.ReservationOccupancy;
+import com.woowacourse.zzimkkong.repository.ReservationRow;
+import com.woowacourse.zzimkkong.repository.SlackNotificationRepository;
 import com.woowacourse.zzimkkong.service.strategy.ManagerReservationStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,18 +17,23 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static com.woowacourse.zzimkkong.Constants.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
@@ -36,6 +44,9 @@ class ManagerReservationServiceTest extends ServiceTest {
 
     @Autowired
     private ReservationService reservationService;
+
+    @Autowired
+    private SlackNotificationRepository slackNotifications;
     private final ManagerReservationStrategy managerReservationStrategy = new ManagerReservationStrategy();
 
     private ReservationCreateUpdateWithPasswordRequest reservationCreateUpdateWithPasswordRequest = new ReservationCreateUpdateWithPasswordRequest(
@@ -66,8 +77,8 @@ class ManagerReservationServiceTest extends ServiceTest {
 
     @BeforeEach
     void setUp() {
-        pobi = new Member(EMAIL, PW, ORGANIZATION);
-        sakjung = new Member(NEW_EMAIL, PW, ORGANIZATION);
+        pobi = new Member(1L, EMAIL, PW, ORGANIZATION);
+        sakjung = new Member(2L, NEW_EMAIL, PW, ORGANIZATION);
         luther = new Map(1L, LUTHER_NAME, MAP_DRAWING_DATA, MAP_IMAGE_URL, pobi);
 
         Setting beSetting = Setting.builder()
@@ -138,14 +149,21 @@ class ManagerReservationServiceTest extends ServiceTest {
         beId = be.getId();
         noneExistingMapId = luther.getId() + 1;
         noneExistingSpaceId = (long) (luther.getSpaces().size() + 1);
+
+        given(spaces.findAllByMapIdOrderByIdAsc(anyLong()))
+                .willReturn(luther.getSpaces());
+        given(spaces.findAllByIdInForUpdate(anyCollection()))
+                .willAnswer(invocation -> luther.getSpaces().stream()
+                        .filter(space -> invocation.<Collection<Long>>getArgument(0).contains(space.getId()))
+                        .collect(Collectors.toList()));
     }
 
     @Test
     @DisplayName("예약 생성 요청 시, mapId와 요청이 들어온다면 예약을 생성한다.")
     void save() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.save(any(Reservation.class)))
                 .willReturn(reservation);
 
@@ -169,7 +187,7 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, mapId에 따른 map이 존재하지 않는다면 예외가 발생한다.")
     void saveNotExistMapException() {
         //given
-        given(maps.findById(anyLong()))
+        given(maps.findSummaryById(anyLong()))
                 .willReturn(Optional.empty());
 
         //when
@@ -190,8 +208,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, map에 대한 권한이 없다면 예외가 발생한다.")
     void saveNoAuthorityOnMapException() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         //when
         ReservationCreateDto reservationCreateDto = ReservationCreateDto.of(
@@ -211,8 +229,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, spaceId에 따른 space가 존재하지 않는다면 예외가 발생한다.")
     void saveNotExistSpaceException() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         //when
         ReservationCreateDto reservationCreateDto = ReservationCreateDto.of(
@@ -232,8 +250,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, 시작 시간이 현재 시간보다 빠르다면 예외가 발생한다.")
     void saveStartTimeBeforeNow() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         reservationCreateUpdateWithPasswordRequest = new ReservationCreateUpdateWithPasswordRequest(
                 LocalDateTime.now().minusHours(3),
@@ -260,8 +278,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, 종료 시간이 현재 시간보다 빠르다면 예외가 발생한다.")
     void saveEndTimeBeforeNow() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         reservationCreateUpdateWithPasswordRequest = new ReservationCreateUpdateWithPasswordRequest(
                 THE_DAY_AFTER_TOMORROW.atTime(14, 0),
@@ -288,8 +306,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, 시작 시간과 종료 시간이 같다면 예외가 발생한다.")
     void saveStartTimeEqualsEndTime() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         reservationCreateUpdateWithPasswordRequest = new ReservationCreateUpdateWithPasswordRequest(
                 THE_DAY_AFTER_TOMORROW.atTime(10, 0),
@@ -316,8 +334,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, 시작 시간과 종료 시간의 날짜가 다르다면 예외가 발생한다.")
     void saveStartTimeDateNotEqualsEndTimeDate() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         reservationCreateUpdateWithPasswordRequest = new ReservationCreateUpdateWithPasswordRequest(
                 THE_DAY_AFTER_TOMORROW.atTime(10, 0),
@@ -345,8 +363,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, 공간의 예약가능 시간이 아니라면 예외가 발생한다.")
     void saveInvalidTimeSetting(int startTime, int endTime) {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         reservationCreateUpdateWithPasswordRequest = new ReservationCreateUpdateWithPasswordRequest(
                 THE_DAY_AFTER_TOMORROW.atTime(startTime, 0),
@@ -374,8 +392,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, 이미 겹치는 시간이 존재하면 예외가 발생한다.")
     void saveAvailabilityException(int startMinute, int endMinute) {
         //given, when
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findAllBySpaceIdInAndDate(
                 anyList(),
                 any(LocalDate.class)))
@@ -422,8 +440,8 @@ class ManagerReservationServiceTest extends ServiceTest {
                 .setting(setting)
                 .build();
 
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         Long closedSpaceId = closedSpace.getId();
 
         //when
@@ -464,8 +482,8 @@ class ManagerReservationServiceTest extends ServiceTest {
                 .setting(setting)
                 .build();
 
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         Long invalidDayOfWeekSpaceId = invalidDayOfWeekSpace.getId();
 
         ReservationCreateDto reservationCreateDto = ReservationCreateDto.of(
@@ -486,8 +504,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성 요청 시, 경계값이 일치한다면 생성된다.")
     void saveSameThresholdTime(int duration) {
         //given, when
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findAllBySpaceIdInAndDate(
                 anyList(),
                 any(LocalDate.class)))
@@ -521,8 +539,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성/수정 요청 시, space setting의 reservationTimeUnit이 일치하지 않으면 예외가 발생한다.")
     void saveReservationTimeUnitException(int additionalStartMinute, int additionalEndMinute) {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
         LocalDateTime theDayAfterTomorrowTen = THE_DAY_AFTER_TOMORROW.atTime(10, 0);
@@ -571,8 +589,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 생성/수정 요청 시, space setting의 minimum, maximum 시간이 옳지 않으면 예외가 발생한다.")
     void saveReservationMinimumMaximumTimeUnitException(int duration) {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
 
@@ -630,8 +648,8 @@ class ManagerReservationServiceTest extends ServiceTest {
                         reservationCreateUpdateWithPasswordRequest.getStartDateTime().plusMinutes(duration),
                         reservationCreateUpdateWithPasswordRequest.getEndDateTime().plusMinutes(duration),
                         be));
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findAllBySpaceIdInAndDate(
                 anyList(),
                 any(LocalDate.class)))
@@ -656,7 +674,7 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("특정 공간 예약 조회 요청 시, 해당하는 맵이 없으면 오류가 발생한다.")
     void findReservationsNotExistMap() {
         //given
-        given(maps.findById(anyLong()))
+        given(maps.findSummaryById(anyLong()))
                 .willReturn(Optional.empty());
 
         //when
@@ -675,8 +693,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("특정 공간 예약 조회 요청 시, 해당하는 공간이 없으면 오류가 발생한다.")
     void findReservationsNotExistSpace() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         //when
         ReservationFindDto reservationFindDto = ReservationFindDto.of(
@@ -696,8 +714,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("특정 공간 예약 조회 요청 시, 해당하는 공간이 없으면 오류가 발생한다.")
     void findReservationsWithInvalidSpace() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(maps.existsById(anyLong()))
                 .willReturn(true);
         Long reservationId = reservation.getId();
@@ -720,8 +738,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("전체 예약이나 특정 공간 예약 조회 요청 시, 해당하는 예약이 없으면 빈 정보가 조회된다.")
     void findEmptyReservations() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(maps.existsById(anyLong()))
                 .willReturn(true);
         given(reservations.findAllBySpaceIdInAndDate(
@@ -750,7 +768,7 @@ class ManagerReservationServiceTest extends ServiceTest {
                 reservationFindAllDto,
                 managerReservationStrategy))
                 .usingRecursiveComparison()
-                .isEqualTo(ReservationFindAllResponse.of(List.of(be, fe), Collections.emptyList()));
+                .isEqualTo(ReservationFindAllResponse.of(List.of(SpaceSnapshot.from(be), SpaceSnapshot.from(fe)), Collections.emptyList()));
     }
 
     @Test
@@ -775,11 +793,11 @@ class ManagerReservationServiceTest extends ServiceTest {
                         reservationCreateUpdateWithPasswordRequest.getStartDateTime().plusMinutes(duration),
                         reservationCreateUpdateWithPasswordRequest.getEndDateTime().plusMinutes(duration),
                         fe));
-        List<Space> findSpaces = List.of(be, fe);
+        List<SpaceSnapshot> findSpaces = List.of(SpaceSnapshot.from(be), SpaceSnapshot.from(fe));
 
         //when
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findAllBySpaceIdInAndDate(
                 anyList(),
                 any(LocalDate.class)))
@@ -799,12 +817,211 @@ class ManagerReservationServiceTest extends ServiceTest {
                 .isEqualTo(reservationFindAllResponse);
     }
 
+    @Test
+    @DisplayName("예약률 조회 요청 시, 공간별 날짜별 예약된 시간을 예약 가능 시간으로 나눈 값이 조회된다.")
+    void findOccupancies() {
+        //given
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
+        given(reservations.sumReservedMinutesBySpaceIdInAndDateBetween(
+                anyList(),
+                any(LocalDate.class),
+                any(LocalDate.class)))
+                .willReturn(List.of(
+                        occupancyOf(beId, THE_DAY_AFTER_TOMORROW, 180L),
+                        occupancyOf(fe.getId(), THE_DAY_AFTER_TOMORROW.plusDays(1), 720L)));
+
+        //when
+        ReservationOccupancyFindDto reservationOccupancyFindDto = ReservationOccupancyFindDto.of(
+                lutherId,
+                THE_DAY_AFTER_TOMORROW,
+                THE_DAY_AFTER_TOMORROW.plusDays(1),
+                pobi);
+        ReservationOccupancyFindResponse reservationOccupancyFindResponse = reservationService.findOccupancies(
+                reservationOccupancyFindDto,
+                managerReservationStrategy);
+
+        //then
+        assertThat(reservationOccupancyFindResponse.getSpaces())
+                .extracting(SpaceOccupancyResponse::getSpaceId, SpaceOccupancyResponse::getOccupancyRates)
+                .containsExactlyInAnyOrder(
+                        tuple(beId, List.of(0.25, 0.0)),
+                        tuple(fe.getId(), List.of(0.0, 1.0)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1L, 93L})
+    @DisplayName("예약률 조회 요청 시, 종료 날짜가 시작 날짜 이전이거나 3개월을 넘으면 예외가 발생한다.")
+    void findOccupanciesInvalidDateRange(long days) {
+        //given
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
+
+        //when
+        ReservationOccupancyFindDto reservationOccupancyFindDto = ReservationOccupancyFindDto.of(
+                lutherId,
+                THE_DAY_AFTER_TOMORROW,
+                THE_DAY_AFTER_TOMORROW.plusDays(days),
+                pobi);
+
+        //then
+        assertThatThrownBy(() -> reservationService.findOccupancies(
+                reservationOccupancyFindDto,
+                managerReservationStrategy))
+                .isInstanceOf(InvalidDateRangeException.class);
+    }
+
+    @Test
+    @DisplayName("날짜 범위 예약 조회 요청 시, 정렬된 예약을 공간별 날짜별 묶음으로 차례로 넘긴다.")
+    void findReservationsInRange() {
+        //given
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
+        given(reservations.findAllBySpaceIdAndDateBetweenAfter(
+                eq(beId),
+                any(LocalDate.class),
+                any(LocalDate.class),
+                any(LocalDate.class),
+                any(LocalDateTime.class),
+                anyLong(),
+                any(Pageable.class)))
+                .willReturn(List.of(
+                        rowOf(1L, beId, THE_DAY_AFTER_TOMORROW.atTime(10, 0)),
+                        rowOf(2L, beId, THE_DAY_AFTER_TOMORROW.atTime(13, 0)),
+                        rowOf(3L, beId, THE_DAY_AFTER_TOMORROW.plusDays(1).atTime(10, 0))));
+        given(reservations.findAllBySpaceIdAndDateBetweenAfter(
+                eq(fe.getId()),
+                any(LocalDate.class),
+                any(LocalDate.class),
+                any(LocalDate.class),
+                any(LocalDateTime.class),
+                anyLong(),
+                any(Pageable.class)))
+                .willReturn(List.of(
+                        rowOf(4L, fe.getId(), THE_DAY_AFTER_TOMORROW.atTime(10, 0))));
+
+        //when
+        ReservationRangeFindDto reservationRangeFindDto = ReservationRangeFindDto.of(
+                lutherId,
+                THE_DAY_AFTER_TOMORROW,
+                THE_DAY_AFTER_TOMORROW.plusDays(6),
+                pobi);
+        List<ReservationSpaceDateResponse> reservationSpaceDateResponses = new ArrayList<>();
+        reservationService.findReservationsInRange(
+                reservationRangeFindDto,
+                managerReservationStrategy,
+                reservationSpaceDateResponses::add);
+
+        //then
+        assertThat(reservationSpaceDateResponses)
+                .extracting(
+                        ReservationSpaceDateResponse::getSpaceId,
+                        ReservationSpaceDateResponse::getDate,
+                        response -> response.getReservations().size())
+                .containsExactly(
+                        tuple(beId, THE_DAY_AFTER_TOMORROW, 2),
+                        tuple(beId, THE_DAY_AFTER_TOMORROW.plusDays(1), 1),
+                        tuple(fe.getId(), THE_DAY_AFTER_TOMORROW, 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1L, 42L})
+    @DisplayName("날짜 범위 예약 조회 요청 시, 종료 날짜가 시작 날짜 이전이거나 6주를 넘으면 예외가 발생한다.")
+    void validateReservationRangeInvalidDateRange(long days) {
+        //given
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
+
+        //when
+        ReservationRangeFindDto reservationRangeFindDto = ReservationRangeFindDto.of(
+                lutherId,
+                THE_DAY_AFTER_TOMORROW,
+                THE_DAY_AFTER_TOMORROW.plusDays(days),
+                pobi);
+
+        //then
+        assertThatThrownBy(() -> reservationService.validateReservationRange(
+                reservationRangeFindDto,
+                managerReservationStrategy))
+                .isInstanceOf(InvalidReservationRangeException.class);
+    }
+
+    @Test
+    @DisplayName("예약 내보내기 요청 시, 공간마다 나눠 읽은 예약을 공간 이름과 함께 한 건씩 넘긴다.")
+    void exportReservations() {
+        //given
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
+        given(reservations.findAllBySpaceIdAndDateBetweenAfter(
+                eq(beId),
+                any(LocalDate.class),
+                any(LocalDate.class),
+                any(LocalDate.class),
+                any(LocalDateTime.class),
+                anyLong(),
+                any(Pageable.class)))
+                .willReturn(List.of(
+                        rowOf(1L, beId, THE_DAY_AFTER_TOMORROW.atTime(10, 0))));
+        given(reservations.findAllBySpaceIdAndDateBetweenAfter(
+                eq(fe.getId()),
+                any(LocalDate.class),
+                any(LocalDate.class),
+                any(LocalDate.class),
+                any(LocalDateTime.class),
+                anyLong(),
+                any(Pageable.class)))
+                .willReturn(List.of(
+                        rowOf(2L, fe.getId(), THE_DAY_AFTER_TOMORROW.atTime(10, 0))));
+
+        //when
+        ReservationRangeFindDto reservationRangeFindDto = ReservationRangeFindDto.of(
+                lutherId,
+                THE_DAY_AFTER_TOMORROW,
+                THE_DAY_AFTER_TOMORROW.plusMonths(4),
+                pobi);
+        List<ReservationExportResponse> reservationExportResponses = new ArrayList<>();
+        reservationService.exportReservations(
+                reservationRangeFindDto,
+                managerReservationStrategy,
+                reservationExportResponses::add);
+
+        //then
+        assertThat(reservationExportResponses)
+                .extracting(ReservationExportResponse::getId, ReservationExportResponse::getSpaceName)
+                .containsExactly(
+                        tuple(1L, BE_NAME),
+                        tuple(2L, FE_NAME));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1L, 365L})
+    @DisplayName("예약 내보내기 요청 시, 종료 날짜가 시작 날짜 이전이거나 1년을 넘으면 예외가 발생한다.")
+    void validateReservationExportInvalidDateRange(long days) {
+        //given
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
+
+        //when
+        LocalDate startDate = LocalDate.of(2021, 1, 1);
+        ReservationRangeFindDto reservationRangeFindDto = ReservationRangeFindDto.of(
+                lutherId,
+                startDate,
+                startDate.plusDays(days),
+                pobi);
+
+        //then
+        assertThatThrownBy(() -> reservationService.validateReservationExport(
+                reservationRangeFindDto,
+                managerReservationStrategy))
+                .isInstanceOf(InvalidExportRangeException.class);
+    }
+
     @Test
     @DisplayName("전체 예약 조회 요청 시, 맵의 소유자가 아니면 오류가 발생한다.")
     void findAllReservationsNotOwner() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findAllBySpaceIdInAndDate(
                 anyList(),
                 any(LocalDate.class)))
@@ -827,8 +1044,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("특정 날짜의 예약 조회 요청 시, 맵의 소유자가 아니면 오류가 발생한다.")
     void findReservationsNotOwner() {
         //given, when
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findAllBySpaceIdInAndDate(
                 anyList(),
                 any(LocalDate.class)))
@@ -851,8 +1068,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 수정을 위한 예약 조회 요청 시, 해당 예약을 반환한다.")
     void findReservation() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
 
@@ -877,8 +1094,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 수정을 위한 예약 조회 요청 시, 해당 맵에 대한 권한이 없으면 조회를 할 수 없다.")
     void findReservation_NoAuthority() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         Long reservationId = reservation.getId();
 
         //when
@@ -899,8 +1116,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 수정 요청 시, 해당 예약이 존재하지 않으면 에러가 발생한다.")
     void findInvalidReservationException() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.empty());
         Long reservationId = reservation.getId();
@@ -923,8 +1140,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 수정 요청 시, 올바른 요청이 들어오면 예약이 수정된다.")
     void update() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
 
@@ -949,14 +1166,20 @@ class ManagerReservationServiceTest extends ServiceTest {
                 managerReservationStrategy));
         assertThat(reservation.getUserName()).isEqualTo(CHANGED_NAME);
         assertThat(reservation.getDescription()).isEqualTo(CHANGED_DESCRIPTION);
+        assertThat(slackNotifications.findAll())
+                .singleElement()
+                .satisfies(notification -> {
+                    assertThat(notification.getReservationId()).isEqualTo(reservationId);
+                    assertThat(notification.getPayload()).contains("예약 수정 알림", "\"title_link\"");
+                });
     }
 
     @Test
     @DisplayName("예약 수정 요청 시, 해당 맵에 대한 권한이 없으면 수정할 수 없다.")
     void updateNoAuthorityException() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         //when
         ReservationCreateUpdateRequest reservationCreateUpdateRequest = new ReservationCreateUpdateRequest(
@@ -985,8 +1208,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 수정 요청 시, 끝 시간 입력이 옳지 않으면 에러가 발생한다.")
     void updateInvalidEndTimeException(int endTime) {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         //when
         ReservationCreateUpdateRequest reservationCreateUpdateRequest = new ReservationCreateUpdateRequest(
@@ -1014,8 +1237,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 수정 요청 시, 시작 시간과 끝 시간이 같은 날짜가 아니면 에러가 발생한다.")
     void updateInvalidDateException() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         //when
         ReservationCreateUpdateRequest reservationCreateUpdateRequest = new ReservationCreateUpdateRequest(
@@ -1044,8 +1267,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 수정 요청 시, 해당 시간에 예약이 존재하면 에러가 발생한다.")
     void updateImpossibleTimeException(int startTime, int endTime) {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
         given(reservations.findAllBySpaceIdInAndDate(anyList(), any()))
@@ -1080,8 +1303,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 수정 요청 시, 공간의 예약가능 시간이 아니라면 에러가 발생한다.")
     void updateInvalidTimeSetting(int startTime, int endTime) {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
 
@@ -1131,8 +1354,8 @@ class ManagerReservationServiceTest extends ServiceTest {
                 .setting(setting)
                 .build();
 
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
         Long closedSpaceId = closedSpace.getId();
@@ -1176,8 +1399,8 @@ class ManagerReservationServiceTest extends ServiceTest {
                 .setting(setting)
                 .build();
 
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
         Long invalidDayOfWeekSpaceId = invalidDayOfWeekSpace.getId();
@@ -1206,8 +1429,8 @@ class ManagerReservationServiceTest extends ServiceTest {
                 THE_DAY_AFTER_TOMORROW.atTime(12, 0),
                 be);
 
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservationToDelete));
 
@@ -1224,14 +1447,19 @@ class ManagerReservationServiceTest extends ServiceTest {
         assertDoesNotThrow(() -> reservationService.deleteReservation(
                 reservationAuthenticationDto,
                 managerReservationStrategy));
+        assertThat(slackNotifications.findAll())
+                .extracting(SlackNotification::getPayload)
+                .singleElement()
+                .asString()
+                .contains("예약 삭제 알림");
     }
 
     @Test
     @DisplayName("예약 삭제 요청 시, 맵의 관리자가 아니라면 오류가 발생한다.")
     void deleteNoAuthorityException() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         Long reservationId = reservation.getId();
 
         //when
@@ -1252,8 +1480,8 @@ class ManagerReservationServiceTest extends ServiceTest {
     @DisplayName("예약 삭제 요청 시, 예약이 존재하지 않는다면 오류가 발생한다.")
     void deleteReservationException() {
         //given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.empty());
         Long reservationId = reservation.getId();
@@ -1283,4 +1511,62 @@ class ManagerReservationServiceTest extends ServiceTest {
                 .space(space)
                 .build();
     }
+
+    private ReservationOccupancy occupancyOf(final Long spaceId, final LocalDate date, final Long reservedMinutes) {
+        return new ReservationOccupancy() {
+            @Override
+            public Long getSpaceId() {
+                return spaceId;
+            }
+
+            @Override
+            public LocalDate getDate() {
+                return date;
+            }
+
+            @Override
+            public Long getReservedMinutes() {
+                return reservedMinutes;
+            }
+        };
+    }
+
+    private ReservationRow rowOf(final Long id, final Long spaceId, final LocalDateTime startTime) {
+        return new ReservationRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getSpaceId() {
+                return spaceId;
+            }
+
+            @Override
+            public LocalDate getDate() {
+                return startTime.toLocalDate();
+            }
+
+            @Override
+            public LocalDateTime getStartTime() {
+                return startTime;
+            }
+
+            @Override
+            public LocalDateTime getEndTime() {
+                return startTime.plusHours(1);
+            }
+
+            @Override
+            public String getUserName() {
+                return SALLY_NAME;
+            }
+
+            @Override
+            public String getDescription() {
+                return SALLY_DESCRIPTION;
+            }
+        };
+    }
 }
@@ -17,7 +17,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.io.File;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -41,7 +40,7 @@ class MapServiceTest extends ServiceTest {
 
     @BeforeEach
     void setUp() {
-        pobi = new Member(EMAIL, PW, ORGANIZATION);
+        pobi = new Member(1L, EMAIL, PW, ORGANIZATION);
         luther = new Map(1L, LUTHER_NAME, MAP_DRAWING_DATA, MAP_IMAGE_URL, pobi);
         smallHouse = new Map(2L, SMALL_HOUSE_NAME, MAP_DRAWING_DATA, MAP_IMAGE_URL, pobi);
         lutherId = luther.getId();
@@ -96,8 +95,6 @@ class MapServiceTest extends ServiceTest {
         MapCreateUpdateRequest mapCreateUpdateRequest = new MapCreateUpdateRequest(luther.getName(), luther.getMapDrawing(), MAP_SVG);
         given(maps.save(any(Map.class)))
                 .willReturn(luther);
-        given(storageUploader.upload(anyString(), any(File.class)))
-                .willReturn(MAP_IMAGE_URL);
 
         //then
         MapCreateResponse mapCreateResponse = mapService.saveMap(mapCreateUpdateRequest, pobi);
@@ -145,8 +142,6 @@ class MapServiceTest extends ServiceTest {
         MapCreateUpdateRequest mapCreateUpdateRequest = new MapCreateUpdateRequest("이름을 바꿔요", luther.getMapDrawing(), MAP_SVG);
         given(maps.findById(anyLong()))
                 .willReturn(Optional.of(luther));
-        given(storageUploader.upload(anyString(), any(File.class)))
-                .willReturn(MAP_IMAGE_URL);
 
         //when, then
         assertDoesNotThrow(() -> mapService.updateMap(luther.getId(), mapCreateUpdateRequest, pobi));
@@ -156,7 +151,7 @@ class MapServiceTest extends ServiceTest {
     @DisplayName("권한이 없는 관리자가 맵을 수정하려고 할 경우 예외가 발생한다.")
     void updateManagerException() {
         //given
-        Member anotherMember = new Member("sally@email.com", "password", "organization");
+        Member anotherMember = new Member(2L, "sally@email.com", "password", "organization");
         MapCreateUpdateRequest mapCreateUpdateRequest = new MapCreateUpdateRequest("이름을 바꿔요", luther.getMapDrawing(), MAP_SVG);
 
         given(maps.findById(anyLong()))
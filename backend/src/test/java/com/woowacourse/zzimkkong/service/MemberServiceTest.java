@@ -18,6 +18,7 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import reactor.core.publisher.Mono;
 
 import java.util.Optional;
 
@@ -84,14 +85,14 @@ class MemberServiceTest extends ServiceTest {
         //given
         OauthUserInfo mockOauthUserInfo = mock(OauthUserInfo.class);
         given(oauthHandler.getUserInfoFromCode(any(OauthProvider.class), anyString()))
-                .willReturn(mockOauthUserInfo);
+                .willReturn(Mono.just(mockOauthUserInfo));
         given(mockOauthUserInfo.getEmail())
                 .willReturn(EMAIL);
         given(members.existsByEmail(EMAIL))
                 .willReturn(false);
 
         //when
-        OauthReadyResponse actual = memberService.getUserInfoFromOauth(oauthProvider, "code-example");
+        OauthReadyResponse actual = memberService.getUserInfoFromOauth(oauthProvider, "code-example").block();
         OauthReadyResponse expected = OauthReadyResponse.of(EMAIL, oauthProvider);
 
         //then
@@ -106,14 +107,14 @@ class MemberServiceTest extends ServiceTest {
         //given
         OauthUserInfo mockOauthUserInfo = mock(OauthUserInfo.class);
         given(oauthHandler.getUserInfoFromCode(any(OauthProvider.class), anyString()))
-                .willReturn(mockOauthUserInfo);
+                .willReturn(Mono.just(mockOauthUserInfo));
         given(mockOauthUserInfo.getEmail())
                 .willReturn(EMAIL);
         given(members.existsByEmail(EMAIL))
                 .willReturn(true);
 
         //when, then
-        assertThatThrownBy(() -> memberService.getUserInfoFromOauth(oauthProvider, "code-example"))
+        assertThatThrownBy(() -> memberService.getUserInfoFromOauth(oauthProvider, "code-example").block())
                 .isInstanceOf(DuplicateEmailException.class);
     }
 
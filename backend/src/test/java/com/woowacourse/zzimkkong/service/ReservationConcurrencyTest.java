@@ -0,0 +1,213 @@
+package com.woowacourse.zzimkkong.service;
+
+import com.woowacourse.zzimkkong.domain.*;
+import com.woowacourse.zzimkkong.dto.reservation.ReservationCreateDto;
+import com.woowacourse.zzimkkong.dto.reservation.ReservationCreateUpdateWithPasswordRequest;
+import com.woowacourse.zzimkkong.exception.reservation.ImpossibleReservationTimeException;
+import com.woowacourse.zzimkkong.infrastructure.MapSnapshotCache;
+import com.woowacourse.zzimkkong.infrastructure.ReservationIntervalIndex;
+import com.woowacourse.zzimkkong.repository.MapRepository;
+import com.woowacourse.zzimkkong.repository.MemberRepository;
+import com.woowacourse.zzimkkong.repository.ReservationChangeRepository;
+import com.woowacourse.zzimkkong.repository.ReservationRepository;
+import com.woowacourse.zzimkkong.repository.SpaceRepository;
+import com.woowacourse.zzimkkong.service.strategy.GuestReservationStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.woowacourse.zzimkkong.Constants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 요청마다 각자 커밋해야 하므로 테스트 트랜잭션으로 감싸지 않고, 끝나면 직접 지웁니다
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationConcurrencyTest {
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private MemberRepository members;
+
+    @Autowired
+    private MapRepository maps;
+
+    @Autowired
+    private SpaceRepository spaces;
+
+    @Autowired
+    private ReservationRepository reservations;
+
+    @Autowired
+    private ReservationChangeRepository reservationChanges;
+
+    @Autowired
+    private MapSnapshotCache mapSnapshotCache;
+
+    @Autowired
+    private ReservationIntervalIndex reservationIntervalIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final GuestReservationStrategy guestReservationStrategy = new GuestReservationStrategy();
+    private Map luther;
+    private Space be;
+    private Space fe;
+
+    @BeforeEach
+    void setUp() {
+        Member pobi = members.save(new Member(EMAIL, PW, ORGANIZATION));
+        luther = maps.save(new Map(LUTHER_NAME, MAP_DRAWING_DATA, MAP_IMAGE_URL, pobi));
+        be = spaces.save(makeSpace(BE_NAME));
+        fe = spaces.save(makeSpace(FE_NAME));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationChanges.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM reservation_change_sequence");
+        reservations.deleteAllInBatch();
+        spaces.deleteAllInBatch();
+        maps.deleteAllInBatch();
+        members.deleteAllInBatch();
+        mapSnapshotCache.clear();
+        reservationIntervalIndex.clear();
+    }
+
+    @Test
+    @DisplayName("같은 시간에 동시에 예약을 요청하면 하나의 예약만 생성된다.")
+    void saveSameTimeConcurrently() throws InterruptedException {
+        // given
+        int requestCount = 100;
+        List<Callable<Void>> requests = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            requests.add(() -> save(be, THE_DAY_AFTER_TOMORROW.atTime(13, 0), THE_DAY_AFTER_TOMORROW.atTime(14, 0)));
+        }
+
+        // when
+        Result result = runConcurrently(requests);
+
+        // then
+        assertThat(result.succeeded.get()).isEqualTo(1);
+        assertThat(result.conflicted.get()).isEqualTo(requestCount - 1);
+        assertThat(result.unexpected).isEmpty();
+        assertThat(reservations.findAllBySpaceIdInAndDate(List.of(be.getId()), THE_DAY_AFTER_TOMORROW)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("여러 공간에 겹치는 시간대의 예약을 동시에 요청해도 중복 예약이 생기지 않는다.")
+    void saveRandomTimesConcurrently() throws InterruptedException {
+        // given
+        Random random = new Random(7L);
+        List<Callable<Void>> requests = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Space space = random.nextBoolean() ? be : fe;
+            LocalDateTime startTime = THE_DAY_AFTER_TOMORROW.atTime(10, 0).plusMinutes(10L * random.nextInt(60));
+            LocalDateTime endTime = startTime.plusMinutes(60L + 10L * random.nextInt(7));
+            requests.add(() -> save(space, startTime, endTime));
+        }
+
+        // when
+        Result result = runConcurrently(requests);
+
+        // then
+        assertThat(result.unexpected).isEmpty();
+        assertThat(result.succeeded.get()).isPositive();
+        assertThat(result.succeeded.get() + result.conflicted.get()).isEqualTo(requests.size());
+        assertNoOverlap(be, THE_DAY_AFTER_TOMORROW);
+        assertNoOverlap(fe, THE_DAY_AFTER_TOMORROW);
+    }
+
+    private Void save(final Space space, final LocalDateTime startTime, final LocalDateTime endTime) {
+        ReservationCreateUpdateWithPasswordRequest request = new ReservationCreateUpdateWithPasswordRequest(
+                startTime,
+                endTime,
+                RESERVATION_PW,
+                USER_NAME,
+                DESCRIPTION);
+        reservationService.saveReservation(
+                ReservationCreateDto.of(luther.getId(), space.getId(), request),
+                guestReservationStrategy);
+        return null;
+    }
+
+    private Result runConcurrently(final List<Callable<Void>> requests) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        Result result = new Result();
+        try {
+            for (Future<Void> future : executorService.invokeAll(requests)) {
+                result.collect(future);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        return result;
+    }
+
+    private void assertNoOverlap(final Space space, final LocalDate date) {
+        List<Reservation> savedReservations = reservations.findAllBySpaceIdInAndDate(List.of(space.getId()), date);
+        for (Reservation reservation : savedReservations) {
+            long conflictCount = savedReservations.stream()
+                    .filter(other -> !other.getId().equals(reservation.getId()))
+                    .filter(other -> other.hasConflictWith(reservation.getStartTime(), reservation.getEndTime()))
+                    .count();
+            assertThat(conflictCount).isZero();
+        }
+    }
+
+    private Space makeSpace(final String name) {
+        Setting setting = Setting.builder()
+                .availableStartTime(BE_AVAILABLE_START_TIME)
+                .availableEndTime(BE_AVAILABLE_END_TIME)
+                .reservationTimeUnit(BE_RESERVATION_TIME_UNIT)
+                .reservationMinimumTimeUnit(BE_RESERVATION_MINIMUM_TIME_UNIT)
+                .reservationMaximumTimeUnit(BE_RESERVATION_MAXIMUM_TIME_UNIT)
+                .reservationEnable(BE_RESERVATION_ENABLE)
+                .enabledDayOfWeek(BE_ENABLED_DAY_OF_WEEK)
+                .build();
+
+        return Space.builder()
+                .name(name)
+                .color(BE_COLOR)
+                .description(BE_DESCRIPTION)
+                .area(SPACE_DRAWING)
+                .setting(setting)
+                .map(luther)
+                .build();
+    }
+
+    private static class Result {
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger conflicted = new AtomicInteger();
+        private final List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+
+        private void collect(final Future<Void> future) throws InterruptedException {
+            try {
+                future.get();
+                succeeded.incrementAndGet();
+            } catch (ExecutionException exception) {
+                if (exception.getCause() instanceof ImpossibleReservationTimeException) {
+                    conflicted.incrementAndGet();
+                    return;
+                }
+                unexpected.add(exception.getCause());
+            }
+        }
+    }
+}
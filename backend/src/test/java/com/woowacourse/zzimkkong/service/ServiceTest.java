@@ -1,10 +1,19 @@
 package com.woowacourse.zzimkkong.service;
 
+import com.woowacourse.zzimkkong.domain.Map;
+import com.woowacourse.zzimkkong.domain.Reservation;
+import com.woowacourse.zzimkkong.infrastructure.MapSnapshotCache;
+import com.woowacourse.zzimkkong.infrastructure.ReservationIntervalIndex;
 import com.woowacourse.zzimkkong.infrastructure.StorageUploader;
 import com.woowacourse.zzimkkong.repository.MapRepository;
+import com.woowacourse.zzimkkong.repository.MapSummary;
 import com.woowacourse.zzimkkong.repository.MemberRepository;
+import com.woowacourse.zzimkkong.repository.ReservationChangeRepository;
+import com.woowacourse.zzimkkong.repository.ReservationInterval;
 import com.woowacourse.zzimkkong.repository.ReservationRepository;
 import com.woowacourse.zzimkkong.repository.SpaceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -12,6 +21,16 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
 @SpringBootTest
 @Transactional
 @ActiveProfiles("test")
@@ -22,6 +41,9 @@ class ServiceTest {
     @MockBean
     protected ReservationRepository reservations;
 
+    @MockBean
+    protected ReservationChangeRepository reservationChanges;
+
     @MockBean
     protected MapRepository maps;
 
@@ -33,4 +55,69 @@ class ServiceTest {
 
     @Autowired
     protected PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ReservationIntervalIndex reservationIntervalIndex;
+
+    @Autowired
+    private MapSnapshotCache mapSnapshotCache;
+
+    // 겹침 검사는 예약 시간만 읽으므로, 각 테스트에서 준비한 공간과 날짜의 예약을 그대로 시간 목록으로 돌려줍니다
+    @BeforeEach
+    void stubReservationIntervals() {
+        given(reservations.findIntervalsBySpaceIdAndDate(anyLong(), any()))
+                .willAnswer(invocation -> intervalsOf(reservations.findAllBySpaceIdInAndDate(
+                        Collections.singletonList(invocation.<Long>getArgument(0)),
+                        invocation.<LocalDate>getArgument(1))));
+    }
+
+    @AfterEach
+    void clearReservationIntervalIndex() {
+        reservationIntervalIndex.clear();
+    }
+
+    @AfterEach
+    void clearMapSnapshotCache() {
+        mapSnapshotCache.clear();
+    }
+
+    protected MapSummary summaryOf(final Map map) {
+        return new MapSummary() {
+            @Override
+            public Long getId() {
+                return map.getId();
+            }
+
+            @Override
+            public String getName() {
+                return map.getName();
+            }
+
+            @Override
+            public Long getMemberId() {
+                return map.getMember().getId();
+            }
+        };
+    }
+
+    private List<ReservationInterval> intervalsOf(final List<Reservation> reservations) {
+        return reservations.stream()
+                .<ReservationInterval>map(reservation -> new ReservationInterval() {
+                    @Override
+                    public Long getId() {
+                        return reservation.getId();
+                    }
+
+                    @Override
+                    public LocalDateTime getStartTime() {
+                        return reservation.getStartTime();
+                    }
+
+                    @Override
+                    public LocalDateTime getEndTime() {
+                        return reservation.getEndTime();
+                    }
+                })
+                .collect(Collectors.toList());
+    }
 }
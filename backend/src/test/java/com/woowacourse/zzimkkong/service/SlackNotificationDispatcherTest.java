@@ -0,0 +1,176 @@
+package com.woowacourse.zzimkkong.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.woowacourse.zzimkkong.domain.SlackNotification;
+import com.woowacourse.zzimkkong.repository.SlackNotificationRepository;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SlackNotificationDispatcherTest {
+    private static final String UPDATE_PAYLOAD = "{\"attachments\":[{\"fallback\":\"update\",\"text\":\"회의실명 : 백엔드\\n예약자명 : 찜꽁\"}]}";
+    private static final String DELETE_PAYLOAD = "{\"attachments\":[{\"fallback\":\"delete\"}]}";
+
+    @Autowired
+    private SlackNotificationDispatcher slackNotificationDispatcher;
+
+    @Autowired
+    private SlackNotificationRepository slackNotifications;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockWebServer mockSlackServer;
+    private String webhookUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockSlackServer = new MockWebServer();
+        mockSlackServer.start();
+        webhookUrl = mockSlackServer.url("/webhook").toString();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockSlackServer.shutdown();
+        slackNotifications.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 웹훅으로 쌓인 슬랙 알림은 한 메시지로 묶어 보내고 보낸 알림은 지운다.")
+    void dispatch() throws InterruptedException, JsonProcessingException {
+        //given
+        mockSlackServer.enqueue(new MockResponse().setResponseCode(200));
+        slackNotifications.save(new SlackNotification(webhookUrl, 1L, UPDATE_PAYLOAD, LocalDateTime.now()));
+        slackNotifications.save(new SlackNotification(webhookUrl, 2L, DELETE_PAYLOAD, LocalDateTime.now()));
+
+        //when
+        slackNotificationDispatcher.dispatch();
+
+        //then
+        RecordedRequest request = mockSlackServer.takeRequest(1, TimeUnit.SECONDS);
+        JsonNode attachments = objectMapper.readTree(request.getBody().readUtf8()).get("attachments");
+        assertThat(request.getPath()).isEqualTo("/webhook");
+        assertThat(attachments).hasSize(2);
+        assertThat(attachments.get(0).get("fallback").asText()).isEqualTo("update");
+        assertThat(attachments.get(0).get("text").asText()).isEqualTo("회의실명 : 백엔드\n예약자명 : 찜꽁");
+        assertThat(attachments.get(1).get("fallback").asText()).isEqualTo("delete");
+        assertThat(mockSlackServer.getRequestCount()).isEqualTo(1);
+        assertThat(slackNotifications.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 예약에 대한 알림이 여러 번 쌓이면 마지막 알림만 보낸다.")
+    void dispatchCollapseSameReservation() throws InterruptedException, JsonProcessingException {
+        //given
+        mockSlackServer.enqueue(new MockResponse().setResponseCode(200));
+        slackNotifications.save(new SlackNotification(webhookUrl, 1L, UPDATE_PAYLOAD, LocalDateTime.now()));
+        slackNotifications.save(new SlackNotification(webhookUrl, 1L, UPDATE_PAYLOAD, LocalDateTime.now()));
+        slackNotifications.save(new SlackNotification(webhookUrl, 1L, DELETE_PAYLOAD, LocalDateTime.now()));
+
+        //when
+        slackNotificationDispatcher.dispatch();
+
+        //then
+        RecordedRequest request = mockSlackServer.takeRequest(1, TimeUnit.SECONDS);
+        JsonNode attachments = objectMapper.readTree(request.getBody().readUtf8()).get("attachments");
+        assertThat(attachments).hasSize(1);
+        assertThat(attachments.get(0).get("fallback").asText()).isEqualTo("delete");
+        assertThat(slackNotifications.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모으는 시간이 지나지 않은 알림만 있으면 보내지 않고, 먼저 쌓인 알림이 나갈 때 함께 보낸다.")
+    void dispatchAfterDigestWindow() throws InterruptedException, JsonProcessingException {
+        //given
+        mockSlackServer.enqueue(new MockResponse().setResponseCode(200));
+        slackNotifications.save(new SlackNotification(webhookUrl, 2L, DELETE_PAYLOAD, LocalDateTime.now().plusMinutes(1)));
+
+        //when
+        slackNotificationDispatcher.dispatch();
+        assertThat(mockSlackServer.getRequestCount()).isZero();
+
+        slackNotifications.save(new SlackNotification(webhookUrl, 1L, UPDATE_PAYLOAD, LocalDateTime.now()));
+        slackNotificationDispatcher.dispatch();
+
+        //then
+        RecordedRequest request = mockSlackServer.takeRequest(1, TimeUnit.SECONDS);
+        JsonNode attachments = objectMapper.readTree(request.getBody().readUtf8()).get("attachments");
+        assertThat(attachments).hasSize(2);
+        assertThat(mockSlackServer.getRequestCount()).isEqualTo(1);
+        assertThat(slackNotifications.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 알림은 남겨 두고, 대기 시간이 지나기 전에는 다시 보내지 않는다.")
+    void dispatchFail() {
+        //given
+        mockSlackServer.enqueue(new MockResponse().setResponseCode(500));
+        slackNotifications.save(new SlackNotification(webhookUrl, 1L, UPDATE_PAYLOAD, LocalDateTime.now()));
+
+        //when
+        slackNotificationDispatcher.dispatch();
+        slackNotificationDispatcher.dispatch();
+
+        //then
+        List<SlackNotification> remaining = slackNotifications.findAll();
+        assertThat(mockSlackServer.getRequestCount()).isEqualTo(1);
+        assertThat(remaining).hasSize(1);
+        assertThat(remaining.get(0).getAttemptCount()).isEqualTo(1);
+        assertThat(remaining.get(0).getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 가져간 알림은 가져간 시간이 지나기 전에는 보내지 않는다.")
+    void dispatchSkipClaimedByOtherServer() {
+        //given
+        mockSlackServer.enqueue(new MockResponse().setResponseCode(200));
+        SlackNotification notification = slackNotifications.save(new SlackNotification(webhookUrl, 1L, UPDATE_PAYLOAD, LocalDateTime.now()));
+        LocalDateTime now = LocalDateTime.now();
+        slackNotifications.claim(List.of(notification.getId()), "other-server", now.plusMinutes(1), now);
+
+        //when
+        slackNotificationDispatcher.dispatch();
+
+        //then
+        assertThat(mockSlackServer.getRequestCount()).isZero();
+        assertThat(slackNotifications.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("마지막 재시도까지 실패한 알림은 지운다.")
+    void dispatchDeleteExhausted() {
+        //given
+        mockSlackServer.enqueue(new MockResponse().setResponseCode(500));
+        SlackNotification notification = new SlackNotification(webhookUrl, 1L, UPDATE_PAYLOAD, LocalDateTime.now());
+        for (int i = 1; i < SlackNotification.MAXIMUM_ATTEMPT_COUNT; i++) {
+            notification.fail(LocalDateTime.now().minusHours(1));
+        }
+        slackNotifications.save(notification);
+
+        //when
+        slackNotificationDispatcher.dispatch();
+
+        //then
+        assertThat(mockSlackServer.getRequestCount()).isEqualTo(1);
+        assertThat(slackNotifications.findAll()).isEmpty();
+    }
+}
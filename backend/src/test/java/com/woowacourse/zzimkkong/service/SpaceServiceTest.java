@@ -4,6 +4,7 @@ import com.woowacourse.zzimkkong.domain.Map;
 import com.woowacourse.zzimkkong.domain.Member;
 import com.woowacourse.zzimkkong.domain.Setting;
 import com.woowacourse.zzimkkong.domain.Space;
+import com.woowacourse.zzimkkong.domain.SpaceSnapshot;
 import com.woowacourse.zzimkkong.dto.space.*;
 import com.woowacourse.zzimkkong.exception.authorization.NoAuthorityOnMapException;
 import com.woowacourse.zzimkkong.exception.map.NoSuchMapException;
@@ -14,7 +15,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.io.File;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -72,8 +72,8 @@ class SpaceServiceTest extends ServiceTest {
 
     @BeforeEach
     void setUp() {
-        pobi = new Member(EMAIL, PW, ORGANIZATION);
-        sakjung = new Member(NEW_EMAIL, PW, ORGANIZATION);
+        pobi = new Member(1L, EMAIL, PW, ORGANIZATION);
+        sakjung = new Member(2L, NEW_EMAIL, PW, ORGANIZATION);
         luther = new Map(1L, LUTHER_NAME, MAP_DRAWING_DATA, MAP_IMAGE_URL, pobi);
 
         Setting beSetting = Setting.builder()
@@ -119,6 +119,9 @@ class SpaceServiceTest extends ServiceTest {
         beId = be.getId();
         noneExistingMapId = luther.getId() + 1;
         noneExistingSpaceId = (long) (luther.getSpaces().size() + 1);
+
+        given(spaces.findAllByMapIdOrderByIdAsc(anyLong()))
+                .willReturn(luther.getSpaces());
     }
 
     @Test
@@ -148,8 +151,6 @@ class SpaceServiceTest extends ServiceTest {
                 .willReturn(Optional.of(luther));
         given(spaces.save(any(Space.class)))
                 .willReturn(newSpace);
-        given(storageUploader.upload(anyString(), any(File.class)))
-                .willReturn(MAP_IMAGE_URL);
 
         // when
         SpaceCreateResponse spaceCreateResponse = spaceService.saveSpace(luther.getId(), spaceCreateUpdateRequest, pobi);
@@ -188,8 +189,8 @@ class SpaceServiceTest extends ServiceTest {
     @DisplayName("공간 조회 시, spaceId를 가진 공간이 있다면 조회한다.")
     void find() {
         // given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(spaces.findById(anyLong()))
                 .willReturn(Optional.of(be));
 
@@ -198,15 +199,15 @@ class SpaceServiceTest extends ServiceTest {
 
         // then
         assertThat(actual).usingRecursiveComparison()
-                .isEqualTo(SpaceFindDetailResponse.from(be));
+                .isEqualTo(SpaceFindDetailResponse.from(SpaceSnapshot.from(be)));
     }
 
     @Test
     @DisplayName("공간 조회 시, spaceId에 맞는 공간이 없다면 예외를 발생시킨다.")
     void findFail() {
         // given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         // when, then
         assertThatThrownBy(() -> spaceService.findSpace(lutherId, noneExistingSpaceId, pobi))
@@ -217,8 +218,8 @@ class SpaceServiceTest extends ServiceTest {
     @DisplayName("공간 조회 시, 공간 관리자가 아니라면 예외를 발생시킨다.")
     void findNoAuthorityOnMap() {
         // given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
         given(spaces.findById(anyLong()))
                 .willReturn(Optional.of(be));
 
@@ -231,23 +232,23 @@ class SpaceServiceTest extends ServiceTest {
     @DisplayName("전체 공간을 조회한다.")
     void findAll() {
         // given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         // when
         SpaceFindAllResponse actual = spaceService.findAllSpace(luther.getId(), pobi);
 
         // then
         assertThat(actual).usingRecursiveComparison()
-                .isEqualTo(SpaceFindAllResponse.from(List.of(be, fe)));
+                .isEqualTo(SpaceFindAllResponse.from(List.of(SpaceSnapshot.from(be), SpaceSnapshot.from(fe))));
     }
 
     @Test
     @DisplayName("공간 전체 조회시, 공간 관리자가 아니라면 예외를 발생시킨다.")
     void findAllNoAuthorityOnMap() {
         // given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         // when, then
         assertThatThrownBy(() -> spaceService.findAllSpace(lutherId, sakjung))
@@ -258,15 +259,15 @@ class SpaceServiceTest extends ServiceTest {
     @DisplayName("예약자 전체 공간을 조회한다.")
     void findAllGuest() {
         // given
-        given(maps.findById(anyLong()))
-                .willReturn(Optional.of(luther));
+        given(maps.findSummaryById(anyLong()))
+                .willReturn(Optional.of(summaryOf(luther)));
 
         // when
         SpaceFindAllResponse actual = spaceService.findAllSpace(luther.getId());
 
         // then
         assertThat(actual).usingRecursiveComparison()
-                .isEqualTo(SpaceFindAllResponse.from(List.of(be, fe)));
+                .isEqualTo(SpaceFindAllResponse.from(List.of(SpaceSnapshot.from(be), SpaceSnapshot.from(fe))));
     }
 
     @Test
@@ -277,8 +278,6 @@ class SpaceServiceTest extends ServiceTest {
                 .willReturn(Optional.of(luther));
         given(spaces.findById(anyLong()))
                 .willReturn(Optional.of(fe));
-        given(storageUploader.upload(anyString(), any(File.class)))
-                .willReturn(MAP_IMAGE_URL);
 
         // then
         assertDoesNotThrow(() -> spaceService.updateSpace(